@@ -131,7 +131,49 @@ class ArithmeticOperationsTest {
         }
 
         @Test
-        void shouldThrowExceptionWhenAddingDifferentTypes() {
+        void shouldBuildLongStringInLoop() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   s = \"\";" +
+                    "   i = 0;" +
+                    "   while (i < 10000) {" +
+                    "       s = s + (i % 10) + \",\";" +
+                    "       i = i + 1;" +
+                    "   }" +
+                    "   println(s == s + \"\");" +
+                    "   println(s);" +
+                    "}";
+            StringBuilder expected = new StringBuilder("true");
+            for (int i = 0; i < 10000; i++) {
+                expected.append(i % 10).append(",");
+            }
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace(expected.toString());
+        }
+
+        @Test
+        void shouldAddDoubleAndString() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = 1.5 + \"test\" + 2;" +
+                    "   println(a);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("1.5test2");
+        }
+
+        @Test
+        void shouldAddLongAndDouble() {
             // given
             String source = "" +
                     "def main() {" +
@@ -139,6 +181,23 @@ class ArithmeticOperationsTest {
                     "   println(a);" +
                     "}";
 
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            double result = Double.valueOf(out.toString().trim());
+            assertThat(result).isEqualTo(2.0);
+        }
+
+        @Test
+        void shouldThrowExceptionWhenAddingDifferentTypes() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = 1.0 + true;" +
+                    "   println(a);" +
+                    "}";
+
             // when / then
             assertThatThrownBy(() -> launcher.launchFromString(source))
                     .isExactlyInstanceOf(PolyglotException.class);
@@ -183,7 +242,7 @@ class ArithmeticOperationsTest {
         }
 
         @Test
-        void shouldThrowExceptionWhenDividingDifferentTypes() {
+        void shouldDivLongAndDouble() {
             // given
             String source = "" +
                     "def main() {" +
@@ -191,6 +250,23 @@ class ArithmeticOperationsTest {
                     "   println(a);" +
                     "}";
 
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            double result = Double.valueOf(out.toString().trim());
+            assertThat(result).isEqualTo(1.0);
+        }
+
+        @Test
+        void shouldThrowExceptionWhenDividingDifferentTypes() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = 1 / true;" +
+                    "   println(a);" +
+                    "}";
+
             // when / then
             assertThatThrownBy(() -> launcher.launchFromString(source))
                     .isExactlyInstanceOf(PolyglotException.class);
@@ -237,7 +313,62 @@ class ArithmeticOperationsTest {
         }
 
         @Test
-        void shouldThrowExceptionWhenExpDifferentTypes() {
+        void shouldExpLongsExactly() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = 3^39;" +
+                    "   println(a);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString().trim()).isEqualTo("4052555153018976267");
+        }
+
+        @Test
+        void shouldExpNegativeExponent() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = 2^(0 - 2);" +
+                    "   println(a);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            double result = Double.valueOf(out.toString().trim());
+            assertThat(result).isEqualTo(0.25);
+        }
+
+        @Test
+        void shouldExpConstantExponentInLoop() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   i = 0;" +
+                    "   sum = 0;" +
+                    "   while (i < 1000) {" +
+                    "       sum = sum + (i^2);" +
+                    "       i = i + 1;" +
+                    "   }" +
+                    "   println(sum);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            long result = Long.valueOf(out.toString().trim());
+            assertThat(result).isEqualTo(332833500L);
+        }
+
+        @Test
+        void shouldExpLongAndDouble() {
             // given
             String source = "" +
                     "def main() {" +
@@ -245,6 +376,23 @@ class ArithmeticOperationsTest {
                     "   println(a);" +
                     "}";
 
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            double result = Double.valueOf(out.toString().trim());
+            assertThat(result).isEqualTo(1.0);
+        }
+
+        @Test
+        void shouldThrowExceptionWhenExpDifferentTypes() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = 1^true;" +
+                    "   println(a);" +
+                    "}";
+
             // when / then
             assertThatThrownBy(() -> launcher.launchFromString(source))
                     .isExactlyInstanceOf(PolyglotException.class);
@@ -289,7 +437,7 @@ class ArithmeticOperationsTest {
         }
 
         @Test
-        void shouldThrowExceptionWhenModDifferentTypes() {
+        void shouldModLongAndDouble() {
             // given
             String source = "" +
                     "def main() {" +
@@ -297,6 +445,23 @@ class ArithmeticOperationsTest {
                     "   println(a);" +
                     "}";
 
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            double result = Double.valueOf(out.toString().trim());
+            assertThat(result).isEqualTo(1.0);
+        }
+
+        @Test
+        void shouldThrowExceptionWhenModDifferentTypes() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = 1%true;" +
+                    "   println(a);" +
+                    "}";
+
             // when / then
             assertThatThrownBy(() -> launcher.launchFromString(source))
                     .isExactlyInstanceOf(PolyglotException.class);
@@ -341,7 +506,7 @@ class ArithmeticOperationsTest {
         }
 
         @Test
-        void shouldThrowExceptionWhenMulDifferentTypes() {
+        void shouldMulLongAndDouble() {
             // given
             String source = "" +
                     "def main() {" +
@@ -349,6 +514,23 @@ class ArithmeticOperationsTest {
                     "   println(a);" +
                     "}";
 
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            double result = Double.valueOf(out.toString().trim());
+            assertThat(result).isEqualTo(2.0);
+        }
+
+        @Test
+        void shouldThrowExceptionWhenMulDifferentTypes() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = 1*true;" +
+                    "   println(a);" +
+                    "}";
+
             // when / then
             assertThatThrownBy(() -> launcher.launchFromString(source))
                     .isExactlyInstanceOf(PolyglotException.class);
@@ -393,7 +575,7 @@ class ArithmeticOperationsTest {
         }
 
         @Test
-        void shouldThrowExceptionWhenSubDifferentTypes() {
+        void shouldSubLongAndDouble() {
             // given
             String source = "" +
                     "def main() {" +
@@ -401,6 +583,933 @@ class ArithmeticOperationsTest {
                     "   println(a);" +
                     "}";
 
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            double result = Double.valueOf(out.toString().trim());
+            assertThat(result).isEqualTo(-1.0);
+        }
+
+        @Test
+        void shouldThrowExceptionWhenSubDifferentTypes() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = 1 - true;" +
+                    "   println(a);" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Overflow")
+    class Overflow {
+        @Test
+        void shouldPromoteAddToBigInteger() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = 9223372036854775807 + 1;" +
+                    "   println(a);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString().trim()).isEqualTo("9223372036854775808");
+        }
+
+        @Test
+        void shouldComputeLargeFactorial() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   println(factorial(25));" +
+                    "}" +
+                    "" +
+                    "def factorial(n) {" +
+                    "   if (n < 1) {" +
+                    "       return 1;" +
+                    "   }" +
+                    "   return n * factorial(n - 1);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString().trim()).isEqualTo("15511210043330985984000000");
+        }
+
+        @Test
+        void shouldPromoteExpToBigInteger() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = 2 ^ 64;" +
+                    "   println(a);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString().trim()).isEqualTo("18446744073709551616");
+        }
+
+        @Test
+        void shouldNormalizeBackToLong() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = 9223372036854775807 + 10;" +
+                    "   b = (a - 20) + 1;" +
+                    "   println(b < 9223372036854775807);" +
+                    "   println(b == 9223372036854775798);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString().split("\\s+")).containsExactly("true", "true");
+        }
+
+        @Test
+        void shouldCompareBigIntegerWithLong() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = 9223372036854775807 * 4;" +
+                    "   println(a > 1);" +
+                    "   println(a % 10);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString().split("\\s+")).containsExactly("true", "8");
+        }
+
+        @Test
+        void shouldThrowExceptionWhenModByZero() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = 1 % 0;" +
+                    "   println(a);" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Mixed")
+    class Mixed {
+        @Test
+        void shouldWidenLongInIndexMath() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   i = 0;" +
+                    "   sum = 0.0;" +
+                    "   while (i < 10.0) {" +
+                    "       sum = sum + (i * 0.5);" +
+                    "       i = i + 1;" +
+                    "   }" +
+                    "   println(sum);" +
+                    "   println(i);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString().split("\\s+")).containsExactly("22.5", "10");
+        }
+
+        @Test
+        void shouldKeepLongWhenAssignedToDoubleVariable() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = 0.5;" +
+                    "   a = 1;" +
+                    "   println(a);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString().trim()).isEqualTo("1");
+        }
+
+        @Test
+        void shouldAddBigIntegerBeforeWidening() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = add(2.5, 1);" +
+                    "   b = add(9223372036854775807, 1);" +
+                    "   println(b);" +
+                    "}" +
+                    "" +
+                    "def add(x, y) {" +
+                    "   return x + y;" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString().trim()).isEqualTo("9223372036854775808");
+        }
+    }
+
+    @Nested
+    @DisplayName("Integer division")
+    class IntDiv {
+        @Test
+        void shouldIntDivLongs() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = 7 ~/ 2;" +
+                    "   println(a);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString().trim()).isEqualTo("3");
+        }
+
+        @Test
+        void shouldIndexArrayWithMidpoint() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = {1, 3, 5, 7, 9, 11, 13};" +
+                    "   lo = 0;" +
+                    "   hi = length(a) - 1;" +
+                    "   found = 0 - 1;" +
+                    "   while (lo <= hi) {" +
+                    "       mid = (lo + hi) ~/ 2;" +
+                    "       if (a[mid] == 11) {" +
+                    "           found = mid;" +
+                    "           break;" +
+                    "       }" +
+                    "       if (a[mid] < 11) {" +
+                    "           lo = mid + 1;" +
+                    "       } else {" +
+                    "           hi = mid - 1;" +
+                    "       }" +
+                    "   }" +
+                    "   println(found);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString().trim()).isEqualTo("5");
+        }
+
+        @Test
+        void shouldPromoteOverflowToBigInteger() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   min = (0 - 9223372036854775807) - 1;" +
+                    "   a = min ~/ (0 - 1);" +
+                    "   println(a);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString().trim()).isEqualTo("9223372036854775808");
+        }
+
+        @Test
+        void shouldThrowExceptionWhenIntDivByZero() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = 1 ~/ 0;" +
+                    "   println(a);" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class);
+        }
+
+        @Test
+        void shouldThrowExceptionWhenIntDivDoubles() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = 7.0 ~/ 2;" +
+                    "   println(a);" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Precedence")
+    class Precedence {
+        @Test
+        void shouldEvaluateOperatorsByPrecedence() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   println(1 + 2 * 3);" +
+                    "   println(2 * 3 ^ 2);" +
+                    "   println(2 ^ 3 ^ 2);" +
+                    "   println(10 - 4 - 3);" +
+                    "   println(1 + 1 == 2);" +
+                    "   println(false && false || true);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString().split("\\s+")).containsExactly("7", "18", "512", "3", "true", "true");
+        }
+    }
+
+    @Nested
+    @DisplayName("Math builtins")
+    class MathBuiltins {
+        @Test
+        void shouldKeepIntegerResultsForLongs() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   println(abs(3 - 8));" +
+                    "   println(min(3, 2));" +
+                    "   println(max(3, 2));" +
+                    "   println(floor(7));" +
+                    "   println(round(2.5));" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString().split("\\s+")).containsExactly("5", "2", "3", "7", "3");
+        }
+
+        @Test
+        void shouldComputeDistanceBetweenPoints() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   dx = 4 - 1;" +
+                    "   dy = 5.0 - 1;" +
+                    "   println(sqrt(dx * dx + dy * dy));" +
+                    "   println(floor(2.7));" +
+                    "   println(max(1, 2.5));" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString().split("\\s+")).containsExactly("5.0", "2.0", "2.5");
+        }
+
+        @Test
+        void shouldComputeTrigonometricFunctions() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   println(atan2(1, 1) * 4);" +
+                    "   println(sin(0) + cos(0) + tan(0));" +
+                    "   println(log(exp(2)));" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            String[] lines = out.toString().split("\\s+");
+            assertThat(Double.valueOf(lines[0])).isCloseTo(Math.PI, Offset.offset(0.00000001));
+            assertThat(Double.valueOf(lines[1])).isCloseTo(1.0, Offset.offset(0.00000001));
+            assertThat(Double.valueOf(lines[2])).isCloseTo(2.0, Offset.offset(0.00000001));
+        }
+
+        @Test
+        void shouldPromoteAbsoluteValueOfMinimalLong() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   min = (0 - 9223372036854775807) - 1;" +
+                    "   println(abs(min));" +
+                    "   println(abs(0 - 2));" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString().split("\\s+")).containsExactly("9223372036854775808", "2");
+        }
+
+        @Test
+        void shouldPreferUserFunctionOverBuiltin() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   println(max(1, 2));" +
+                    "}" +
+                    "" +
+                    "def max(a, b) {" +
+                    "   return 42;" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString().trim()).isEqualTo("42");
+        }
+
+        @Test
+        void shouldThrowExceptionWhenArgumentIsNotNumber() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   println(sqrt(\"4\"));" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation \"sqrt\" not defined for String \"4\".");
+        }
+
+        @Test
+        void shouldThrowExceptionWhenArgumentIsBoolean() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   println(abs(true));" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation \"abs\" not defined for Boolean true.");
+        }
+    }
+
+    @Nested
+    @DisplayName("Random")
+    class Random {
+        @Test
+        void shouldRepeatSequenceAfterSeeding() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   seed(42);" +
+                    "   a = random();" +
+                    "   b = randomLong(1000);" +
+                    "   seed(42);" +
+                    "   println(a == random());" +
+                    "   println(b == randomLong(1000));" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString().split("\\s+")).containsExactly("true", "true");
+        }
+
+        @Test
+        void shouldEstimatePi() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   seed(1);" +
+                    "   i = 0;" +
+                    "   inside = 0;" +
+                    "   while (i < 100000) {" +
+                    "       x = random();" +
+                    "       y = random();" +
+                    "       if (x * x + y * y < 1) {" +
+                    "           inside = inside + 1;" +
+                    "       }" +
+                    "       i = i + 1;" +
+                    "   }" +
+                    "   println(4 * inside / i);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            double result = Double.valueOf(out.toString().trim());
+            assertThat(result).isCloseTo(Math.PI, Offset.offset(0.05));
+        }
+
+        @Test
+        void shouldThrowExceptionWhenBoundIsNotPositive() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   println(randomLong(0));" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation \"randomLong\" not defined for Number 0.");
+        }
+
+        @Test
+        void shouldThrowExceptionWhenBoundIsNegative() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   println(randomLong(0 - 5));" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation \"randomLong\" not defined for Number -5.");
+        }
+    }
+
+    @Nested
+    class Folding {
+        @Test
+        void shouldFoldConstantExpression() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   println(60 * 60 * 24 + 2 ^ 10 - 7 ~/ 2);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString().trim()).isEqualTo("87421");
+        }
+
+        @Test
+        void shouldPropagateConstantLocal() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   n = 10;" +
+                    "   limit = n * n - 1;" +
+                    "   i = 0;" +
+                    "   sum = 0;" +
+                    "   while (i < limit) {" +
+                    "       sum = sum + i % n;" +
+                    "       i = i + 1;" +
+                    "   }" +
+                    "   println(sum);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString().trim()).isEqualTo("441");
+        }
+
+        @Test
+        void shouldNotPropagateReassignedLocal() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   n = 1;" +
+                    "   i = 0;" +
+                    "   while (i < 3) {" +
+                    "       n = n * 2;" +
+                    "       i = i + 1;" +
+                    "   }" +
+                    "   println(n + 1);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString().trim()).isEqualTo("9");
+        }
+
+        @Test
+        void shouldThrowExceptionOnlyWhenFailingConstantExpressionIsExecuted() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   println(1);" +
+                    "   println(1 % 0);" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class);
+            assertThat(out.toString().trim()).isEqualTo("1");
+        }
+    }
+
+    @Nested
+    class CompoundAssignment {
+        @Test
+        void shouldUpdateLocalInPlace() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = 10;" +
+                    "   a += 5;" +
+                    "   println(a);" +
+                    "   a -= 3;" +
+                    "   println(a);" +
+                    "   a *= 2;" +
+                    "   println(a);" +
+                    "   a++;" +
+                    "   println(a);" +
+                    "   a--;" +
+                    "   a--;" +
+                    "   println(a);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString().split("\\s+")).containsExactly("15", "12", "24", "25", "23");
+        }
+
+        @Test
+        void shouldSumWithCompoundAssignmentsInLoop() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   i = 0;" +
+                    "   sum = 0;" +
+                    "   while (i < 1000) {" +
+                    "       sum += i;" +
+                    "       i++;" +
+                    "   }" +
+                    "   println(sum);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString().trim()).isEqualTo("499500");
+        }
+
+        @Test
+        void shouldWidenLocalWhenUpdatedWithDouble() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = 1;" +
+                    "   a += 0.5;" +
+                    "   a *= 2;" +
+                    "   println(a);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString().trim()).isEqualTo("3.0");
+        }
+
+        @Test
+        void shouldPromoteLocalToBigIntegerOnOverflow() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = 9223372036854775807;" +
+                    "   a++;" +
+                    "   println(a);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString().trim()).isEqualTo("9223372036854775808");
+        }
+
+        @Test
+        void shouldConcatenateStringWithAddAssignment() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   s = \"ab\";" +
+                    "   s += \"cd\";" +
+                    "   println(s);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString().trim()).isEqualTo("abcd");
+        }
+
+        @Test
+        void shouldUpdateArrayElements() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = {1, 2, 3};" +
+                    "   i = 0;" +
+                    "   while (i < 3) {" +
+                    "       a[i] *= 10;" +
+                    "       a[i]++;" +
+                    "       i++;" +
+                    "   }" +
+                    "   m = {{1, 2}, {3, 4}};" +
+                    "   m[1][0] -= 5;" +
+                    "   println(a);" +
+                    "   println(m[1][0]);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString().split("\\R")).containsExactly("[11, 21, 31]", "-2");
+        }
+
+        @Test
+        void shouldThrowExceptionWhenCompoundAssignmentTypesDoNotMatch() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = true;" +
+                    "   a += 1;" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class);
+        }
+
+        @Test
+        void shouldThrowExceptionWhenCompoundAssignmentIndexIsOutOfBounds() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = {1, 2};" +
+                    "   a[5] += 1;" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation not defined for Array [1, 2], Number 5.");
+        }
+
+        @Test
+        void shouldThrowExceptionWhenCompoundAssignmentElementIsNotInitialized() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = array(3);" +
+                    "   a[0] += 1;" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation not defined for Array [null, null, null], Number 0.");
+        }
+    }
+
+    @Nested
+    class For {
+        @Test
+        void shouldRunForLoop() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   sum = 0;" +
+                    "   for (i = 0; i < 10; i++) {" +
+                    "       sum += i;" +
+                    "   }" +
+                    "   println(sum);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString().trim()).isEqualTo("45");
+        }
+
+        @Test
+        void shouldRunUpdateAfterContinue() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   sum = 0;" +
+                    "   for (i = 0; i < 10; i += 1) {" +
+                    "       if (i % 2 == 0) {" +
+                    "           continue;" +
+                    "       }" +
+                    "       sum += i;" +
+                    "   }" +
+                    "   println(sum);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString().trim()).isEqualTo("25");
+        }
+
+        @Test
+        void shouldBreakForLoop() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   for (i = 0; i < 10; i = i + 1) {" +
+                    "       if (i == 4) {" +
+                    "           break;" +
+                    "       }" +
+                    "   }" +
+                    "   println(i);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString().trim()).isEqualTo("4");
+        }
+
+        @Test
+        void shouldRunRangeLoop() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   sum = 0;" +
+                    "   for i in 0..1000 {" +
+                    "       sum += i;" +
+                    "   }" +
+                    "   println(sum);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString().trim()).isEqualTo("499500");
+        }
+
+        @Test
+        void shouldRunNestedRangeLoopsWithExpressionBounds() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   n = 3;" +
+                    "   count = 0;" +
+                    "   for i in 1..n + 1 {" +
+                    "       for j in i..n + 1 {" +
+                    "           count++;" +
+                    "       }" +
+                    "   }" +
+                    "   println(count);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString().trim()).isEqualTo("6");
+        }
+
+        @Test
+        void shouldNotChangeTripCountWhenRangeVariableIsAssigned() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   count = 0;" +
+                    "   for i in 0..5 {" +
+                    "       i = 100;" +
+                    "       count++;" +
+                    "   }" +
+                    "   println(count);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString().trim()).isEqualTo("5");
+        }
+
+        @Test
+        void shouldHandleBreakAndContinueInRangeLoop() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   sum = 0;" +
+                    "   for i in 0..100 {" +
+                    "       if (i == 10) {" +
+                    "           break;" +
+                    "       }" +
+                    "       if (i % 3 != 0) {" +
+                    "           continue;" +
+                    "       }" +
+                    "       sum += i;" +
+                    "   }" +
+                    "   println(sum);" +
+                    "   println(1.5 + 1);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString().split("\\R")).containsExactly("18", "2.5");
+        }
+
+        @Test
+        void shouldThrowExceptionWhenRangeBoundIsNotInteger() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   for i in 0..2.5 {" +
+                    "       println(i);" +
+                    "   }" +
+                    "}";
+
             // when / then
             assertThatThrownBy(() -> launcher.launchFromString(source))
                     .isExactlyInstanceOf(PolyglotException.class);
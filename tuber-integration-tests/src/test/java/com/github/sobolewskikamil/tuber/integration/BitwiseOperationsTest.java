@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.integration;
+
+import com.github.sobolewskikamil.tuber.launcher.TuberLauncher;
+import org.apache.commons.io.input.NullInputStream;
+import org.graalvm.polyglot.PolyglotException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+class BitwiseOperationsTest {
+    private ByteArrayOutputStream out;
+    private TuberLauncher launcher;
+
+    @BeforeEach
+    void setup() {
+        out = new ByteArrayOutputStream();
+        launcher = new TuberLauncher(new NullInputStream(10), out);
+    }
+
+    @Test
+    void shouldApplyBitwiseOperators() {
+        // given
+        String source = "" +
+                "def main() {" +
+                "   println(12 & 10);" +
+                "   println(12 | 10);" +
+                "   println(12 xor 10);" +
+                "   println(3 << 2);" +
+                "   println((0 - 8) >> 1);" +
+                "   println((0 - 1) >>> 60);" +
+                "}";
+
+        // when
+        launcher.launchFromString(source);
+
+        // then
+        assertThat(out.toString().split("\\s+")).containsExactly("8", "14", "6", "12", "-4", "15");
+    }
+
+    @Test
+    void shouldComputeFnvHash() {
+        // given
+        String source = "" +
+                "def main() {" +
+                "   s = \"hello world\";" +
+                "   h = 2166136261;" +
+                "   i = 0;" +
+                "   while (i < strlen(s)) {" +
+                "       h = ((h xor s[i]) * 16777619) & 4294967295;" +
+                "       i = i + 1;" +
+                "   }" +
+                "   println(h);" +
+                "}";
+
+        // when
+        launcher.launchFromString(source);
+
+        // then
+        assertThat(out.toString().trim()).isEqualTo("3582672807");
+    }
+
+    @Test
+    void shouldWrapXorShiftGenerator() {
+        // given
+        String source = "" +
+                "def main() {" +
+                "   x = 88172645463325252;" +
+                "   i = 0;" +
+                "   while (i < 3) {" +
+                "       x = x xor x << 13;" +
+                "       x = x xor x >>> 7;" +
+                "       x = x xor x << 17;" +
+                "       i = i + 1;" +
+                "   }" +
+                "   println(x);" +
+                "}";
+
+        // when
+        launcher.launchFromString(source);
+
+        // then
+        assertThat(out.toString().trim()).isEqualTo("3453997556048239312");
+    }
+
+    @Test
+    void shouldMaskOverflowedValue() {
+        // given
+        String source = "" +
+                "def main() {" +
+                "   a = (9223372036854775807 * 3) & 255;" +
+                "   println(a);" +
+                "}";
+
+        // when
+        launcher.launchFromString(source);
+
+        // then
+        assertThat(out.toString().trim()).isEqualTo("253");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenShiftingDouble() {
+        // given
+        String source = "" +
+                "def main() {" +
+                "   a = 1.0 << 2;" +
+                "   println(a);" +
+                "}";
+
+        // when / then
+        assertThatThrownBy(() -> launcher.launchFromString(source))
+                .isExactlyInstanceOf(PolyglotException.class);
+    }
+}
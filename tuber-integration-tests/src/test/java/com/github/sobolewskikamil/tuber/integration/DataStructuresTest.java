@@ -0,0 +1,829 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.integration;
+
+import com.github.sobolewskikamil.tuber.launcher.TuberLauncher;
+import org.apache.commons.io.input.NullInputStream;
+import org.graalvm.polyglot.PolyglotException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+class DataStructuresTest {
+    private ByteArrayOutputStream out;
+    private TuberLauncher launcher;
+
+    @BeforeEach
+    void setup() {
+        out = new ByteArrayOutputStream();
+        launcher = new TuberLauncher(new NullInputStream(10), out);
+    }
+
+    @Nested
+    @DisplayName("Map")
+    class Map {
+        @Test
+        void shouldPutAndGetValues() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   m = map();" +
+                    "   put(m, 1, \"one\");" +
+                    "   put(m, \"two\", 2);" +
+                    "   println(get(m, 1));" +
+                    "   println(get(m, \"two\"));" +
+                    "   println(get(m, 3));" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("one2null");
+        }
+
+        @Test
+        void shouldCheckAndRemoveKeys() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   m = map();" +
+                    "   put(m, (1, 2), true);" +
+                    "   println(has(m, (1, 2)));" +
+                    "   println(remove(m, (1, 2)));" +
+                    "   println(has(m, (1, 2)));" +
+                    "   println(size(m));" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("truetruefalse0");
+        }
+
+        @Test
+        void shouldCountOccurrences() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   m = map();" +
+                    "   i = 0;" +
+                    "   while (i < 1000) {" +
+                    "       key = i % 7;" +
+                    "       if (has(m, key)) {" +
+                    "           put(m, key, get(m, key) + 1);" +
+                    "       } else {" +
+                    "           put(m, key, 1);" +
+                    "       }" +
+                    "       i = i + 1;" +
+                    "   }" +
+                    "   println(size(m));" +
+                    "   println(get(m, 0));" +
+                    "   println(length(keys(m)));" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("71437");
+        }
+
+        @Test
+        void shouldPrintlnAndCompareMaps() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = map();" +
+                    "   b = map();" +
+                    "   put(a, 1, \"test\");" +
+                    "   put(b, 1, \"test\");" +
+                    "   println(a);" +
+                    "   println(a == b);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("{1=test}true");
+        }
+
+        @Test
+        void shouldThrowExceptionForInvalidKey() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   m = map();" +
+                    "   put(m, null, 1);" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class);
+        }
+
+        @Test
+        void shouldThrowExceptionForArrayKey() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   m = map();" +
+                    "   put(m, {1, 2}, 1);" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation \"put\" not defined for Map {}, Array [1, 2], Number 1.");
+        }
+
+        @Test
+        void shouldThrowExceptionForSizeOfArray() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   size({1, 2});" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation \"size\" not defined for Array [1, 2].");
+        }
+
+        @Test
+        void shouldThrowExceptionForHasOnNonMap() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   has(5, 1);" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation \"has\" not defined for Number 5, Number 1.");
+        }
+
+        @Test
+        void shouldThrowExceptionForMapKey() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   get(map(), map());" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation \"get\" not defined for Map {}, Map {}.");
+        }
+    }
+
+    @Nested
+    @DisplayName("Record")
+    class Record {
+        @Test
+        void shouldWriteAndReadFields() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   p = record();" +
+                    "   p.x = 1;" +
+                    "   p.y = \"test\";" +
+                    "   p.x = p.x + 1;" +
+                    "   println(p.x);" +
+                    "   println(p.y);" +
+                    "   println(p.z);" +
+                    "   println(p);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("2testnull{x=2,y=test}");
+        }
+
+        @Test
+        void shouldAccessNestedFields() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   line = record();" +
+                    "   line.start = point(1, 2);" +
+                    "   line.end = point(3, 4);" +
+                    "   line.end.x = 5;" +
+                    "   println(line.end.x - line.start.x);" +
+                    "}" +
+                    "def point(x, y) {" +
+                    "   p = record();" +
+                    "   p.x = x;" +
+                    "   p.y = y;" +
+                    "   return p;" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("4");
+        }
+
+        @Test
+        void shouldCompareRecordsByIdentity() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = record();" +
+                    "   b = record();" +
+                    "   a.x = 1;" +
+                    "   b.x = 1;" +
+                    "   c = a;" +
+                    "   println(a == b);" +
+                    "   println(a == c);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("falsetrue");
+        }
+
+        @Test
+        void shouldSumFieldsInLoop() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   p = record();" +
+                    "   p.sum = 0;" +
+                    "   i = 0;" +
+                    "   while (i < 1000) {" +
+                    "       p.sum = p.sum + i;" +
+                    "       i = i + 1;" +
+                    "   }" +
+                    "   println(p.sum);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("499500");
+        }
+
+        @Test
+        void shouldThrowExceptionForFieldOfNonRecord() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = 1;" +
+                    "   println(a.x);" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation \".\" not defined for Number 1.");
+        }
+    }
+
+    @Nested
+    @DisplayName("Heap")
+    class Heap {
+        @Test
+        void shouldPopValuesInPriorityOrder() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   h = heap();" +
+                    "   heapPush(h, 3, \"c\");" +
+                    "   heapPush(h, 1, \"a\");" +
+                    "   heapPush(h, 2, \"b\");" +
+                    "   println(heapPeek(h));" +
+                    "   while (size(h) > 0) {" +
+                    "       println(heapPop(h));" +
+                    "   }" +
+                    "   println(heapPop(h));" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("aabcnull");
+        }
+
+        @Test
+        void shouldMixLongAndDoublePriorities() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   h = heap();" +
+                    "   heapPush(h, 2, \"c\");" +
+                    "   heapPush(h, 1.5, \"b\");" +
+                    "   heapPush(h, 1, \"a\");" +
+                    "   println(heapPop(h));" +
+                    "   println(heapPop(h));" +
+                    "   println(heapPop(h));" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("abc");
+        }
+
+        @Test
+        void shouldSelectTopValues() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   h = heap();" +
+                    "   i = 0;" +
+                    "   while (i < 100) {" +
+                    "       heapPush(h, (i * 37) % 100, i);" +
+                    "       if (size(h) > 3) {" +
+                    "           heapPop(h);" +
+                    "       }" +
+                    "       i = i + 1;" +
+                    "   }" +
+                    "   println(heapPop(h));" +
+                    "   println(heapPop(h));" +
+                    "   println(heapPop(h));" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("815427");
+        }
+
+        @Test
+        void shouldThrowExceptionForInvalidPriority() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   heapPush(heap(), \"1\", 1);" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class);
+        }
+
+        @Test
+        void shouldCompareHeapsByIdentity() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = heap();" +
+                    "   b = heap();" +
+                    "   c = a;" +
+                    "   println(a == c);" +
+                    "   println(a == b);" +
+                    "   println(a != b);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("truefalsetrue");
+        }
+
+        @Test
+        void shouldThrowExceptionForNonNumericPriority() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   h = heap();" +
+                    "   heapPush(h, \"high\", 1);" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation \"heapPush\" not defined for Heap [], String \"high\", Number 1.");
+        }
+    }
+
+    @Nested
+    @DisplayName("Deque")
+    class Deque {
+        @Test
+        void shouldPushAndPopOnBothEnds() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   d = deque();" +
+                    "   pushBack(d, 2);" +
+                    "   pushFront(d, 1);" +
+                    "   pushBack(d, \"three\");" +
+                    "   println(d);" +
+                    "   println(d[2]);" +
+                    "   println(popFront(d));" +
+                    "   println(popBack(d));" +
+                    "   println(size(d));" +
+                    "   popBack(d);" +
+                    "   println(popFront(d));" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("[1,2,three]three1three1null");
+        }
+
+        @Test
+        void shouldTraverseGraphBreadthFirst() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   n = 1000;" +
+                    "   distances = array(n);" +
+                    "   i = 0;" +
+                    "   while (i < n) {" +
+                    "       distances[i] = 0 - 1;" +
+                    "       i = i + 1;" +
+                    "   }" +
+                    "   queue = deque();" +
+                    "   pushBack(queue, 0);" +
+                    "   distances[0] = 0;" +
+                    "   while (size(queue) > 0) {" +
+                    "       node = popFront(queue);" +
+                    "       next = (node * 2) + 1;" +
+                    "       if (next < n) {" +
+                    "           if (distances[next] == (0 - 1)) {" +
+                    "               distances[next] = distances[node] + 1;" +
+                    "               pushBack(queue, next);" +
+                    "           }" +
+                    "       }" +
+                    "       next = node + 1;" +
+                    "       if (next < n) {" +
+                    "           if (distances[next] == (0 - 1)) {" +
+                    "               distances[next] = distances[node] + 1;" +
+                    "               pushBack(queue, next);" +
+                    "           }" +
+                    "       }" +
+                    "   }" +
+                    "   println(distances[999]);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("14");
+        }
+
+        @Test
+        void shouldThrowExceptionForIndexOutOfRange() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   d = deque();" +
+                    "   println(d[0]);" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class);
+        }
+
+        @Test
+        void shouldCompareDequesByIdentity() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = deque();" +
+                    "   b = deque();" +
+                    "   c = a;" +
+                    "   println(a == c);" +
+                    "   println(a == b);" +
+                    "   println(a != b);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("truefalsetrue");
+        }
+
+        @Test
+        void shouldThrowExceptionWhenIndexIsOutOfBounds() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   d = deque();" +
+                    "   pushBack(d, 1);" +
+                    "   println(d[1]);" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation not defined for Deque [1], Number 1.");
+        }
+
+        @Test
+        void shouldThrowExceptionForPushOnNonDeque() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   pushBack(1, 2);" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation \"pushBack\" not defined for Number 1, Number 2.");
+        }
+
+        @Test
+        void shouldThrowExceptionWhenIndexExceedsIntRange() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   d = deque()" +
+                    "   pushBack(d, 1)" +
+                    "   println(d[4294967296]);" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation not defined for Deque [1], Number 4294967296.");
+        }
+    }
+
+    @Nested
+    @DisplayName("Tuple")
+    class Tuple {
+        @Test
+        void shouldDestructureReturnedTuple() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   (q, r) = divmod(17, 5);" +
+                    "   println(q);" +
+                    "   println(r);" +
+                    "}" +
+                    "def divmod(a, b) {" +
+                    "   r = a % b;" +
+                    "   return ((a - r) / b, r);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("3.02");
+        }
+
+        @Test
+        void shouldSwapVariables() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = 1;" +
+                    "   b = \"two\";" +
+                    "   (a, b) = (b, a);" +
+                    "   println(a);" +
+                    "   println(b);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("two1");
+        }
+
+        @Test
+        void shouldPrintIndexAndCompareTuples() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   t = (1, \"a\", (2.5, true));" +
+                    "   println(t);" +
+                    "   println(t[1]);" +
+                    "   println(t == (1, \"a\", (2.5, true)));" +
+                    "   m = map();" +
+                    "   put(m, (1, 2), \"pair\");" +
+                    "   println(get(m, (1, 2)));" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("(1,a,(2.5,true))atruepair");
+        }
+
+        @Test
+        void shouldReturnMinAndMaxInLoop() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   i = 0;" +
+                    "   total = 0;" +
+                    "   while (i < 1000) {" +
+                    "       (low, high) = minMax(i, 1000 - i);" +
+                    "       total = total + (high - low);" +
+                    "       i = i + 1;" +
+                    "   }" +
+                    "   println(total);" +
+                    "}" +
+                    "def minMax(a, b) {" +
+                    "   if (a < b) {" +
+                    "       return (a, b);" +
+                    "   }" +
+                    "   return (b, a);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("500000");
+        }
+
+        @Test
+        void shouldThrowExceptionForArityMismatch() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   (a, b) = (1, 2, 3);" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation \"destructure\" not defined for Tuple (1, 2, 3).");
+        }
+
+        @Test
+        void shouldThrowExceptionWhenIndexIsOutOfBounds() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   t = (1, 2)" +
+                    "   println(t[2]);" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation not defined for Tuple (1, 2), Number 2.");
+        }
+
+        @Test
+        void shouldThrowExceptionWhenIndexExceedsIntRange() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   t = (1, 2)" +
+                    "   println(t[4294967297]);" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation not defined for Tuple (1, 2), Number 4294967297.");
+        }
+    }
+
+    @Nested
+    @DisplayName("Builder")
+    class Builder {
+        @Test
+        void shouldAppendValuesAndPrintBuilder() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   b = builder();" +
+                    "   append(b, 1);" +
+                    "   append(b, \",\");" +
+                    "   append(b, 2.5);" +
+                    "   append(b, \",\");" +
+                    "   append(b, true);" +
+                    "   append(b, {1, 2});" +
+                    "   println(builderLength(b));" +
+                    "   println(b);" +
+                    "   s = build(b);" +
+                    "   clear(b);" +
+                    "   println(builderLength(b));" +
+                    "   println(s == \"1,2.5,true[1, 2]\");" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("161,2.5,true[1,2]0true");
+        }
+
+        @Test
+        void shouldBuildLargeOutput() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   b = builder();" +
+                    "   i = 0;" +
+                    "   while (i < 10000) {" +
+                    "       append(b, i);" +
+                    "       i = i + 1;" +
+                    "   }" +
+                    "   println(builderLength(b));" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("38890");
+        }
+
+        @Test
+        void shouldCompareBuildersByIdentity() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = builder();" +
+                    "   b = builder();" +
+                    "   c = a;" +
+                    "   println(a == c);" +
+                    "   println(a == b);" +
+                    "   println(a != b);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("truefalsetrue");
+        }
+
+        @Test
+        void shouldThrowExceptionForNonBuilderArgument() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   builderLength(\"test\");" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation \"builderLength\" not defined for String \"test\".");
+        }
+
+        @Test
+        void shouldThrowExceptionForUnsupportedAppendedValue() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   b = builder();" +
+                    "   append(b, map());" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation \"append\" not defined for Builder \"\", Map {}.");
+        }
+    }
+}
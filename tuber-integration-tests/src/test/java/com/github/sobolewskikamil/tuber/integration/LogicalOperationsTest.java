@@ -292,6 +292,23 @@ class LogicalOperationsTest {
             assertThat(result).isEqualTo(true);
         }
 
+        @Test
+        void shouldEqualLongAndDouble() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = 1 == 1.0;" +
+                    "   println(a);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            boolean result = Boolean.valueOf(out.toString().trim());
+            assertThat(result).isEqualTo(true);
+        }
+
         @Test
         void shouldEqualDifferentTypes() {
             // given
@@ -471,7 +488,7 @@ class LogicalOperationsTest {
         }
 
         @Test
-        void shouldThrowExceptionWhenGreaterDifferentTypes() {
+        void shouldCompareGreaterLongAndDouble() {
             // given
             String source = "" +
                     "def main() {" +
@@ -479,6 +496,23 @@ class LogicalOperationsTest {
                     "   println(a);" +
                     "}";
 
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            boolean result = Boolean.valueOf(out.toString().trim());
+            assertThat(result).isEqualTo(true);
+        }
+
+        @Test
+        void shouldThrowExceptionWhenGreaterDifferentTypes() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = 2 > true;" +
+                    "   println(a);" +
+                    "}";
+
             // when / then
             assertThatThrownBy(() -> launcher.launchFromString(source))
                     .isExactlyInstanceOf(PolyglotException.class);
@@ -523,7 +557,7 @@ class LogicalOperationsTest {
         }
 
         @Test
-        void shouldThrowExceptionWhenGreaterOrEqualDifferentTypes() {
+        void shouldCompareGreaterOrEqualLongAndDouble() {
             // given
             String source = "" +
                     "def main() {" +
@@ -531,6 +565,23 @@ class LogicalOperationsTest {
                     "   println(a);" +
                     "}";
 
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            boolean result = Boolean.valueOf(out.toString().trim());
+            assertThat(result).isEqualTo(true);
+        }
+
+        @Test
+        void shouldThrowExceptionWhenGreaterOrEqualDifferentTypes() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = 2 >= true;" +
+                    "   println(a);" +
+                    "}";
+
             // when / then
             assertThatThrownBy(() -> launcher.launchFromString(source))
                     .isExactlyInstanceOf(PolyglotException.class);
@@ -575,7 +626,7 @@ class LogicalOperationsTest {
         }
 
         @Test
-        void shouldThrowExceptionWhenLessDifferentTypes() {
+        void shouldCompareLessLongAndDouble() {
             // given
             String source = "" +
                     "def main() {" +
@@ -583,6 +634,23 @@ class LogicalOperationsTest {
                     "   println(a);" +
                     "}";
 
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            boolean result = Boolean.valueOf(out.toString().trim());
+            assertThat(result).isEqualTo(true);
+        }
+
+        @Test
+        void shouldThrowExceptionWhenLessDifferentTypes() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = 1.0 < true;" +
+                    "   println(a);" +
+                    "}";
+
             // when / then
             assertThatThrownBy(() -> launcher.launchFromString(source))
                     .isExactlyInstanceOf(PolyglotException.class);
@@ -627,7 +695,7 @@ class LogicalOperationsTest {
         }
 
         @Test
-        void shouldThrowExceptionWhenLessOrEqualDifferentTypes() {
+        void shouldCompareLessOrEqualLongAndDouble() {
             // given
             String source = "" +
                     "def main() {" +
@@ -635,6 +703,23 @@ class LogicalOperationsTest {
                     "   println(a);" +
                     "}";
 
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            boolean result = Boolean.valueOf(out.toString().trim());
+            assertThat(result).isEqualTo(true);
+        }
+
+        @Test
+        void shouldThrowExceptionWhenLessOrEqualDifferentTypes() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   a = 1 <= true;" +
+                    "   println(a);" +
+                    "}";
+
             // when / then
             assertThatThrownBy(() -> launcher.launchFromString(source))
                     .isExactlyInstanceOf(PolyglotException.class);
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.integration;
+
+import com.github.sobolewskikamil.tuber.launcher.TuberLauncher;
+import org.apache.commons.io.input.NullInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+class OptimizationTest {
+    private static final String SOURCE = "" +
+            "def main() {" +
+            "   n = 10;" +
+            "   i = 0;" +
+            "   sum = 0;" +
+            "   while (i < n * n) {" +
+            "       sum = sum + i % (n - 3);" +
+            "       i = i + 1;" +
+            "   }" +
+            "   println(sum);" +
+            "}";
+
+    private ByteArrayOutputStream out;
+    private ByteArrayOutputStream err;
+    private TuberLauncher launcher;
+
+    @BeforeEach
+    void setup() {
+        out = new ByteArrayOutputStream();
+        err = new ByteArrayOutputStream();
+        launcher = new TuberLauncher(new NullInputStream(10), out, err);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "1", "2"})
+    void shouldGiveSameResultOnEachLevel(String level) {
+        // when
+        launcher.launchFromString(SOURCE, Collections.singletonMap("tb.Optimize", level));
+
+        // then
+        assertThat(out.toString().trim()).isEqualTo("295");
+    }
+
+    @Test
+    void shouldDumpTreesAroundEachPass() {
+        // given
+        Map<String, String> options = new HashMap<>();
+        options.put("tb.Optimize", "2");
+        options.put("tb.DumpOptimizations", "true");
+
+        // when
+        launcher.launchFromString(SOURCE, options);
+
+        // then
+        assertThat(err.toString())
+                .contains("=== main: before constant propagation ===")
+                .contains("=== main: after constant propagation ===");
+        assertThat(out.toString().trim()).isEqualTo("295");
+    }
+
+    @Test
+    void shouldNotDumpTreesByDefault() {
+        // when
+        launcher.launchFromString(SOURCE);
+
+        // then
+        assertThat(out.toString().trim()).isEqualTo("295");
+        assertThat(err.toString()).isEmpty();
+    }
+
+    @Test
+    void shouldThrowExceptionWhenLevelIsNotSupported() {
+        // when / then
+        assertThatThrownBy(() -> launcher.launchFromString(SOURCE, Collections.singletonMap("tb.Optimize", "3")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldFallBackWhenFusedComparisonSeesDouble() {
+        // given
+        String source = "" +
+                "def main() {" +
+                "   i = 0;" +
+                "   limit = 3;" +
+                "   count = 0;" +
+                "   while (i < limit) {" +
+                "       i = i + 0.5;" +
+                "       count = count + 1;" +
+                "   }" +
+                "   if (10 > i) {" +
+                "       println(count);" +
+                "   }" +
+                "}";
+
+        // when
+        launcher.launchFromString(source);
+
+        // then
+        assertThat(out.toString().trim()).isEqualTo("6");
+    }
+}
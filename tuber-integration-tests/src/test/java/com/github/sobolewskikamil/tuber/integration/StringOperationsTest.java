@@ -0,0 +1,774 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.integration;
+
+import com.github.sobolewskikamil.tuber.launcher.TuberLauncher;
+import org.apache.commons.io.input.NullInputStream;
+import org.graalvm.polyglot.PolyglotException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+class StringOperationsTest {
+    private ByteArrayOutputStream out;
+    private TuberLauncher launcher;
+
+    @BeforeEach
+    void setup() {
+        out = new ByteArrayOutputStream();
+        launcher = new TuberLauncher(new NullInputStream(10), out);
+    }
+
+    @Nested
+    @DisplayName("Builtins")
+    class Builtins {
+        @Test
+        void shouldInspectString() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   s = \"Hello, World\";" +
+                    "   println(strlen(s));" +
+                    "   println(charAt(s, 7));" +
+                    "   println(substring(s, 0, 5));" +
+                    "   println(indexOf(s, \"World\"));" +
+                    "   println(startsWith(s, \"Hello\"));" +
+                    "   println(endsWith(s, \"Hello\"));" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("12WHello7truefalse");
+        }
+
+        @Test
+        void shouldTransformString() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   s = trim(\"  Test \");" +
+                    "   println(toUpper(s) + toLower(s) + s);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("TESTtestTest");
+        }
+
+        @Test
+        void shouldMeasureRope() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   s = \"\";" +
+                    "   i = 0;" +
+                    "   while (i < 100) {" +
+                    "       s = s + \"ab\";" +
+                    "       i = i + 1;" +
+                    "   }" +
+                    "   println(strlen(s));" +
+                    "   println(charAt(s, 199));" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("200b");
+        }
+
+        @Test
+        void shouldThrowExceptionWhenIndexIsOutOfBounds() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   println(charAt(\"test\", 4));" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation \"charAt\" not defined for String \"test\", Number 4.");
+        }
+
+        @Test
+        void shouldThrowExceptionWhenSubstringBoundsAreInvalid() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   println(substring(\"test\", 3, 1));" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation \"substring\" not defined for String \"test\", Number 3, Number 1.");
+        }
+
+        @Test
+        void shouldThrowExceptionForNonStringArgument() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   println(toUpper(1));" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation \"toUpper\" not defined for Number 1.");
+        }
+    }
+
+    @Nested
+    @DisplayName("Equality")
+    class Equality {
+        @Test
+        void shouldCompareLiteralAndComputedStrings() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   key = \"ro\" + \"ute\";" +
+                    "   println(key == \"route\");" +
+                    "   println(\"route\" == \"route\");" +
+                    "   println(key != \"router\");" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("truetruetrue");
+        }
+
+        @Test
+        void shouldCompareRopeAndStringInArrays() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   r = \"abcdefghijabcdefghijabcdefghijabcde\" + \"ABCDEFGHIJABCDEFGHIJABCDEFGHIJABCDE\";" +
+                    "   s = \"abcdefghijabcdefghijabcdefghijabcdeABCDEFGHIJABCDEFGHIJABCDEFGHIJABCDE\";" +
+                    "   println(r == s);" +
+                    "   println({r} == {s});" +
+                    "   println({s, 1} != {r, 1});" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("truetruefalse");
+        }
+
+        @Test
+        void shouldCompareRopeAndStringInTuples() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   r = \"abcdefghijabcdefghijabcdefghijabcde\" + \"ABCDEFGHIJABCDEFGHIJABCDEFGHIJABCDE\";" +
+                    "   s = \"abcdefghijabcdefghijabcdefghijabcdeABCDEFGHIJABCDEFGHIJABCDEFGHIJABCDE\";" +
+                    "   println((r, 1) == (s, 1));" +
+                    "   println((s, 1) == (r, 1));" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("truetrue");
+        }
+
+        @Test
+        void shouldCompareMapsHoldingRopeAndString() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   r = \"abcdefghijabcdefghijabcdefghijabcde\" + \"ABCDEFGHIJABCDEFGHIJABCDEFGHIJABCDE\";" +
+                    "   s = \"abcdefghijabcdefghijabcdefghijabcdeABCDEFGHIJABCDEFGHIJABCDEFGHIJABCDE\";" +
+                    "   a = map();" +
+                    "   b = map();" +
+                    "   put(a, 1, r);" +
+                    "   put(b, 1, s);" +
+                    "   put(a, \"key\", {r});" +
+                    "   put(b, \"key\", {s});" +
+                    "   println(a == b);" +
+                    "   println(b == a);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("truetrue");
+        }
+
+        @Test
+        void shouldFindTupleKeyHoldingRope() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   r = \"abcdefghijabcdefghijabcdefghijabcde\" + \"ABCDEFGHIJABCDEFGHIJABCDEFGHIJABCDE\";" +
+                    "   s = \"abcdefghijabcdefghijabcdefghijabcdeABCDEFGHIJABCDEFGHIJABCDEFGHIJABCDE\";" +
+                    "   m = map();" +
+                    "   put(m, (r, 1), \"found\");" +
+                    "   println(get(m, (s, 1)));" +
+                    "   println(has(m, (s, 1)));" +
+                    "   m2 = map();" +
+                    "   put(m2, (s, 1), \"found\");" +
+                    "   println(get(m2, (r, 1)));" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("foundtruefound");
+        }
+    }
+
+    @Nested
+    @DisplayName("Characters")
+    class Characters {
+        @Test
+        void shouldScanStringByCharacterCodes() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   s = \"12,345,6\";" +
+                    "   comma = ord(\",\");" +
+                    "   zero = ord(\"0\");" +
+                    "   sum = 0;" +
+                    "   current = 0;" +
+                    "   i = 0;" +
+                    "   while (i < strlen(s)) {" +
+                    "       c = s[i];" +
+                    "       if (c == comma) {" +
+                    "           sum = sum + current;" +
+                    "           current = 0;" +
+                    "       } else {" +
+                    "           current = (current * 10) + (c - zero);" +
+                    "       }" +
+                    "       i = i + 1;" +
+                    "   }" +
+                    "   println(sum + current);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("363");
+        }
+
+        @Test
+        void shouldConvertBetweenCharactersAndCodes() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   s = \"abc\";" +
+                    "   println(s[1]);" +
+                    "   println(chr(s[2] + 1));" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("98d");
+        }
+
+        @Test
+        void shouldThrowExceptionWhenIndexIsOutOfBounds() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   s = \"abc\";" +
+                    "   println(s[3]);" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation not defined for String \"abc\", Number 3.");
+        }
+
+        @Test
+        void shouldThrowExceptionForInvalidCharacterCode() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   println(chr(0 - 1));" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation \"chr\" not defined for Number -1.");
+        }
+
+        @Test
+        void shouldThrowExceptionForOrdOfEmptyString() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   println(ord(\"\"));" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation \"ord\" not defined for String \"\".");
+        }
+
+        @Test
+        void shouldThrowExceptionWhenIndexExceedsIntRange() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   s = \"abc\"" +
+                    "   println(s[4294967297]);" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation not defined for String \"abc\", Number 4294967297.");
+        }
+    }
+
+    @Nested
+    @DisplayName("Splitting")
+    class Splitting {
+        @Test
+        void shouldSplitAndJoin() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   parts = split(\"a,b,,c\", \",\");" +
+                    "   println(length(parts));" +
+                    "   println(join(parts, \"-\"));" +
+                    "   println(join(split(\"x::y\", \"::\"), \"+\"));" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("4a-b--cx+y");
+        }
+
+        @Test
+        void shouldSumFieldsOfLogLines() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   lines = {\"GET /a 200 12\", \"POST /b 500 30\", \"GET /c 200 8\"};" +
+                    "   total = 0;" +
+                    "   i = 0;" +
+                    "   while (i < length(lines)) {" +
+                    "       fields = splitWhitespace(lines[i]);" +
+                    "       if (fields[2] == \"200\") {" +
+                    "           total = total + strlen(fields[3]);" +
+                    "       }" +
+                    "       i = i + 1;" +
+                    "   }" +
+                    "   println(total);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("3");
+        }
+
+        @Test
+        void shouldTokenizeQueryString() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   tokens = tokenize(\"key=value&&x=1\", \"=&\");" +
+                    "   println(tokens);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("[key,value,x,1]");
+        }
+
+        @Test
+        void shouldSplitIntoCharactersOnEmptySeparator() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   println(split(\"abc\", \"\"));" +
+                    "   println(length(split(\"\", \"\")));" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("[a,b,c]0");
+        }
+
+        @Test
+        void shouldThrowExceptionForNonStringSeparator() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   println(split(\"abc\", 1));" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation \"split\" not defined for String \"abc\", Number 1.");
+        }
+    }
+
+    @Nested
+    @DisplayName("Parsing")
+    class Parsing {
+        @Test
+        void shouldParseNumbers() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   println(toLong(\"12\") + 1);" +
+                    "   println(toDouble(\"1.5\") * 2.0);" +
+                    "   println(toNumber(\"7\"));" +
+                    "   println(toNumber(\"7.5\"));" +
+                    "   println(toLong(\"7.5\"));" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("133.077.5null");
+        }
+
+        @Test
+        void shouldSumParsedFields() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   fields = split(\"10,x,2.5,30\", \",\");" +
+                    "   sum = 0.0;" +
+                    "   i = 0;" +
+                    "   while (i < length(fields)) {" +
+                    "       value = toDouble(fields[i]);" +
+                    "       if (value != null) {" +
+                    "           sum = sum + value;" +
+                    "       }" +
+                    "       i = i + 1;" +
+                    "   }" +
+                    "   println(sum);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("42.5");
+        }
+
+        @Test
+        void shouldThrowExceptionWhenLongIsParsedFromNumber() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   println(toLong(5));" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation \"toLong\" not defined for Number 5.");
+        }
+
+        @Test
+        void shouldThrowExceptionWhenDoubleIsParsedFromBoolean() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   println(toDouble(true));" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation \"toDouble\" not defined for Boolean true.");
+        }
+
+        @Test
+        void shouldThrowExceptionWhenNumberIsParsedFromNumber() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   println(toNumber(1));" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation \"toNumber\" not defined for Number 1.");
+        }
+    }
+
+    @Nested
+    @DisplayName("Formatting")
+    class Formatting {
+        @Test
+        void shouldFormatReportLines() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   names = {\"apples\", \"kiwi\"};" +
+                    "   counts = {3, 12};" +
+                    "   prices = {0.5, 1.25};" +
+                    "   i = 0;" +
+                    "   while (i < length(names)) {" +
+                    "       println(format(\"%-8s|%4d|%8.2f|\", names[i], counts[i], prices[i] * 3.0));" +
+                    "       i = i + 1;" +
+                    "   }" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualTo(String.format("" +
+                    "apples  |   3|    1.50|%n" +
+                    "kiwi    |  12|    3.75|%n"));
+        }
+
+        @Test
+        void shouldFormatWithComputedFormat() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   digits = 3;" +
+                    "   println(format(\"%.\" + digits + \"f %%\", 2.0 / 3.0));" +
+                    "   println(format(\"no arguments\"));" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("0.667%noarguments");
+        }
+
+        @Test
+        void shouldThrowExceptionForInvalidFormat() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   println(format(\"%q\", 1));" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation \"format\" not defined for String \"%q\", Array [1].");
+        }
+
+        @Test
+        void shouldThrowExceptionWhenArgumentDoesNotMatchFormat() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   println(format(\"%d\", \"test\"));" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation \"format\" not defined for String \"%d\", Array [test].");
+        }
+
+        @Test
+        void shouldThrowExceptionWhenFormatIsNotString() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   println(format(5));" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation \"format\" not defined for Number 5, Array [].");
+        }
+
+        @Test
+        void shouldThrowExceptionWhenFormatIsArray() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   println(format({1}, 2));" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation \"format\" not defined for Array [1], Array [2].");
+        }
+    }
+
+    @Nested
+    @DisplayName("Regex")
+    class Regex {
+        @Test
+        void shouldFilterLines() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   lines = {\"INFO start\", \"ERROR disk full\", \"WARN slow\", \"ERROR timeout\"};" +
+                    "   i = 0;" +
+                    "   while (i < length(lines)) {" +
+                    "       if (matches(lines[i], \"ERROR .*\")) {" +
+                    "           println(find(lines[i], \"\\w+$\"));" +
+                    "       }" +
+                    "       i = i + 1;" +
+                    "   }" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("fulltimeout");
+        }
+
+        @Test
+        void shouldExtractGroupsAndReplace() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   g = groups(\"user=bob id=7\", \"(\\w+)=(\\w+)\");" +
+                    "   println(g);" +
+                    "   println(groups(\"none\", \"(\\d)\"));" +
+                    "   println(replaceAll(\"a-b-c\", \"-\", \"+\"));" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("[user=bob,user,bob]nulla+b+c");
+        }
+
+        @Test
+        void shouldMatchDynamicPatterns() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   count = 0;" +
+                    "   i = 0;" +
+                    "   while (i < 10) {" +
+                    "       if (matches(\"x\" + i, \"x[\" + (i % 3) + \"-5]\")) {" +
+                    "           count = count + 1;" +
+                    "       }" +
+                    "       i = i + 1;" +
+                    "   }" +
+                    "   println(count);" +
+                    "}";
+
+            // when
+            launcher.launchFromString(source);
+
+            // then
+            assertThat(out.toString()).isEqualToIgnoringWhitespace("6");
+        }
+
+        @Test
+        void shouldThrowExceptionForInvalidPattern() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   println(matches(\"test\", \"(\"));" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation \"matches\" not defined for String \"test\", String \"(\".");
+        }
+
+        @Test
+        void shouldThrowExceptionWhenMatchedValueIsNotString() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   println(matches(1, \"a\"));" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation \"matches\" not defined for Number 1, String \"a\".");
+        }
+
+        @Test
+        void shouldThrowExceptionWhenPatternIsNotString() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   println(find(\"a\", 1));" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation \"find\" not defined for String \"a\", Number 1.");
+        }
+
+        @Test
+        void shouldThrowExceptionWhenReplacementIsNotString() {
+            // given
+            String source = "" +
+                    "def main() {" +
+                    "   println(replaceAll(\"a\", \"a\", 1));" +
+                    "}";
+
+            // when / then
+            assertThatThrownBy(() -> launcher.launchFromString(source))
+                    .isExactlyInstanceOf(PolyglotException.class)
+                    .hasMessage("Error: operation \"replaceAll\" not defined for String \"a\", String \"a\", Number 1.");
+        }
+    }
+}
@@ -20,6 +20,7 @@ statement
  : assignment
  | functionCall Semicolon
  | whileStatement
+ | forStatement
  | returnStatement
  ;
 
@@ -29,17 +30,39 @@ functionDeclaration
 
 assignment
  : variableAssignment
+ | compoundAssignment
  | arrayElementAssignment
+ | arrayElementCompoundAssignment
+ | fieldAssignment
+ | tupleAssignment
  ;
 
 variableAssignment
  : Identifier Assign right=expression Semicolon
  ;
 
+compoundAssignment
+ : Identifier op=( AddAssign | SubtractAssign | MultiplyAssign ) expression Semicolon
+ | Identifier op=( Increment | Decrement ) Semicolon
+ ;
+
 arrayElementAssignment
  : arrayElement Assign expression Semicolon
  ;
 
+arrayElementCompoundAssignment
+ : arrayElement op=( AddAssign | SubtractAssign | MultiplyAssign ) expression Semicolon
+ | arrayElement op=( Increment | Decrement ) Semicolon
+ ;
+
+fieldAssignment
+ : fieldAccess Assign expression Semicolon
+ ;
+
+tupleAssignment
+ : OpenParen idList CloseParen Assign expression Semicolon
+ ;
+
 functionCall
  : Identifier OpenParen (expression ( Comma expression )*)? CloseParen
  ;
@@ -56,6 +79,17 @@ whileStatement
  : whileStat iterStat
  ;
 
+forStatement
+ : For OpenParen variableAssignment expression Semicolon forUpdate CloseParen iterStat
+ | For Identifier In expression Range expression iterStat
+ ;
+
+forUpdate
+ : Identifier Assign expression
+ | Identifier op=( AddAssign | SubtractAssign | MultiplyAssign ) expression
+ | Identifier op=( Increment | Decrement )
+ ;
+
 returnStatement
  : Return expression Semicolon
  ;
@@ -94,16 +128,23 @@ iterStat
 
 expression
  : op=Not expression
+ | <assoc=right> left=expression op=Exp right=expression
+ | left=expression op=( Multiply | Divide | IntDivide | Modulus ) right=expression
  | left=expression op=( Add | Subtract ) right=expression
- | left=expression op=( Multiply | Divide | Modulus ) right=expression
- | left=expression op=Exp right=expression
- | left=expression op=( Equal | NotEqual ) right=expression
+ | left=expression op=( ShiftLeft | UnsignedShiftRight | ShiftRight ) right=expression
+ | left=expression op=BitAnd right=expression
+ | left=expression op=Xor right=expression
+ | left=expression op=BitOr right=expression
  | left=expression op=( GreaterOrEqual | LessOrEqual | Greater | Less ) right=expression
- | left=expression op=( And | Or ) right=expression
+ | left=expression op=( Equal | NotEqual ) right=expression
+ | left=expression op=And right=expression
+ | left=expression op=Or right=expression
  | literal
  | functionCall
  | array
  | arrayElement
+ | fieldAccess
+ | tuple
  | OpenParen expression CloseParen
  ;
 
@@ -115,10 +156,18 @@ expressionList
  : expression ( Comma expression )*
  ;
 
+tuple
+ : OpenParen expression ( Comma expression )+ CloseParen
+ ;
+
 arrayElement
  : Identifier ('[' expression ']')+
  ;
 
+fieldAccess
+ : Identifier ( Dot Identifier )+
+ ;
+
 literal
  : Null
  | Long
@@ -133,22 +182,35 @@ If             : 'if';
 Else           : 'else';
 Return         : 'return';
 For            : 'for';
+In             : 'in';
 While          : 'while';
 Continue       : 'continue';
 Break          : 'break';
+Xor            : 'xor';
 Or             : '||';
 And            : '&&';
 Equal          : '==';
 NotEqual       : '!=';
 GreaterOrEqual : '>=';
 LessOrEqual    : '<=';
+UnsignedShiftRight : '>>>';
+ShiftRight     : '>>';
+ShiftLeft      : '<<';
 Exp            : '^';
 Not            : '!';
+BitAnd         : '&';
+BitOr          : '|';
 Greater        : '>';
 Less           : '<';
+AddAssign      : '+=';
+SubtractAssign : '-=';
+MultiplyAssign : '*=';
+Increment      : '++';
+Decrement      : '--';
 Add            : '+';
 Subtract       : '-';
 Multiply       : '*';
+IntDivide      : '~/';
 Divide         : '/';
 Modulus        : '%';
 OpenBrace      : '{';
@@ -160,6 +222,7 @@ CloseBracket   : ']';
 Semicolon      : ';';
 Assign         : '=';
 Comma          : ',';
+Range          : '..';
 Dot            : '.';
 
 Null
@@ -176,7 +239,7 @@ Long
  ;
 
 Double
- : Int Dot Digit*
+ : Int Dot Digit+
  ;
 
 Identifier
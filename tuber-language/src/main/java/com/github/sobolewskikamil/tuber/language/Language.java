@@ -22,10 +22,12 @@
 package com.github.sobolewskikamil.tuber.language;
 
 import com.github.sobolewskikamil.tuber.language.node.EvalRootNode;
+import com.github.sobolewskikamil.tuber.language.optimizer.Optimizer;
 import com.github.sobolewskikamil.tuber.language.parser.ParserFacade;
 import com.github.sobolewskikamil.tuber.language.parser.TuberParserFacade;
 import com.github.sobolewskikamil.tuber.language.runtime.Context;
 import com.oracle.truffle.api.CallTarget;
+import com.oracle.truffle.api.Option;
 import com.oracle.truffle.api.RootCallTarget;
 import com.oracle.truffle.api.Truffle;
 import com.oracle.truffle.api.TruffleLanguage;
@@ -34,7 +36,13 @@ import com.oracle.truffle.api.debug.DebuggerTags;
 import com.oracle.truffle.api.instrumentation.ProvidedTags;
 import com.oracle.truffle.api.instrumentation.StandardTags;
 import com.oracle.truffle.api.source.Source;
+import org.graalvm.options.OptionCategory;
+import org.graalvm.options.OptionDescriptors;
+import org.graalvm.options.OptionKey;
+import org.graalvm.options.OptionType;
+import org.graalvm.options.OptionValues;
 
+import java.io.PrintWriter;
 import java.util.Map;
 
 @Registration(id = Language.ID, name = "TB", mimeType = Language.MIME_TYPE, contextPolicy = TruffleLanguage.ContextPolicy.SHARED)
@@ -43,12 +51,20 @@ public class Language extends TruffleLanguage<Context> {
     public static final String ID = "tb";
     public static final String MIME_TYPE = "application/x-tb";
 
+    @Option(name = "Optimize", help = "Optimization level of parsed functions: 0 (none), 1 (constant folding) or 2 (constant propagation and fused comparisons).", category = OptionCategory.USER)
+    static final OptionKey<Integer> OPTIMIZE = new OptionKey<>(Optimizer.MAX_LEVEL,
+            new OptionType<>("Level", Optimizer.MAX_LEVEL, Integer::valueOf, Optimizer::validateLevel));
+
+    @Option(name = "DumpOptimizations", help = "Print the node tree of each function to the error output before and after each optimization pass.", category = OptionCategory.DEBUG)
+    static final OptionKey<Boolean> DUMP_OPTIMIZATIONS = new OptionKey<>(false);
+
     private final ParserFacade parserFacade = new TuberParserFacade();
 
     @Override
     protected CallTarget parse(ParsingRequest request) {
         Source source = request.getSource();
-        Map<String, RootCallTarget> functions = parserFacade.parseLanguage(this, source.getCharacters().toString());
+        Optimizer optimizer = createOptimizer(getContextReference().get());
+        Map<String, RootCallTarget> functions = parserFacade.parseLanguage(this, source.getCharacters().toString(), optimizer);
         RootCallTarget mainCallTarget = functions.get("main");
         if (mainCallTarget == null) {
             throw new IllegalStateException("Main method missing");
@@ -57,6 +73,17 @@ public class Language extends TruffleLanguage<Context> {
         return Truffle.getRuntime().createCallTarget(evalRootNode);
     }
 
+    @Override
+    protected OptionDescriptors getOptionDescriptors() {
+        return new LanguageOptionDescriptors();
+    }
+
+    @Override
+    protected boolean areOptionsCompatible(OptionValues firstOptions, OptionValues newOptions) {
+        return firstOptions.get(OPTIMIZE).equals(newOptions.get(OPTIMIZE))
+                && firstOptions.get(DUMP_OPTIMIZATIONS).equals(newOptions.get(DUMP_OPTIMIZATIONS));
+    }
+
     @Override
     protected Context createContext(Env env) {
         return new Context(this, env);
@@ -66,4 +93,10 @@ public class Language extends TruffleLanguage<Context> {
     protected boolean isObjectOfLanguage(Object object) {
         return false;
     }
+
+    private static Optimizer createOptimizer(Context context) {
+        OptionValues options = context.getOptions();
+        PrintWriter dump = options.get(DUMP_OPTIMIZATIONS) ? context.getErrorOutput() : null;
+        return Optimizer.forLevel(options.get(OPTIMIZE), dump);
+    }
 }
@@ -22,7 +22,15 @@
 package com.github.sobolewskikamil.tuber.language.exception;
 
 import com.github.sobolewskikamil.tuber.language.node.type.ArrayType;
+import com.github.sobolewskikamil.tuber.language.node.type.BigIntegerType;
+import com.github.sobolewskikamil.tuber.language.node.type.BuilderType;
+import com.github.sobolewskikamil.tuber.language.node.type.DequeType;
+import com.github.sobolewskikamil.tuber.language.node.type.HeapType;
+import com.github.sobolewskikamil.tuber.language.node.type.MapType;
 import com.github.sobolewskikamil.tuber.language.node.type.NullType;
+import com.github.sobolewskikamil.tuber.language.node.type.RecordType;
+import com.github.sobolewskikamil.tuber.language.node.type.RopeType;
+import com.github.sobolewskikamil.tuber.language.node.type.TupleType;
 import com.github.sobolewskikamil.tuber.language.utils.NodeUtils;
 import com.oracle.truffle.api.TruffleException;
 import com.oracle.truffle.api.nodes.Node;
@@ -60,16 +68,28 @@ public class TuberException extends RuntimeException implements TruffleException
 
         StringJoiner stringJoiner = new StringJoiner(", ");
         for (Object value : arguments) {
-            if (value instanceof Long || value instanceof Double) {
+            if (value instanceof Long || value instanceof Double || value instanceof BigIntegerType) {
                 stringJoiner.add(String.format("Number %s", value));
             } else if (value instanceof Boolean) {
                 stringJoiner.add(String.format("Boolean %s", value));
-            } else if (value instanceof String) {
+            } else if (value instanceof String || value instanceof RopeType) {
                 stringJoiner.add(String.format("String \"%s\"", value));
             } else if (value == NullType.getInstance()) {
                 stringJoiner.add("NULL");
             } else if (value instanceof ArrayType) {
                 stringJoiner.add(String.format("Array %s", value));
+            } else if (value instanceof MapType) {
+                stringJoiner.add(String.format("Map %s", value));
+            } else if (value instanceof HeapType) {
+                stringJoiner.add(String.format("Heap %s", value));
+            } else if (value instanceof DequeType) {
+                stringJoiner.add(String.format("Deque %s", value));
+            } else if (value instanceof TupleType) {
+                stringJoiner.add(String.format("Tuple %s", value));
+            } else if (value instanceof BuilderType) {
+                stringJoiner.add(String.format("Builder \"%s\"", value));
+            } else if (RecordType.isRecord(value)) {
+                stringJoiner.add(String.format("Record %s", value));
             } else if (value == null) {
                 stringJoiner.add("ANY");
             } else {
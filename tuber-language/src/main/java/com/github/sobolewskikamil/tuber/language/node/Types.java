@@ -22,9 +22,36 @@
 package com.github.sobolewskikamil.tuber.language.node;
 
 import com.github.sobolewskikamil.tuber.language.node.type.ArrayType;
+import com.github.sobolewskikamil.tuber.language.node.type.BigIntegerType;
+import com.github.sobolewskikamil.tuber.language.node.type.BuilderType;
+import com.github.sobolewskikamil.tuber.language.node.type.DequeType;
+import com.github.sobolewskikamil.tuber.language.node.type.HeapType;
+import com.github.sobolewskikamil.tuber.language.node.type.MapType;
 import com.github.sobolewskikamil.tuber.language.node.type.NullType;
+import com.github.sobolewskikamil.tuber.language.node.type.RopeType;
+import com.github.sobolewskikamil.tuber.language.node.type.TupleType;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.ImplicitCast;
 import com.oracle.truffle.api.dsl.TypeSystem;
+import com.oracle.truffle.api.object.DynamicObject;
 
-@TypeSystem({long.class, double.class, boolean.class, String.class, NullType.class, ArrayType.class})
+@TypeSystem({long.class, double.class, boolean.class, String.class, RopeType.class, NullType.class, ArrayType.class,
+        MapType.class, BigIntegerType.class, HeapType.class, DequeType.class, TupleType.class, BuilderType.class, DynamicObject.class})
 public class Types {
+    @ImplicitCast
+    @TruffleBoundary
+    public static String castString(RopeType value) {
+        return value.toString();
+    }
+
+    @ImplicitCast
+    public static double castDouble(long value) {
+        return value;
+    }
+
+    @ImplicitCast
+    @TruffleBoundary
+    public static BigIntegerType castBigInteger(long value) {
+        return BigIntegerType.valueOf(value);
+    }
 }
@@ -23,7 +23,10 @@ package com.github.sobolewskikamil.tuber.language.node.expression;
 
 import com.oracle.truffle.api.dsl.NodeChild;
 import com.oracle.truffle.api.dsl.NodeChildren;
+import com.oracle.truffle.api.frame.VirtualFrame;
 
 @NodeChildren({@NodeChild("leftNode"), @NodeChild("rightChild")})
 public abstract class BinaryNode extends ExpressionNode {
+
+    public abstract Object executeEvaluated(VirtualFrame frame, Object left, Object right);
 }
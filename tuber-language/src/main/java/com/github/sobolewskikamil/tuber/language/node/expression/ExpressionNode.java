@@ -25,12 +25,19 @@ import com.github.sobolewskikamil.tuber.language.node.StatementNode;
 import com.github.sobolewskikamil.tuber.language.node.Types;
 import com.github.sobolewskikamil.tuber.language.node.TypesGen;
 import com.github.sobolewskikamil.tuber.language.node.type.ArrayType;
+import com.github.sobolewskikamil.tuber.language.node.type.BigIntegerType;
+import com.github.sobolewskikamil.tuber.language.node.type.BuilderType;
+import com.github.sobolewskikamil.tuber.language.node.type.DequeType;
+import com.github.sobolewskikamil.tuber.language.node.type.HeapType;
+import com.github.sobolewskikamil.tuber.language.node.type.MapType;
 import com.github.sobolewskikamil.tuber.language.node.type.NullType;
+import com.github.sobolewskikamil.tuber.language.node.type.TupleType;
 import com.oracle.truffle.api.dsl.TypeSystemReference;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.instrumentation.GenerateWrapper;
 import com.oracle.truffle.api.instrumentation.ProbeNode;
 import com.oracle.truffle.api.nodes.UnexpectedResultException;
+import com.oracle.truffle.api.object.DynamicObject;
 
 @TypeSystemReference(Types.class)
 @GenerateWrapper
@@ -71,4 +78,32 @@ public abstract class ExpressionNode extends StatementNode {
     public ArrayType executeArrayType(VirtualFrame frame) throws UnexpectedResultException {
         return TypesGen.expectArrayType(executeGeneric(frame));
     }
+
+    public MapType executeMapType(VirtualFrame frame) throws UnexpectedResultException {
+        return TypesGen.expectMapType(executeGeneric(frame));
+    }
+
+    public HeapType executeHeapType(VirtualFrame frame) throws UnexpectedResultException {
+        return TypesGen.expectHeapType(executeGeneric(frame));
+    }
+
+    public DequeType executeDequeType(VirtualFrame frame) throws UnexpectedResultException {
+        return TypesGen.expectDequeType(executeGeneric(frame));
+    }
+
+    public TupleType executeTupleType(VirtualFrame frame) throws UnexpectedResultException {
+        return TypesGen.expectTupleType(executeGeneric(frame));
+    }
+
+    public BigIntegerType executeBigIntegerType(VirtualFrame frame) throws UnexpectedResultException {
+        return TypesGen.expectBigIntegerType(executeGeneric(frame));
+    }
+
+    public BuilderType executeBuilderType(VirtualFrame frame) throws UnexpectedResultException {
+        return TypesGen.expectBuilderType(executeGeneric(frame));
+    }
+
+    public DynamicObject executeDynamicObject(VirtualFrame frame) throws UnexpectedResultException {
+        return TypesGen.expectDynamicObject(executeGeneric(frame));
+    }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.access;
+
+import com.github.sobolewskikamil.tuber.language.node.expression.arithmetic.MulNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.arithmetic.MulNodeGen;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.NodeInfo;
+
+@NodeInfo(shortName = "*=")
+public abstract class MultiplyLocalVariableNode extends UpdateLocalVariableNode {
+
+    @Specialization(guards = "isLong(frame)", rewriteOn = ArithmeticException.class)
+    protected long multiplyLong(VirtualFrame frame, long value) {
+        return writeLong(frame, Math.multiplyExact(readLong(frame), value));
+    }
+
+    @Specialization(replaces = "multiplyLong")
+    protected Object multiply(VirtualFrame frame, Object value,
+                              @Cached("createMul()") MulNode operation,
+                              @Cached("createWrite()") WriteLocalVariableNode write) {
+        return write.executeWrite(frame, operation.executeEvaluated(frame, readValue(frame), value));
+    }
+
+    protected static MulNode createMul() {
+        return MulNodeGen.create(null, null);
+    }
+}
@@ -24,12 +24,24 @@ package com.github.sobolewskikamil.tuber.language.node.expression.access;
 import com.github.sobolewskikamil.tuber.language.exception.TuberException;
 import com.github.sobolewskikamil.tuber.language.node.expression.ExpressionNode;
 import com.github.sobolewskikamil.tuber.language.node.type.ArrayType;
+import com.github.sobolewskikamil.tuber.language.node.type.DequeType;
+import com.github.sobolewskikamil.tuber.language.node.type.RopeType;
+import com.github.sobolewskikamil.tuber.language.node.type.TupleType;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.UnexpectedResultException;
+import com.oracle.truffle.api.profiles.BranchProfile;
 
+/**
+ * Reads an element of an array, deque or tuple. Indexing a string yields the code of the character as a
+ * {@code long}, so strings can be scanned without allocating a string per character.
+ */
 public class ReadArrayElementNode extends ExpressionNode {
-    private final ExpressionNode sourceNode;
-    private final ExpressionNode indexNode;
+    @Child
+    private ExpressionNode sourceNode;
+    @Child
+    private ExpressionNode indexNode;
+    private final BranchProfile outOfBounds = BranchProfile.create();
 
     public ReadArrayElementNode(ExpressionNode sourceNode, ExpressionNode indexNode) {
         this.sourceNode = sourceNode;
@@ -38,12 +50,47 @@ public class ReadArrayElementNode extends ExpressionNode {
 
     @Override
     public Object executeGeneric(VirtualFrame frame) {
+        Object source = sourceNode.executeGeneric(frame);
         try {
-            ArrayType arrayType = sourceNode.executeArrayType(frame);
-            int index = (int) indexNode.executeLong(frame);
-            return arrayType.get(index).orElseThrow(IllegalStateException::new);
+            long index = indexNode.executeLong(frame);
+            if (source instanceof RopeType) {
+                source = flatten((RopeType) source);
+            }
+            if (source instanceof String) {
+                String string = (String) source;
+                if (index >= 0 && index < string.length()) {
+                    return (long) string.charAt((int) index);
+                }
+                outOfBounds.enter();
+                throw TuberException.ofError(this, source, index);
+            }
+            if (source instanceof ArrayType) {
+                return ((ArrayType) source).get((int) index).orElseThrow(IllegalStateException::new);
+            }
+            if (source instanceof DequeType) {
+                DequeType deque = (DequeType) source;
+                if (index >= 0 && index < deque.size()) {
+                    return deque.get((int) index).get();
+                }
+                outOfBounds.enter();
+                throw TuberException.ofError(this, source, index);
+            }
+            if (source instanceof TupleType) {
+                TupleType tuple = (TupleType) source;
+                if (index >= 0 && index < tuple.size()) {
+                    return tuple.get((int) index);
+                }
+                outOfBounds.enter();
+                throw TuberException.ofError(this, source, index);
+            }
         } catch (UnexpectedResultException e) {
             throw TuberException.ofError(this);
         }
+        throw TuberException.ofError(this);
+    }
+
+    @TruffleBoundary
+    private static String flatten(RopeType rope) {
+        return rope.toString();
     }
 }
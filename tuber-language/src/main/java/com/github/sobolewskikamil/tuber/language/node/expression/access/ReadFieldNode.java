@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.access;
+
+import com.github.sobolewskikamil.tuber.language.exception.TuberException;
+import com.github.sobolewskikamil.tuber.language.node.expression.ExpressionNode;
+import com.github.sobolewskikamil.tuber.language.node.type.NullType;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Fallback;
+import com.oracle.truffle.api.dsl.NodeChild;
+import com.oracle.truffle.api.dsl.NodeField;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import com.oracle.truffle.api.object.DynamicObject;
+import com.oracle.truffle.api.object.Location;
+import com.oracle.truffle.api.object.Property;
+import com.oracle.truffle.api.object.Shape;
+
+@NodeInfo(shortName = ".")
+@NodeChild("receiverNode")
+@NodeField(name = "name", type = String.class)
+public abstract class ReadFieldNode extends ExpressionNode {
+    static final int CACHE_LIMIT = 3;
+
+    protected abstract String getName();
+
+    @Specialization(limit = "CACHE_LIMIT",
+            guards = "receiver.getShape() == cachedShape",
+            assumptions = "cachedShape.getValidAssumption()")
+    protected Object readCached(DynamicObject receiver,
+                                @Cached("receiver.getShape()") Shape cachedShape,
+                                @Cached("lookupLocation(cachedShape)") Location location) {
+        return location == null ? NullType.getInstance() : location.get(receiver, cachedShape);
+    }
+
+    @Specialization(replaces = "readCached")
+    @TruffleBoundary
+    protected Object readUncached(DynamicObject receiver) {
+        return receiver.get(getName(), NullType.getInstance());
+    }
+
+    @Fallback
+    protected Object typeError(Object receiver) {
+        throw TuberException.ofError(this, receiver);
+    }
+
+    protected Location lookupLocation(Shape shape) {
+        Property property = shape.getProperty(getName());
+        return property == null ? null : property.getLocation();
+    }
+}
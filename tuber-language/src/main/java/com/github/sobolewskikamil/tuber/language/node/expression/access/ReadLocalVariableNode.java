@@ -33,7 +33,7 @@ import com.oracle.truffle.api.frame.VirtualFrame;
 @NodeField(name = "slot", type = FrameSlot.class)
 public abstract class ReadLocalVariableNode extends ExpressionNode {
 
-    protected abstract FrameSlot getSlot();
+    public abstract FrameSlot getSlot();
 
     @Specialization(guards = "isLong(frame)")
     protected long readLong(VirtualFrame frame) {
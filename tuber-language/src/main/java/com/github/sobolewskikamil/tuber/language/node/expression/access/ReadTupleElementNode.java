@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.access;
+
+import com.github.sobolewskikamil.tuber.language.exception.TuberException;
+import com.github.sobolewskikamil.tuber.language.node.expression.ExpressionNode;
+import com.github.sobolewskikamil.tuber.language.node.type.TupleType;
+import com.oracle.truffle.api.dsl.Fallback;
+import com.oracle.truffle.api.dsl.NodeChild;
+import com.oracle.truffle.api.dsl.NodeField;
+import com.oracle.truffle.api.dsl.NodeFields;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.NodeInfo;
+
+/**
+ * Reads a single element of a tuple that is being destructured into {@code size} variables.
+ */
+@NodeInfo(shortName = "destructure")
+@NodeChild("tupleNode")
+@NodeFields({@NodeField(name = "index", type = int.class), @NodeField(name = "size", type = int.class)})
+public abstract class ReadTupleElementNode extends ExpressionNode {
+
+    protected abstract int getIndex();
+
+    protected abstract int getSize();
+
+    @Specialization(guards = "tuple.size() == getSize()")
+    protected Object read(TupleType tuple) {
+        return tuple.get(getIndex());
+    }
+
+    @Fallback
+    protected Object typeError(Object value) {
+        throw TuberException.ofError(this, value);
+    }
+}
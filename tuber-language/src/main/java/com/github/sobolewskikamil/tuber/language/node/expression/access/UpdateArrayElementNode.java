@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.access;
+
+import com.github.sobolewskikamil.tuber.language.exception.TuberException;
+import com.github.sobolewskikamil.tuber.language.node.expression.BinaryNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.ExpressionNode;
+import com.github.sobolewskikamil.tuber.language.node.type.ArrayType;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.UnexpectedResultException;
+import com.oracle.truffle.api.profiles.BranchProfile;
+
+/**
+ * Compound assignment to an array element, such as {@code a[i] += x}. The array and the index are evaluated once,
+ * and the element is combined with the value by the given operation. An index out of bounds or an element that was
+ * never assigned is reported as a language error.
+ */
+public class UpdateArrayElementNode extends ExpressionNode {
+    @Child
+    private ExpressionNode sourceNode;
+    @Child
+    private ExpressionNode indexNode;
+    @Child
+    private ExpressionNode valueNode;
+    @Child
+    private BinaryNode operationNode;
+    private final BranchProfile invalidElement = BranchProfile.create();
+
+    public UpdateArrayElementNode(ExpressionNode sourceNode, ExpressionNode indexNode, ExpressionNode valueNode,
+                                  BinaryNode operationNode) {
+        this.sourceNode = sourceNode;
+        this.indexNode = indexNode;
+        this.valueNode = valueNode;
+        this.operationNode = operationNode;
+    }
+
+    @Override
+    public Object executeGeneric(VirtualFrame frame) {
+        try {
+            ArrayType arrayType = sourceNode.executeArrayType(frame);
+            long index = indexNode.executeLong(frame);
+            if (index < 0 || index >= arrayType.length()) {
+                invalidElement.enter();
+                throw TuberException.ofError(this, arrayType, index);
+            }
+            Object current = arrayType.getValues()[(int) index];
+            if (current == null) {
+                invalidElement.enter();
+                throw TuberException.ofError(this, arrayType, index);
+            }
+            Object result = operationNode.executeEvaluated(frame, current, valueNode.executeGeneric(frame));
+            arrayType.add((int) index, result);
+            return result;
+        } catch (UnexpectedResultException e) {
+            throw TuberException.ofError(this);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.access;
+
+import com.github.sobolewskikamil.tuber.language.exception.TuberException;
+import com.github.sobolewskikamil.tuber.language.node.expression.ExpressionNode;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Fallback;
+import com.oracle.truffle.api.dsl.NodeChild;
+import com.oracle.truffle.api.dsl.NodeChildren;
+import com.oracle.truffle.api.dsl.NodeField;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import com.oracle.truffle.api.object.DynamicObject;
+import com.oracle.truffle.api.object.FinalLocationException;
+import com.oracle.truffle.api.object.IncompatibleLocationException;
+import com.oracle.truffle.api.object.Location;
+import com.oracle.truffle.api.object.Property;
+import com.oracle.truffle.api.object.Shape;
+
+@NodeInfo(shortName = ".=")
+@NodeChildren({@NodeChild("receiverNode"), @NodeChild("valueNode")})
+@NodeField(name = "name", type = String.class)
+public abstract class WriteFieldNode extends ExpressionNode {
+    static final int CACHE_LIMIT = 3;
+
+    protected abstract String getName();
+
+    @Specialization(limit = "CACHE_LIMIT",
+            guards = {"receiver.getShape() == cachedShape", "location != null", "location.canSet(value)"},
+            assumptions = "cachedShape.getValidAssumption()")
+    protected Object writeExisting(DynamicObject receiver, Object value,
+                                   @Cached("receiver.getShape()") Shape cachedShape,
+                                   @Cached("lookupLocation(cachedShape)") Location location) {
+        try {
+            location.set(receiver, value, cachedShape);
+        } catch (IncompatibleLocationException | FinalLocationException e) {
+            throw new IllegalStateException(e);
+        }
+        return value;
+    }
+
+    @Specialization(limit = "CACHE_LIMIT",
+            guards = {"receiver.getShape() == oldShape", "oldLocation == null", "newLocation.canStore(value)"},
+            assumptions = {"oldShape.getValidAssumption()", "newShape.getValidAssumption()"})
+    protected Object writeNew(DynamicObject receiver, Object value,
+                              @Cached("receiver.getShape()") Shape oldShape,
+                              @Cached("lookupLocation(oldShape)") Location oldLocation,
+                              @Cached("defineProperty(oldShape, value)") Shape newShape,
+                              @Cached("lookupLocation(newShape)") Location newLocation) {
+        try {
+            newLocation.set(receiver, value, oldShape, newShape);
+        } catch (IncompatibleLocationException e) {
+            throw new IllegalStateException(e);
+        }
+        return value;
+    }
+
+    @Specialization(replaces = {"writeExisting", "writeNew"})
+    @TruffleBoundary
+    protected Object writeUncached(DynamicObject receiver, Object value) {
+        receiver.define(getName(), value);
+        return value;
+    }
+
+    @Fallback
+    protected Object typeError(Object receiver, Object value) {
+        throw TuberException.ofError(this, receiver, value);
+    }
+
+    protected Location lookupLocation(Shape shape) {
+        Property property = shape.getProperty(getName());
+        return property == null ? null : property.getLocation();
+    }
+
+    protected Shape defineProperty(Shape shape, Object value) {
+        return shape.defineProperty(getName(), value, 0);
+    }
+}
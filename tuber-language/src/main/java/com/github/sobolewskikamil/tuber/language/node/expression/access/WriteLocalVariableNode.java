@@ -33,7 +33,11 @@ import com.oracle.truffle.api.frame.VirtualFrame;
 @NodeField(name = "slot", type = FrameSlot.class)
 public abstract class WriteLocalVariableNode extends ExpressionNode {
 
-    protected abstract FrameSlot getSlot();
+    public abstract FrameSlot getSlot();
+
+    public abstract Object executeWrite(VirtualFrame frame, Object value);
+
+    public abstract void executeWriteLong(VirtualFrame frame, long value);
 
     @Specialization(guards = "isLongOrIllegal(frame)")
     protected long writeLong(VirtualFrame frame, long value) {
@@ -42,6 +46,14 @@ public abstract class WriteLocalVariableNode extends ExpressionNode {
         return value;
     }
 
+    /**
+     * An integer written to a {@code double} slot is stored boxed, rather than being widened to {@code double}.
+     */
+    @Specialization(guards = "!isLongOrIllegal(frame)")
+    protected Object writeLongAsObject(VirtualFrame frame, long value) {
+        return write(frame, value);
+    }
+
     @Specialization(guards = "isDoubleOrIllegal(frame)")
     protected double writeDouble(VirtualFrame frame, double value) {
         frame.getFrameDescriptor().setFrameSlotKind(getSlot(), FrameSlotKind.Double);
@@ -56,7 +68,7 @@ public abstract class WriteLocalVariableNode extends ExpressionNode {
         return value;
     }
 
-    @Specialization(replaces = {"writeLong", "writeDouble", "writeBoolean"})
+    @Specialization(replaces = {"writeLong", "writeLongAsObject", "writeDouble", "writeBoolean"})
     protected Object write(VirtualFrame frame, Object value) {
         frame.getFrameDescriptor().setFrameSlotKind(getSlot(), FrameSlotKind.Object);
         frame.setObject(getSlot(), value);
@@ -24,6 +24,9 @@ package com.github.sobolewskikamil.tuber.language.node.expression.arithmetic;
 import com.github.sobolewskikamil.tuber.language.exception.TuberException;
 import com.github.sobolewskikamil.tuber.language.node.expression.BinaryNode;
 import com.github.sobolewskikamil.tuber.language.node.type.ArrayType;
+import com.github.sobolewskikamil.tuber.language.node.type.BigIntegerType;
+import com.github.sobolewskikamil.tuber.language.node.type.RopeType;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Fallback;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.nodes.NodeInfo;
@@ -32,11 +35,17 @@ import org.apache.commons.lang3.ArrayUtils;
 @NodeInfo(shortName = "+")
 public abstract class AddNode extends BinaryNode {
 
-    @Specialization
+    @Specialization(rewriteOn = ArithmeticException.class)
     long add(long left, long right) {
         return Math.addExact(left, right);
     }
 
+    @Specialization
+    @TruffleBoundary
+    Object add(BigIntegerType left, BigIntegerType right) {
+        return left.add(right);
+    }
+
     @Specialization
     double add(double left, double right) {
         return Double.sum(left, right);
@@ -47,13 +56,46 @@ public abstract class AddNode extends BinaryNode {
         return new ArrayType(ArrayUtils.addAll(left.getValues(), right.getValues()));
     }
 
+    @Specialization(guards = "isString(right)")
+    @TruffleBoundary
+    Object add(long left, Object right) {
+        return RopeType.concat(Long.toString(left), right);
+    }
+
+    @Specialization(guards = "isString(left)")
+    @TruffleBoundary
+    Object add(Object left, long right) {
+        return RopeType.concat(left, Long.toString(right));
+    }
+
+    @Specialization(guards = "isString(right)")
+    @TruffleBoundary
+    Object add(double left, Object right) {
+        return RopeType.concat(Double.toString(left), right);
+    }
+
+    @Specialization(guards = "isString(left)")
+    @TruffleBoundary
+    Object add(Object left, double right) {
+        return RopeType.concat(left, Double.toString(right));
+    }
+
     @Specialization(guards = "isAnyString(left, right)")
-    String add(Object left, Object right) {
-        return String.format("%s%s", left.toString(), right.toString());
+    @TruffleBoundary
+    Object add(Object left, Object right) {
+        return RopeType.concat(toPart(left), toPart(right));
+    }
+
+    boolean isString(Object value) {
+        return value instanceof String || value instanceof RopeType;
     }
 
     boolean isAnyString(Object first, Object second) {
-        return first instanceof String || second instanceof String;
+        return isString(first) || isString(second);
+    }
+
+    private Object toPart(Object value) {
+        return isString(value) ? value : value.toString();
     }
 
     @Fallback
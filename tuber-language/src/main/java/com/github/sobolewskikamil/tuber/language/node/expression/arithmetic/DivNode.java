@@ -23,6 +23,8 @@ package com.github.sobolewskikamil.tuber.language.node.expression.arithmetic;
 
 import com.github.sobolewskikamil.tuber.language.exception.TuberException;
 import com.github.sobolewskikamil.tuber.language.node.expression.BinaryNode;
+import com.github.sobolewskikamil.tuber.language.node.type.BigIntegerType;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Fallback;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.nodes.NodeInfo;
@@ -35,6 +37,12 @@ public abstract class DivNode extends BinaryNode {
         return ((double) left) / right;
     }
 
+    @Specialization
+    @TruffleBoundary
+    double div(BigIntegerType left, BigIntegerType right) {
+        return left.doubleValue() / right.doubleValue();
+    }
+
     @Specialization
     double div(double left, double right) {
         return left / right;
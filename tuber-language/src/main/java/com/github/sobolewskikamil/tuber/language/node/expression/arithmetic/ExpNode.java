@@ -23,16 +23,52 @@ package com.github.sobolewskikamil.tuber.language.node.expression.arithmetic;
 
 import com.github.sobolewskikamil.tuber.language.exception.TuberException;
 import com.github.sobolewskikamil.tuber.language.node.expression.BinaryNode;
+import com.github.sobolewskikamil.tuber.language.node.type.BigIntegerType;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Fallback;
 import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.ExplodeLoop;
 import com.oracle.truffle.api.nodes.NodeInfo;
 
+/**
+ * Integer powers are computed exactly by squaring. Overflow rewrites the node to big integers, and a negative
+ * exponent produces a {@code double}, like {@code /} does for integers.
+ */
 @NodeInfo(shortName = "^")
 public abstract class ExpNode extends BinaryNode {
+    static final int CACHE_LIMIT = 3;
+    static final long MAX_UNROLLED_EXPONENT = 64;
 
-    @Specialization
+    /**
+     * Exponents seen as constants, like in {@code x ^ 2}, are cached so the squaring loop is unrolled.
+     */
+    @Specialization(limit = "CACHE_LIMIT", rewriteOn = ArithmeticException.class,
+            guards = {"exponent == cachedExponent", "isUnrolled(cachedExponent)"})
+    long expCached(long base, long exponent, @Cached("exponent") long cachedExponent) {
+        return powUnrolled(base, cachedExponent);
+    }
+
+    @Specialization(guards = "exponent >= 0", replaces = "expCached", rewriteOn = ArithmeticException.class)
     long exp(long base, long exponent) {
-        return (long) Math.pow(base, exponent);
+        return pow(base, exponent);
+    }
+
+    @Specialization(guards = "exponent < 0")
+    double expNegative(long base, long exponent) {
+        return Math.pow(base, exponent);
+    }
+
+    @Specialization(guards = "isIntExponent(exponent)")
+    @TruffleBoundary
+    Object exp(BigIntegerType base, long exponent) {
+        return base.pow((int) exponent);
+    }
+
+    @Specialization(guards = "exponent < 0")
+    @TruffleBoundary
+    double expNegative(BigIntegerType base, long exponent) {
+        return Math.pow(base.doubleValue(), exponent);
     }
 
     @Specialization
@@ -40,6 +76,47 @@ public abstract class ExpNode extends BinaryNode {
         return Math.pow(base, exponent);
     }
 
+    boolean isUnrolled(long exponent) {
+        return exponent >= 0 && exponent <= MAX_UNROLLED_EXPONENT;
+    }
+
+    boolean isIntExponent(long exponent) {
+        return exponent >= 0 && exponent <= Integer.MAX_VALUE;
+    }
+
+    /**
+     * Squaring the base can only overflow when a higher bit of the exponent is still set, in which case the result
+     * would overflow as well, so every overflow is reported.
+     */
+    static long pow(long base, long exponent) {
+        long result = 1;
+        while (exponent > 0) {
+            if ((exponent & 1) != 0) {
+                result = Math.multiplyExact(result, base);
+            }
+            exponent >>= 1;
+            if (exponent > 0) {
+                base = Math.multiplyExact(base, base);
+            }
+        }
+        return result;
+    }
+
+    @ExplodeLoop
+    private static long powUnrolled(long base, long exponent) {
+        long result = 1;
+        while (exponent > 0) {
+            if ((exponent & 1) != 0) {
+                result = Math.multiplyExact(result, base);
+            }
+            exponent >>= 1;
+            if (exponent > 0) {
+                base = Math.multiplyExact(base, base);
+            }
+        }
+        return result;
+    }
+
     @Fallback
     Object typeError(Object left, Object right) {
         throw TuberException.ofError(this, left, right);
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.arithmetic;
+
+import com.github.sobolewskikamil.tuber.language.exception.TuberException;
+import com.github.sobolewskikamil.tuber.language.node.expression.BinaryNode;
+import com.github.sobolewskikamil.tuber.language.node.type.BigIntegerType;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Fallback;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.NodeInfo;
+
+/**
+ * Integer division rounding towards zero, so that {@code left == (left ~/ right) * right + left % right}.
+ */
+@NodeInfo(shortName = "~/")
+public abstract class IntDivNode extends BinaryNode {
+    static final int CACHE_LIMIT = 3;
+
+    /**
+     * Constant power of two divisors, like in {@code (lo + hi) ~/ 2}, are replaced by an arithmetic shift, biased
+     * for negative dividends so the result is still rounded towards zero.
+     */
+    @Specialization(limit = "CACHE_LIMIT", guards = {"right == cachedDivisor", "isPowerOfTwo(cachedDivisor)"})
+    long intDivCached(long left, long right,
+                      @Cached("right") long cachedDivisor,
+                      @Cached("shiftOf(right)") int shift) {
+        long bias = (left >> 63) >>> (64 - shift);
+        return (left + bias) >> shift;
+    }
+
+    @Specialization(guards = "right != 0", replaces = "intDivCached", rewriteOn = ArithmeticException.class)
+    long intDiv(long left, long right) {
+        if (right == -1) {
+            return Math.negateExact(left);
+        }
+        return left / right;
+    }
+
+    @Specialization(guards = "!right.isZero()")
+    @TruffleBoundary
+    Object intDiv(BigIntegerType left, BigIntegerType right) {
+        return left.divide(right);
+    }
+
+    boolean isPowerOfTwo(long divisor) {
+        return divisor > 1 && (divisor & (divisor - 1)) == 0;
+    }
+
+    int shiftOf(long divisor) {
+        return Long.numberOfTrailingZeros(divisor);
+    }
+
+    @Fallback
+    Object typeError(Object left, Object right) {
+        throw TuberException.ofError(this, left, right);
+    }
+}
@@ -23,6 +23,8 @@ package com.github.sobolewskikamil.tuber.language.node.expression.arithmetic;
 
 import com.github.sobolewskikamil.tuber.language.exception.TuberException;
 import com.github.sobolewskikamil.tuber.language.node.expression.BinaryNode;
+import com.github.sobolewskikamil.tuber.language.node.type.BigIntegerType;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Fallback;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.nodes.NodeInfo;
@@ -30,11 +32,25 @@ import com.oracle.truffle.api.nodes.NodeInfo;
 @NodeInfo(shortName = "%")
 public abstract class ModNode extends BinaryNode {
 
-    @Specialization
+    @Specialization(guards = "right != 0")
     long mod(long left, long right) {
         return left % right;
     }
 
+    /**
+     * Integer modulo by zero is an error, instead of falling through to {@code double} and returning {@code NaN}.
+     */
+    @Specialization(guards = "right == 0")
+    Object modByZero(long left, long right) {
+        throw TuberException.ofError(this, left, right);
+    }
+
+    @Specialization(guards = "!right.isZero()")
+    @TruffleBoundary
+    Object mod(BigIntegerType left, BigIntegerType right) {
+        return left.remainder(right);
+    }
+
     @Specialization
     double mod(double left, double right) {
         return left % right;
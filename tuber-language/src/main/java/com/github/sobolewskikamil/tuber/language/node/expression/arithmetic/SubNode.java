@@ -23,6 +23,8 @@ package com.github.sobolewskikamil.tuber.language.node.expression.arithmetic;
 
 import com.github.sobolewskikamil.tuber.language.exception.TuberException;
 import com.github.sobolewskikamil.tuber.language.node.expression.BinaryNode;
+import com.github.sobolewskikamil.tuber.language.node.type.BigIntegerType;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Fallback;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.nodes.NodeInfo;
@@ -30,11 +32,17 @@ import com.oracle.truffle.api.nodes.NodeInfo;
 @NodeInfo(shortName = "-")
 public abstract class SubNode extends BinaryNode {
 
-    @Specialization
+    @Specialization(rewriteOn = ArithmeticException.class)
     long sub(long left, long right) {
         return Math.subtractExact(left, right);
     }
 
+    @Specialization
+    @TruffleBoundary
+    Object sub(BigIntegerType left, BigIntegerType right) {
+        return left.subtract(right);
+    }
+
     @Specialization
     double sub(double left, double right) {
         return left - right;
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.builtin;
+
+import com.github.sobolewskikamil.tuber.language.exception.TuberException;
+import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Fallback;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.NodeInfo;
+
+@NodeInfo(shortName = "charAt")
+public abstract class CharAtBuiltinNode extends BuiltinNode {
+    private static final int CACHED_CHARACTERS = 128;
+
+    @CompilationFinal(dimensions = 1)
+    private static final String[] CHARACTERS = new String[CACHED_CHARACTERS];
+
+    static {
+        for (int i = 0; i < CACHED_CHARACTERS; i++) {
+            CHARACTERS[i] = String.valueOf((char) i).intern();
+        }
+    }
+
+    @Specialization(guards = "isInBounds(value, index)")
+    public String charAt(String value, long index) {
+        return toString(value.charAt((int) index));
+    }
+
+    boolean isInBounds(String value, long index) {
+        return index >= 0 && index < value.length();
+    }
+
+    static String toString(char character) {
+        return character < CACHED_CHARACTERS ? CHARACTERS[character] : createString(character);
+    }
+
+    @TruffleBoundary
+    private static String createString(char character) {
+        return String.valueOf(character);
+    }
+
+    @Fallback
+    Object typeError(Object value, Object index) {
+        throw TuberException.ofError(this, value, index);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.builtin;
+
+import com.github.sobolewskikamil.tuber.language.exception.TuberException;
+import com.github.sobolewskikamil.tuber.language.node.type.ArrayType;
+import com.github.sobolewskikamil.tuber.language.utils.FormatString;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Fallback;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.NodeInfo;
+
+/**
+ * Formats the remaining arguments according to the format string. Constant format strings are cached by identity,
+ * which holds for string literals, so they are parsed only once.
+ */
+@NodeInfo(shortName = "format")
+public abstract class FormatBuiltinNode extends BuiltinNode {
+    static final int CACHE_LIMIT = 3;
+
+    @Specialization(limit = "CACHE_LIMIT", guards = "format == cachedFormat")
+    public String formatCached(String format, ArrayType arguments,
+                               @Cached("format") String cachedFormat,
+                               @Cached("parseFormat(format)") FormatString formatString) {
+        return doFormat(formatString, format, arguments);
+    }
+
+    @Specialization(replaces = "formatCached")
+    public String format(String format, ArrayType arguments) {
+        return doFormat(parseFormat(format), format, arguments);
+    }
+
+    /**
+     * Returns {@code null} for an invalid format, so that the error is reported when the format is applied.
+     */
+    @TruffleBoundary
+    static FormatString parseFormat(String format) {
+        try {
+            return FormatString.parse(format);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @TruffleBoundary
+    private String doFormat(FormatString formatString, String format, ArrayType arguments) {
+        if (formatString == null) {
+            throw TuberException.ofError(this, format, arguments);
+        }
+        try {
+            return formatString.format(arguments.getValues());
+        } catch (IllegalArgumentException e) {
+            throw TuberException.ofError(this, format, arguments);
+        }
+    }
+
+    @Fallback
+    Object typeError(Object format, Object arguments) {
+        throw TuberException.ofError(this, format, arguments);
+    }
+}
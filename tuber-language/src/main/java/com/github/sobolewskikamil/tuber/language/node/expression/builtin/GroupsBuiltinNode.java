@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.builtin;
+
+import com.github.sobolewskikamil.tuber.language.exception.TuberException;
+import com.github.sobolewskikamil.tuber.language.node.type.ArrayType;
+import com.github.sobolewskikamil.tuber.language.node.type.NullType;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Fallback;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.NodeInfo;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Returns an array with the whole first match of the pattern followed by its groups, or {@code null} when there is
+ * no match. Groups which did not participate in the match are {@code null}.
+ */
+@NodeInfo(shortName = "groups")
+public abstract class GroupsBuiltinNode extends RegexBuiltinNode {
+    @Specialization(limit = "CACHE_LIMIT", guards = "regex == cachedRegex")
+    public Object groupsCached(String value, String regex,
+                               @Cached("regex") String cachedRegex,
+                               @Cached("compilePattern(regex)") Pattern pattern) {
+        return doGroups(checkPattern(pattern, value, regex), value);
+    }
+
+    @Specialization(replaces = "groupsCached")
+    public Object groups(String value, String regex) {
+        return doGroups(checkPattern(lookup(regex), value, regex), value);
+    }
+
+    @TruffleBoundary
+    private static Object doGroups(Pattern pattern, String value) {
+        Matcher matcher = pattern.matcher(value);
+        if (!matcher.find()) {
+            return NullType.getInstance();
+        }
+        Object[] groups = new Object[matcher.groupCount() + 1];
+        for (int i = 0; i < groups.length; i++) {
+            String group = matcher.group(i);
+            groups[i] = group == null ? NullType.getInstance() : group;
+        }
+        return new ArrayType(groups);
+    }
+
+    @Fallback
+    Object typeError(Object value, Object regex) {
+        throw TuberException.ofError(this, value, regex);
+    }
+}
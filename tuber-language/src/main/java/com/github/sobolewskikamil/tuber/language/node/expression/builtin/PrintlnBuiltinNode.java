@@ -22,10 +22,13 @@
 package com.github.sobolewskikamil.tuber.language.node.expression.builtin;
 
 import com.github.sobolewskikamil.tuber.language.node.type.ArrayType;
+import com.github.sobolewskikamil.tuber.language.node.type.BuilderType;
+import com.github.sobolewskikamil.tuber.language.node.type.MapType;
 import com.github.sobolewskikamil.tuber.language.node.type.NullType;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.nodes.NodeInfo;
+import com.oracle.truffle.api.object.DynamicObject;
 
 import java.io.PrintWriter;
 
@@ -61,6 +64,22 @@ public abstract class PrintlnBuiltinNode extends BuiltinNode {
         out.println(value);
     }
 
+    @TruffleBoundary
+    private static void doPrint(PrintWriter out, MapType value) {
+        out.println(value);
+    }
+
+    @TruffleBoundary
+    private static void doPrint(PrintWriter out, BuilderType value) {
+        value.writeTo(out);
+        out.println();
+    }
+
+    @TruffleBoundary
+    private static void doPrint(PrintWriter out, DynamicObject value) {
+        out.println(value);
+    }
+
     @TruffleBoundary
     private static void doPrint(PrintWriter out, Object value) {
         out.println(value);
@@ -102,6 +121,24 @@ public abstract class PrintlnBuiltinNode extends BuiltinNode {
         return value;
     }
 
+    @Specialization
+    public MapType println(MapType value) {
+        doPrint(getContext().getOutput(), value);
+        return value;
+    }
+
+    @Specialization
+    public BuilderType println(BuilderType value) {
+        doPrint(getContext().getOutput(), value);
+        return value;
+    }
+
+    @Specialization
+    public DynamicObject println(DynamicObject value) {
+        doPrint(getContext().getOutput(), value);
+        return value;
+    }
+
     @Specialization
     public Object println(Object value) {
         doPrint(getContext().getOutput(), value);
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.builtin;
+
+import com.github.sobolewskikamil.tuber.language.exception.TuberException;
+import com.github.sobolewskikamil.tuber.language.runtime.PatternCache;
+
+import java.util.regex.Pattern;
+
+/**
+ * Base for builtins taking a regular expression. Constant patterns are compiled once and cached in the node by
+ * identity, which holds for string literals; other patterns are looked up in the {@link PatternCache} of the context.
+ */
+public abstract class RegexBuiltinNode extends BuiltinNode {
+    static final int CACHE_LIMIT = 3;
+
+    static Pattern compilePattern(String regex) {
+        return PatternCache.compile(regex);
+    }
+
+    Pattern lookup(String regex) {
+        return getContext().getPatternCache().get(regex);
+    }
+
+    /**
+     * Throws a type error for an invalid pattern, for which {@code null} was cached.
+     */
+    Pattern checkPattern(Pattern pattern, Object... arguments) {
+        if (pattern == null) {
+            throw TuberException.ofError(this, arguments);
+        }
+        return pattern;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.builtin;
+
+import com.github.sobolewskikamil.tuber.language.exception.TuberException;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Fallback;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.NodeInfo;
+
+import java.util.regex.Pattern;
+
+@NodeInfo(shortName = "replaceAll")
+public abstract class ReplaceAllBuiltinNode extends RegexBuiltinNode {
+    @Specialization(limit = "CACHE_LIMIT", guards = "regex == cachedRegex")
+    public String replaceAllCached(String value, String regex, String replacement,
+                                   @Cached("regex") String cachedRegex,
+                                   @Cached("compilePattern(regex)") Pattern pattern) {
+        return doReplaceAll(checkPattern(pattern, value, regex, replacement), value, regex, replacement);
+    }
+
+    @Specialization(replaces = "replaceAllCached")
+    public String replaceAll(String value, String regex, String replacement) {
+        return doReplaceAll(checkPattern(lookup(regex), value, regex, replacement), value, regex, replacement);
+    }
+
+    @TruffleBoundary
+    private String doReplaceAll(Pattern pattern, String value, String regex, String replacement) {
+        try {
+            return pattern.matcher(value).replaceAll(replacement);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw TuberException.ofError(this, value, regex, replacement);
+        }
+    }
+
+    @Fallback
+    Object typeError(Object value, Object regex, Object replacement) {
+        throw TuberException.ofError(this, value, regex, replacement);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.builtin;
+
+import com.github.sobolewskikamil.tuber.language.exception.TuberException;
+import com.github.sobolewskikamil.tuber.language.node.type.ArrayType;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Fallback;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.NodeInfo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a string on every occurrence of a separator, keeping empty tokens. Constant single-character separators
+ * are cached by identity, which holds for string literals, and searched for as characters. An empty separator
+ * splits the string into its characters.
+ */
+@NodeInfo(shortName = "split")
+public abstract class SplitBuiltinNode extends BuiltinNode {
+    static final int CACHE_LIMIT = 3;
+
+    @Specialization(limit = "CACHE_LIMIT",
+            guards = {"separator == cachedSeparator", "cachedSeparator.length() == 1"})
+    public ArrayType splitCached(String value, String separator,
+                                 @Cached("separator") String cachedSeparator,
+                                 @Cached("separator.charAt(0)") char character) {
+        return splitOnCharacter(value, character);
+    }
+
+    @Specialization(guards = "!separator.isEmpty()", replaces = "splitCached")
+    @TruffleBoundary
+    public ArrayType split(String value, String separator) {
+        if (separator.length() == 1) {
+            return splitOnCharacter(value, separator.charAt(0));
+        }
+        List<Object> tokens = new ArrayList<>();
+        int start = 0;
+        int end;
+        while ((end = value.indexOf(separator, start)) >= 0) {
+            tokens.add(value.substring(start, end));
+            start = end + separator.length();
+        }
+        tokens.add(value.substring(start));
+        return new ArrayType(tokens.toArray());
+    }
+
+    @Specialization(guards = "separator.isEmpty()")
+    @TruffleBoundary
+    public ArrayType splitCharacters(String value, String separator) {
+        Object[] characters = new Object[value.length()];
+        for (int i = 0; i < characters.length; i++) {
+            characters[i] = CharAtBuiltinNode.toString(value.charAt(i));
+        }
+        return new ArrayType(characters);
+    }
+
+    @TruffleBoundary
+    private static ArrayType splitOnCharacter(String value, char separator) {
+        List<Object> tokens = new ArrayList<>();
+        int start = 0;
+        int end;
+        while ((end = value.indexOf(separator, start)) >= 0) {
+            tokens.add(value.substring(start, end));
+            start = end + 1;
+        }
+        tokens.add(value.substring(start));
+        return new ArrayType(tokens.toArray());
+    }
+
+    @Fallback
+    Object typeError(Object value, Object separator) {
+        throw TuberException.ofError(this, value, separator);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.builtin;
+
+import com.github.sobolewskikamil.tuber.language.exception.TuberException;
+import com.github.sobolewskikamil.tuber.language.node.type.ArrayType;
+import com.github.sobolewskikamil.tuber.language.utils.CharacterMatcher;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Fallback;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.NodeInfo;
+
+/**
+ * Splits a string on runs of any of the delimiter characters, skipping empty tokens. The matcher for constant
+ * delimiters is compiled once per node.
+ */
+@NodeInfo(shortName = "tokenize")
+public abstract class TokenizeBuiltinNode extends BuiltinNode {
+    static final int CACHE_LIMIT = 3;
+
+    @Specialization(limit = "CACHE_LIMIT", guards = "delimiters == cachedDelimiters")
+    public ArrayType tokenizeCached(String value, String delimiters,
+                                    @Cached("delimiters") String cachedDelimiters,
+                                    @Cached("createMatcher(delimiters)") CharacterMatcher matcher) {
+        return doTokenize(value, matcher);
+    }
+
+    @Specialization(replaces = "tokenizeCached")
+    @TruffleBoundary
+    public ArrayType tokenize(String value, String delimiters) {
+        return CharacterMatcher.of(delimiters).tokenize(value);
+    }
+
+    @TruffleBoundary
+    static CharacterMatcher createMatcher(String delimiters) {
+        return CharacterMatcher.of(delimiters);
+    }
+
+    @TruffleBoundary
+    private static ArrayType doTokenize(String value, CharacterMatcher matcher) {
+        return matcher.tokenize(value);
+    }
+
+    @Fallback
+    Object typeError(Object value, Object delimiters) {
+        throw TuberException.ofError(this, value, delimiters);
+    }
+}
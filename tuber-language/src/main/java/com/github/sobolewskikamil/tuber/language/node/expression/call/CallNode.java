@@ -24,26 +24,30 @@ package com.github.sobolewskikamil.tuber.language.node.expression.call;
 import com.github.sobolewskikamil.tuber.language.node.expression.ExpressionNode;
 import com.oracle.truffle.api.RootCallTarget;
 import com.oracle.truffle.api.frame.VirtualFrame;
-
-import java.util.Arrays;
+import com.oracle.truffle.api.nodes.ExplodeLoop;
 
 public class CallNode extends ExpressionNode {
     @Child
     private ExpressionNode functionNode;
     @Children
     private ExpressionNode[] argumentNodes;
+    @Child
+    private DispatchNode dispatchNode;
 
     public CallNode(ExpressionNode functionNode, ExpressionNode[] argumentNodes) {
         this.functionNode = functionNode;
         this.argumentNodes = argumentNodes;
+        this.dispatchNode = DispatchNodeGen.create();
     }
 
     @Override
+    @ExplodeLoop
     public Object executeGeneric(VirtualFrame frame) {
         Object function = functionNode.executeGeneric(frame);
-        Object[] arguments = Arrays.stream(argumentNodes)
-                .map(n -> n.executeGeneric(frame))
-                .toArray();
-        return ((RootCallTarget) function).call(arguments);
+        Object[] arguments = new Object[argumentNodes.length];
+        for (int i = 0; i < argumentNodes.length; i++) {
+            arguments[i] = argumentNodes[i].executeGeneric(frame);
+        }
+        return dispatchNode.executeDispatch((RootCallTarget) function, arguments);
     }
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.call;
+
+import com.oracle.truffle.api.RootCallTarget;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.DirectCallNode;
+import com.oracle.truffle.api.nodes.IndirectCallNode;
+import com.oracle.truffle.api.nodes.Node;
+
+/**
+ * Calls a function through a {@link DirectCallNode} cached per call target, so that a hot call site can be
+ * inlined and values created by the callee, such as returned tuples, do not escape. Call sites that see more
+ * targets than the cache holds fall back to an {@link IndirectCallNode}.
+ */
+public abstract class DispatchNode extends Node {
+    static final int CACHE_LIMIT = 2;
+
+    public abstract Object executeDispatch(RootCallTarget callTarget, Object[] arguments);
+
+    @Specialization(limit = "CACHE_LIMIT", guards = "callTarget == cachedCallTarget")
+    protected Object callDirect(RootCallTarget callTarget, Object[] arguments,
+                                @Cached("callTarget") RootCallTarget cachedCallTarget,
+                                @Cached("create(cachedCallTarget)") DirectCallNode callNode) {
+        return callNode.call(arguments);
+    }
+
+    @Specialization(replaces = "callDirect")
+    protected Object callIndirect(RootCallTarget callTarget, Object[] arguments,
+                                  @Cached("create()") IndirectCallNode callNode) {
+        return callNode.call(callTarget, arguments);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.flowcontrol;
+
+import com.github.sobolewskikamil.tuber.language.node.StatementNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.ExpressionNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.flowcontrol.exception.BreakException;
+import com.github.sobolewskikamil.tuber.language.node.expression.flowcontrol.exception.ContinueException;
+import com.oracle.truffle.api.dsl.UnsupportedSpecializationException;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.nodes.RepeatingNode;
+import com.oracle.truffle.api.nodes.UnexpectedResultException;
+
+/**
+ * Iteration of a {@code for (init; condition; update)} loop. The update also runs after {@code continue}.
+ */
+public class ForRepeatingNode extends Node implements RepeatingNode {
+    @Child
+    private ExpressionNode conditionNode;
+    @Child
+    private StatementNode updateNode;
+    @Child
+    private StatementNode bodyNode;
+
+    ForRepeatingNode(ExpressionNode conditionNode, StatementNode updateNode, StatementNode bodyNode) {
+        this.conditionNode = conditionNode;
+        this.updateNode = updateNode;
+        this.bodyNode = bodyNode;
+    }
+
+    @Override
+    public boolean executeRepeating(VirtualFrame frame) {
+        if (!evaluateCondition(frame)) {
+            return false;
+        }
+        try {
+            bodyNode.executeVoid(frame);
+        } catch (BreakException e) {
+            return false;
+        } catch (ContinueException e) {
+            // the update below starts the next iteration
+        }
+        updateNode.executeVoid(frame);
+        return true;
+    }
+
+    private boolean evaluateCondition(VirtualFrame frame) {
+        try {
+            return conditionNode.executeBoolean(frame);
+        } catch (UnexpectedResultException e) {
+            throw new UnsupportedSpecializationException(this, new Node[]{conditionNode}, e.getResult());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.flowcontrol;
+
+import com.github.sobolewskikamil.tuber.language.exception.TuberException;
+import com.github.sobolewskikamil.tuber.language.node.StatementNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.ExpressionNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.access.WriteLocalVariableNode;
+import com.oracle.truffle.api.Truffle;
+import com.oracle.truffle.api.frame.FrameSlot;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.LoopNode;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import com.oracle.truffle.api.nodes.UnexpectedResultException;
+
+/**
+ * Counted loop {@code for i in start..end}, which runs the body for each integer from {@code start} inclusive to
+ * {@code end} exclusive. Both bounds are evaluated once, before the first iteration, and kept in {@code long} frame
+ * slots of their own, so assignments to the loop variable in the body do not change the number of iterations.
+ */
+@NodeInfo(shortName = "for")
+public class RangeForNode extends StatementNode {
+    @Child
+    private ExpressionNode startNode;
+    @Child
+    private ExpressionNode endNode;
+    @Child
+    private LoopNode loopNode;
+    private final FrameSlot counterSlot;
+    private final FrameSlot endSlot;
+
+    public RangeForNode(ExpressionNode startNode, ExpressionNode endNode, FrameSlot counterSlot, FrameSlot endSlot,
+                        WriteLocalVariableNode writeIndexNode, StatementNode bodyNode) {
+        this.startNode = startNode;
+        this.endNode = endNode;
+        this.counterSlot = counterSlot;
+        this.endSlot = endSlot;
+        this.loopNode = Truffle.getRuntime().createLoopNode(
+                new RangeRepeatingNode(counterSlot, endSlot, writeIndexNode, bodyNode));
+    }
+
+    @Override
+    public void executeVoid(VirtualFrame frame) {
+        frame.setLong(counterSlot, evaluateBound(startNode, frame));
+        frame.setLong(endSlot, evaluateBound(endNode, frame));
+        loopNode.executeLoop(frame);
+    }
+
+    private long evaluateBound(ExpressionNode boundNode, VirtualFrame frame) {
+        try {
+            return boundNode.executeLong(frame);
+        } catch (UnexpectedResultException e) {
+            throw TuberException.ofError(this, e.getResult());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.flowcontrol;
+
+import com.github.sobolewskikamil.tuber.language.node.StatementNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.access.WriteLocalVariableNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.flowcontrol.exception.BreakException;
+import com.github.sobolewskikamil.tuber.language.node.expression.flowcontrol.exception.ContinueException;
+import com.oracle.truffle.api.frame.FrameSlot;
+import com.oracle.truffle.api.frame.FrameUtil;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.nodes.RepeatingNode;
+
+public class RangeRepeatingNode extends Node implements RepeatingNode {
+    private final FrameSlot counterSlot;
+    private final FrameSlot endSlot;
+    @Child
+    private WriteLocalVariableNode writeIndexNode;
+    @Child
+    private StatementNode bodyNode;
+
+    RangeRepeatingNode(FrameSlot counterSlot, FrameSlot endSlot, WriteLocalVariableNode writeIndexNode,
+                       StatementNode bodyNode) {
+        this.counterSlot = counterSlot;
+        this.endSlot = endSlot;
+        this.writeIndexNode = writeIndexNode;
+        this.bodyNode = bodyNode;
+    }
+
+    @Override
+    public boolean executeRepeating(VirtualFrame frame) {
+        long counter = FrameUtil.getLongSafe(frame, counterSlot);
+        if (counter >= FrameUtil.getLongSafe(frame, endSlot)) {
+            return false;
+        }
+        frame.setLong(counterSlot, counter + 1);
+        writeIndexNode.executeWriteLong(frame, counter);
+        try {
+            bodyNode.executeVoid(frame);
+            return true;
+        } catch (BreakException e) {
+            return false;
+        } catch (ContinueException e) {
+            return true;
+        }
+    }
+}
@@ -24,10 +24,18 @@ package com.github.sobolewskikamil.tuber.language.node.expression.logical;
 import com.github.sobolewskikamil.tuber.language.exception.TuberException;
 import com.github.sobolewskikamil.tuber.language.node.expression.BinaryNode;
 import com.github.sobolewskikamil.tuber.language.node.type.ArrayType;
+import com.github.sobolewskikamil.tuber.language.node.type.BigIntegerType;
+import com.github.sobolewskikamil.tuber.language.node.type.BuilderType;
+import com.github.sobolewskikamil.tuber.language.node.type.DequeType;
+import com.github.sobolewskikamil.tuber.language.node.type.HeapType;
+import com.github.sobolewskikamil.tuber.language.node.type.MapType;
 import com.github.sobolewskikamil.tuber.language.node.type.NullType;
+import com.github.sobolewskikamil.tuber.language.node.type.TupleType;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Fallback;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.nodes.NodeInfo;
+import com.oracle.truffle.api.object.DynamicObject;
 
 import java.util.Objects;
 
@@ -39,6 +47,12 @@ public abstract class EqualNode extends BinaryNode {
         return left == right;
     }
 
+    @Specialization
+    @TruffleBoundary
+    boolean equal(BigIntegerType left, BigIntegerType right) {
+        return left.equals(right);
+    }
+
     @Specialization
     boolean equal(double left, double right) {
         return Double.compare(left, right) == 0;
@@ -51,7 +65,7 @@ public abstract class EqualNode extends BinaryNode {
 
     @Specialization
     boolean equal(String left, String right) {
-        return Objects.equals(left, right);
+        return equalStrings(left, right);
     }
 
     @Specialization
@@ -64,11 +78,49 @@ public abstract class EqualNode extends BinaryNode {
         return left.equals(right);
     }
 
+    @Specialization
+    boolean equal(MapType left, MapType right) {
+        return left.equals(right);
+    }
+
+    @Specialization
+    boolean equal(TupleType left, TupleType right) {
+        return left.equals(right);
+    }
+
+    @Specialization
+    boolean equal(HeapType left, HeapType right) {
+        return left == right;
+    }
+
+    @Specialization
+    boolean equal(DequeType left, DequeType right) {
+        return left == right;
+    }
+
+    @Specialization
+    boolean equal(BuilderType left, BuilderType right) {
+        return left == right;
+    }
+
+    @Specialization
+    boolean equal(DynamicObject left, DynamicObject right) {
+        return left == right;
+    }
+
     @Specialization(guards = "areDifferentClasses(left, right)")
     boolean equal(Object left, Object right) {
         return Objects.equals(left, right);
     }
 
+    /**
+     * Compares strings by identity first, which succeeds immediately for interned literals, then by their cached
+     * hash codes, so that different strings are usually rejected without comparing their contents.
+     */
+    static boolean equalStrings(String left, String right) {
+        return left == right || left.hashCode() == right.hashCode() && left.equals(right);
+    }
+
     boolean areDifferentClasses(Object left, Object right) {
         return left.getClass() != right.getClass();
     }
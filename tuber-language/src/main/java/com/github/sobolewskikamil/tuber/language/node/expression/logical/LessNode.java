@@ -23,6 +23,8 @@ package com.github.sobolewskikamil.tuber.language.node.expression.logical;
 
 import com.github.sobolewskikamil.tuber.language.exception.TuberException;
 import com.github.sobolewskikamil.tuber.language.node.expression.BinaryNode;
+import com.github.sobolewskikamil.tuber.language.node.type.BigIntegerType;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Fallback;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.nodes.NodeInfo;
@@ -35,6 +37,12 @@ public abstract class LessNode extends BinaryNode {
         return left < right;
     }
 
+    @Specialization
+    @TruffleBoundary
+    boolean less(BigIntegerType left, BigIntegerType right) {
+        return left.compareTo(right) < 0;
+    }
+
     @Specialization
     boolean less(double left, double right) {
         return Double.compare(left, right) < 0;
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.logical;
+
+import com.github.sobolewskikamil.tuber.language.node.expression.ExpressionNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.access.ReadLocalVariableNodeGen;
+import com.github.sobolewskikamil.tuber.language.node.expression.literal.LongLiteralNode;
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.frame.FrameSlot;
+import com.oracle.truffle.api.frame.FrameSlotKind;
+import com.oracle.truffle.api.frame.FrameUtil;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.UnexpectedResultException;
+
+/**
+ * Comparison of a local variable with another local variable or with a {@code long} constant, which reads the
+ * operands straight from {@code long} frame slots instead of executing separate read nodes. When either slot holds
+ * a value of another kind, the node rewrites itself to the equivalent generic comparison.
+ */
+public abstract class LocalComparisonNode extends ExpressionNode {
+    private final FrameSlot leftSlot;
+    private final FrameSlot rightSlot;
+    private final long rightConstant;
+
+    protected LocalComparisonNode(FrameSlot leftSlot, FrameSlot rightSlot) {
+        this(leftSlot, rightSlot, 0);
+    }
+
+    protected LocalComparisonNode(FrameSlot leftSlot, long rightConstant) {
+        this(leftSlot, null, rightConstant);
+    }
+
+    private LocalComparisonNode(FrameSlot leftSlot, FrameSlot rightSlot, long rightConstant) {
+        this.leftSlot = leftSlot;
+        this.rightSlot = rightSlot;
+        this.rightConstant = rightConstant;
+    }
+
+    protected abstract boolean compare(long left, long right);
+
+    protected abstract ExpressionNode createGenericNode(ExpressionNode leftNode, ExpressionNode rightNode);
+
+    @Override
+    public Object executeGeneric(VirtualFrame frame) {
+        if (isLong(frame, leftSlot) && (rightSlot == null || isLong(frame, rightSlot))) {
+            return compare(FrameUtil.getLongSafe(frame, leftSlot), readRight(frame));
+        }
+        return rewriteToGeneric().executeGeneric(frame);
+    }
+
+    @Override
+    public boolean executeBoolean(VirtualFrame frame) throws UnexpectedResultException {
+        if (isLong(frame, leftSlot) && (rightSlot == null || isLong(frame, rightSlot))) {
+            return compare(FrameUtil.getLongSafe(frame, leftSlot), readRight(frame));
+        }
+        return rewriteToGeneric().executeBoolean(frame);
+    }
+
+    private long readRight(VirtualFrame frame) {
+        return rightSlot == null ? rightConstant : FrameUtil.getLongSafe(frame, rightSlot);
+    }
+
+    private ExpressionNode rewriteToGeneric() {
+        CompilerDirectives.transferToInterpreterAndInvalidate();
+        ExpressionNode rightNode = rightSlot == null
+                ? new LongLiteralNode(rightConstant)
+                : ReadLocalVariableNodeGen.create(rightSlot);
+        return replace(createGenericNode(ReadLocalVariableNodeGen.create(leftSlot), rightNode));
+    }
+
+    private static boolean isLong(VirtualFrame frame, FrameSlot slot) {
+        return frame.getFrameDescriptor().getFrameSlotKind(slot) == FrameSlotKind.Long;
+    }
+}
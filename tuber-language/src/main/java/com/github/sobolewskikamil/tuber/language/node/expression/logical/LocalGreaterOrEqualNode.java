@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.logical;
+
+import com.github.sobolewskikamil.tuber.language.node.expression.ExpressionNode;
+import com.oracle.truffle.api.frame.FrameSlot;
+import com.oracle.truffle.api.nodes.NodeInfo;
+
+@NodeInfo(shortName = ">=")
+public class LocalGreaterOrEqualNode extends LocalComparisonNode {
+
+    public LocalGreaterOrEqualNode(FrameSlot leftSlot, FrameSlot rightSlot) {
+        super(leftSlot, rightSlot);
+    }
+
+    public LocalGreaterOrEqualNode(FrameSlot leftSlot, long rightConstant) {
+        super(leftSlot, rightConstant);
+    }
+
+    @Override
+    protected boolean compare(long left, long right) {
+        return left >= right;
+    }
+
+    @Override
+    protected ExpressionNode createGenericNode(ExpressionNode leftNode, ExpressionNode rightNode) {
+        return GreaterOrEqualNodeGen.create(leftNode, rightNode);
+    }
+}
@@ -24,10 +24,18 @@ package com.github.sobolewskikamil.tuber.language.node.expression.logical;
 import com.github.sobolewskikamil.tuber.language.exception.TuberException;
 import com.github.sobolewskikamil.tuber.language.node.expression.BinaryNode;
 import com.github.sobolewskikamil.tuber.language.node.type.ArrayType;
+import com.github.sobolewskikamil.tuber.language.node.type.BigIntegerType;
+import com.github.sobolewskikamil.tuber.language.node.type.BuilderType;
+import com.github.sobolewskikamil.tuber.language.node.type.DequeType;
+import com.github.sobolewskikamil.tuber.language.node.type.HeapType;
+import com.github.sobolewskikamil.tuber.language.node.type.MapType;
 import com.github.sobolewskikamil.tuber.language.node.type.NullType;
+import com.github.sobolewskikamil.tuber.language.node.type.TupleType;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Fallback;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.nodes.NodeInfo;
+import com.oracle.truffle.api.object.DynamicObject;
 
 import java.util.Objects;
 
@@ -39,6 +47,12 @@ public abstract class NotEqualNode extends BinaryNode {
         return left != right;
     }
 
+    @Specialization
+    @TruffleBoundary
+    boolean notEqual(BigIntegerType left, BigIntegerType right) {
+        return !left.equals(right);
+    }
+
     @Specialization
     boolean notEqual(double left, double right) {
         return Double.compare(left, right) != 0;
@@ -51,7 +65,7 @@ public abstract class NotEqualNode extends BinaryNode {
 
     @Specialization
     boolean notEqual(String left, String right) {
-        return !Objects.equals(left, right);
+        return !EqualNode.equalStrings(left, right);
     }
 
     @Specialization
@@ -64,6 +78,36 @@ public abstract class NotEqualNode extends BinaryNode {
         return !left.equals(right);
     }
 
+    @Specialization
+    boolean notEqual(MapType left, MapType right) {
+        return !left.equals(right);
+    }
+
+    @Specialization
+    boolean notEqual(TupleType left, TupleType right) {
+        return !left.equals(right);
+    }
+
+    @Specialization
+    boolean notEqual(HeapType left, HeapType right) {
+        return left != right;
+    }
+
+    @Specialization
+    boolean notEqual(DequeType left, DequeType right) {
+        return left != right;
+    }
+
+    @Specialization
+    boolean notEqual(BuilderType left, BuilderType right) {
+        return left != right;
+    }
+
+    @Specialization
+    boolean notEqual(DynamicObject left, DynamicObject right) {
+        return left != right;
+    }
+
     @Specialization(guards = "areDifferentClasses(left, right)")
     boolean notEqual(Object left, Object right) {
         return !Objects.equals(left, right);
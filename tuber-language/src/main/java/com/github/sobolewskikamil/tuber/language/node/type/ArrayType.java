@@ -61,7 +61,15 @@ public class ArrayType {
             return false;
         }
         ArrayType arrayType = (ArrayType) o;
-        return Arrays.deepEquals(values, arrayType.values);
+        if (values.length != arrayType.values.length) {
+            return false;
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (!RopeType.equalValues(values[i], arrayType.values[i])) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.type;
+
+import java.math.BigInteger;
+
+/**
+ * Integer outside the range of {@code long}, produced when integer arithmetic overflows. Results which fit in a
+ * {@code long} again are normalized back to it, so a value is never represented by both types.
+ */
+public final class BigIntegerType implements Comparable<BigIntegerType> {
+    private static final int LONG_BITS = 63;
+
+    private final BigInteger value;
+
+    public BigIntegerType(BigInteger value) {
+        this.value = value;
+    }
+
+    public static BigIntegerType valueOf(long value) {
+        return new BigIntegerType(BigInteger.valueOf(value));
+    }
+
+    public static Object normalize(BigInteger value) {
+        return value.bitLength() <= LONG_BITS ? (Object) value.longValue() : new BigIntegerType(value);
+    }
+
+    public BigInteger getValue() {
+        return value;
+    }
+
+    public Object add(BigIntegerType other) {
+        return normalize(value.add(other.value));
+    }
+
+    public Object subtract(BigIntegerType other) {
+        return normalize(value.subtract(other.value));
+    }
+
+    public Object multiply(BigIntegerType other) {
+        return normalize(value.multiply(other.value));
+    }
+
+    /**
+     * Quotient rounded towards zero, like {@code /} on {@code long} values.
+     */
+    public Object divide(BigIntegerType other) {
+        return normalize(value.divide(other.value));
+    }
+
+    /**
+     * Remainder with the sign of the dividend, like {@code %} on {@code long} values.
+     */
+    public Object remainder(BigIntegerType other) {
+        return normalize(value.remainder(other.value));
+    }
+
+    public Object pow(int exponent) {
+        return normalize(value.pow(exponent));
+    }
+
+    /**
+     * Bitwise operations treat the value as an infinitely sign-extended two's complement number, which agrees with
+     * {@code long} operations on the lowest 64 bits.
+     */
+    public Object and(BigIntegerType other) {
+        return normalize(value.and(other.value));
+    }
+
+    public Object or(BigIntegerType other) {
+        return normalize(value.or(other.value));
+    }
+
+    public Object xor(BigIntegerType other) {
+        return normalize(value.xor(other.value));
+    }
+
+    public Object abs() {
+        return normalize(value.abs());
+    }
+
+    public boolean isZero() {
+        return value.signum() == 0;
+    }
+
+    public double doubleValue() {
+        return value.doubleValue();
+    }
+
+    @Override
+    public int compareTo(BigIntegerType other) {
+        return value.compareTo(other.value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return value.equals(((BigIntegerType) o).value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return value.toString();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.type;
+
+import java.io.PrintWriter;
+
+/**
+ * Mutable character buffer used to build strings incrementally.
+ */
+public class BuilderType {
+    private static final int WRITE_CHUNK_SIZE = 8192;
+
+    private final StringBuilder builder = new StringBuilder();
+
+    public BuilderType append(long value) {
+        builder.append(value);
+        return this;
+    }
+
+    public BuilderType append(double value) {
+        builder.append(value);
+        return this;
+    }
+
+    public BuilderType append(boolean value) {
+        builder.append(value);
+        return this;
+    }
+
+    public BuilderType append(String value) {
+        builder.append(value);
+        return this;
+    }
+
+    public BuilderType append(RopeType value) {
+        value.appendTo(builder);
+        return this;
+    }
+
+    public BuilderType append(ArrayType value) {
+        appendArray(value);
+        return this;
+    }
+
+    public void clear() {
+        builder.setLength(0);
+    }
+
+    public int length() {
+        return builder.length();
+    }
+
+    /**
+     * Writes the content in fixed-size chunks, without materializing it as a single {@link String}.
+     */
+    public void writeTo(PrintWriter out) {
+        char[] chunk = new char[Math.min(WRITE_CHUNK_SIZE, builder.length())];
+        for (int start = 0; start < builder.length(); start += chunk.length) {
+            int end = Math.min(start + chunk.length, builder.length());
+            builder.getChars(start, end, chunk, 0);
+            out.write(chunk, 0, end - start);
+        }
+    }
+
+    private void appendArray(ArrayType array) {
+        builder.append('[');
+        Object[] values = array.getValues();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            if (values[i] instanceof ArrayType) {
+                appendArray((ArrayType) values[i]);
+            } else {
+                builder.append(values[i]);
+            }
+        }
+        builder.append(']');
+    }
+
+    @Override
+    public String toString() {
+        return builder.toString();
+    }
+}
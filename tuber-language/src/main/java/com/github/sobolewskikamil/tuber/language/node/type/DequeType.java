@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.type;
+
+import java.util.Optional;
+import java.util.StringJoiner;
+
+/**
+ * Double-ended queue backed by a ring buffer whose capacity is always a power of two. Elements are stored in a
+ * primitive {@code long} or {@code double} array as long as all of them have the same numeric type, otherwise the
+ * storage is generalized to an {@code Object} array.
+ */
+public class DequeType {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private long[] longs;
+    private double[] doubles;
+    private Object[] objects;
+    private int head;
+    private int size;
+
+    public DequeType() {
+        this.longs = new long[INITIAL_CAPACITY];
+    }
+
+    public void pushFront(long value) {
+        if (longs == null) {
+            pushFront((Object) value);
+            return;
+        }
+        ensureCapacity();
+        head = (head - 1) & (longs.length - 1);
+        longs[head] = value;
+        size++;
+    }
+
+    public void pushFront(Object value) {
+        if (value instanceof Long && longs != null) {
+            pushFront((long) value);
+            return;
+        }
+        prepareStorage(value);
+        ensureCapacity();
+        head = (head - 1) & (capacity() - 1);
+        set(head, value);
+        size++;
+    }
+
+    public void pushBack(long value) {
+        if (longs == null) {
+            pushBack((Object) value);
+            return;
+        }
+        ensureCapacity();
+        longs[(head + size) & (longs.length - 1)] = value;
+        size++;
+    }
+
+    public void pushBack(Object value) {
+        if (value instanceof Long && longs != null) {
+            pushBack((long) value);
+            return;
+        }
+        prepareStorage(value);
+        ensureCapacity();
+        set((head + size) & (capacity() - 1), value);
+        size++;
+    }
+
+    public Object popFront() {
+        if (size == 0) {
+            return null;
+        }
+        Object value = take(head);
+        head = (head + 1) & (capacity() - 1);
+        size--;
+        return value;
+    }
+
+    public Object popBack() {
+        if (size == 0) {
+            return null;
+        }
+        size--;
+        return take((head + size) & (capacity() - 1));
+    }
+
+    public Optional<Object> get(int index) {
+        if (index < 0 || index >= size) {
+            return Optional.empty();
+        }
+        return Optional.of(getAt((head + index) & (capacity() - 1)));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int capacity() {
+        if (longs != null) {
+            return longs.length;
+        }
+        return doubles != null ? doubles.length : objects.length;
+    }
+
+    private Object getAt(int slot) {
+        if (longs != null) {
+            return longs[slot];
+        }
+        return doubles != null ? doubles[slot] : objects[slot];
+    }
+
+    private Object take(int slot) {
+        Object value = getAt(slot);
+        if (objects != null) {
+            objects[slot] = null;
+        }
+        return value;
+    }
+
+    private void set(int slot, Object value) {
+        if (longs != null) {
+            longs[slot] = (long) value;
+        } else if (doubles != null) {
+            doubles[slot] = (double) value;
+        } else {
+            objects[slot] = value;
+        }
+    }
+
+    private void prepareStorage(Object value) {
+        if ((longs != null && value instanceof Long) || (doubles != null && value instanceof Double) || objects != null) {
+            return;
+        }
+        if (size == 0 && value instanceof Double) {
+            doubles = new double[capacity()];
+            longs = null;
+            return;
+        }
+        if (size == 0 && value instanceof Long) {
+            longs = new long[capacity()];
+            doubles = null;
+            return;
+        }
+        objects = copy(capacity());
+        longs = null;
+        doubles = null;
+    }
+
+    private void ensureCapacity() {
+        int capacity = capacity();
+        if (size < capacity) {
+            return;
+        }
+        int newCapacity = capacity * 2;
+        if (longs != null) {
+            long[] newLongs = new long[newCapacity];
+            for (int i = 0; i < size; i++) {
+                newLongs[i] = longs[(head + i) & (capacity - 1)];
+            }
+            longs = newLongs;
+        } else if (doubles != null) {
+            double[] newDoubles = new double[newCapacity];
+            for (int i = 0; i < size; i++) {
+                newDoubles[i] = doubles[(head + i) & (capacity - 1)];
+            }
+            doubles = newDoubles;
+        } else {
+            objects = copy(newCapacity);
+        }
+        head = 0;
+    }
+
+    private Object[] copy(int newCapacity) {
+        int capacity = capacity();
+        Object[] newObjects = new Object[newCapacity];
+        for (int i = 0; i < size; i++) {
+            newObjects[i] = getAt((head + i) & (capacity - 1));
+        }
+        head = 0;
+        return newObjects;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        int mask = capacity() - 1;
+        for (int i = 0; i < size; i++) {
+            joiner.add(String.valueOf(getAt((head + i) & mask)));
+        }
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.type;
+
+import java.util.Arrays;
+import java.util.StringJoiner;
+
+/**
+ * Binary min-heap of values ordered by numeric priorities. Priorities are kept in a primitive {@code long} array
+ * until the first {@code double} priority is pushed, after which all of them are moved to a {@code double} array.
+ */
+public class HeapType {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private long[] longPriorities;
+    private double[] doublePriorities;
+    private Object[] values;
+    private int size;
+
+    public HeapType() {
+        this.longPriorities = new long[INITIAL_CAPACITY];
+        this.values = new Object[INITIAL_CAPACITY];
+    }
+
+    public boolean hasDoublePriorities() {
+        return doublePriorities != null;
+    }
+
+    public void push(long priority, Object value) {
+        if (hasDoublePriorities()) {
+            push((double) priority, value);
+            return;
+        }
+        ensureCapacity();
+        int index = size++;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (longPriorities[parent] <= priority) {
+                break;
+            }
+            longPriorities[index] = longPriorities[parent];
+            values[index] = values[parent];
+            index = parent;
+        }
+        longPriorities[index] = priority;
+        values[index] = value;
+    }
+
+    public void push(double priority, Object value) {
+        if (!hasDoublePriorities()) {
+            convertToDoublePriorities();
+        }
+        ensureCapacity();
+        int index = size++;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (doublePriorities[parent] <= priority) {
+                break;
+            }
+            doublePriorities[index] = doublePriorities[parent];
+            values[index] = values[parent];
+            index = parent;
+        }
+        doublePriorities[index] = priority;
+        values[index] = value;
+    }
+
+    public Object peek() {
+        return size == 0 ? null : values[0];
+    }
+
+    public Object pop() {
+        if (size == 0) {
+            return null;
+        }
+        Object result = values[0];
+        int last = --size;
+        if (hasDoublePriorities()) {
+            siftDown(doublePriorities[last], values[last], last);
+        } else {
+            siftDown(longPriorities[last], values[last], last);
+        }
+        values[last] = null;
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void siftDown(long priority, Object value, int length) {
+        int index = 0;
+        int child;
+        while ((child = 2 * index + 1) < length) {
+            if (child + 1 < length && longPriorities[child + 1] < longPriorities[child]) {
+                child++;
+            }
+            if (priority <= longPriorities[child]) {
+                break;
+            }
+            longPriorities[index] = longPriorities[child];
+            values[index] = values[child];
+            index = child;
+        }
+        longPriorities[index] = priority;
+        values[index] = value;
+    }
+
+    private void siftDown(double priority, Object value, int length) {
+        int index = 0;
+        int child;
+        while ((child = 2 * index + 1) < length) {
+            if (child + 1 < length && doublePriorities[child + 1] < doublePriorities[child]) {
+                child++;
+            }
+            if (priority <= doublePriorities[child]) {
+                break;
+            }
+            doublePriorities[index] = doublePriorities[child];
+            values[index] = values[child];
+            index = child;
+        }
+        doublePriorities[index] = priority;
+        values[index] = value;
+    }
+
+    private void ensureCapacity() {
+        if (size < values.length) {
+            return;
+        }
+        int capacity = values.length * 2;
+        values = Arrays.copyOf(values, capacity);
+        if (hasDoublePriorities()) {
+            doublePriorities = Arrays.copyOf(doublePriorities, capacity);
+        } else {
+            longPriorities = Arrays.copyOf(longPriorities, capacity);
+        }
+    }
+
+    private void convertToDoublePriorities() {
+        doublePriorities = new double[values.length];
+        for (int i = 0; i < size; i++) {
+            doublePriorities[i] = longPriorities[i];
+        }
+        longPriorities = null;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (int i = 0; i < size; i++) {
+            Object priority = hasDoublePriorities() ? (Object) doublePriorities[i] : (Object) longPriorities[i];
+            joiner.add(priority + "=" + values[i]);
+        }
+        return joiner.toString();
+    }
+}
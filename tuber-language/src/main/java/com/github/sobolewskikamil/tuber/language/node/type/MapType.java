@@ -0,0 +1,346 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.type;
+
+import java.util.StringJoiner;
+
+/**
+ * Hash map with open addressing and linear probing. Keys of type {@code long} are kept in a separate table backed
+ * by a primitive array, so they are never boxed. Other keys ({@code double}, {@code boolean}, {@code String}, big
+ * integers and tuples of keys) are kept in a generic table and compared with {@link Object#equals(Object)}.
+ * Arrays are mutable, so they are not accepted as keys: modifying one would leave its stored hash stale.
+ * Ropes are flattened before they are used as keys, so they match equal strings.
+ * Empty slots are marked by a {@code null} value, as language values are never {@code null}.
+ */
+public class MapType {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private long[] longKeys;
+    private Object[] longValues;
+    private int longSize;
+
+    private Object[] objectKeys;
+    private Object[] objectValues;
+    private int objectSize;
+
+    public MapType() {
+        this.longKeys = new long[INITIAL_CAPACITY];
+        this.longValues = new Object[INITIAL_CAPACITY];
+        this.objectKeys = new Object[INITIAL_CAPACITY];
+        this.objectValues = new Object[INITIAL_CAPACITY];
+    }
+
+    public static boolean isKey(Object key) {
+        if (key instanceof TupleType) {
+            TupleType tuple = (TupleType) key;
+            for (int i = 0; i < tuple.size(); i++) {
+                if (!isKey(tuple.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return key instanceof Long || key instanceof Double || key instanceof Boolean || key instanceof String
+                || key instanceof RopeType || key instanceof BigIntegerType;
+    }
+
+    public Object get(long key) {
+        int index = findLong(key);
+        return index < 0 ? null : longValues[index];
+    }
+
+    public Object get(Object key) {
+        if (key instanceof Long) {
+            return get((long) key);
+        }
+        key = normalize(key);
+        int index = findObject(key);
+        return index < 0 ? null : objectValues[index];
+    }
+
+    public boolean has(long key) {
+        return findLong(key) >= 0;
+    }
+
+    public boolean has(Object key) {
+        if (key instanceof Long) {
+            return has((long) key);
+        }
+        key = normalize(key);
+        return findObject(key) >= 0;
+    }
+
+    public void put(long key, Object value) {
+        int mask = longValues.length - 1;
+        int index = hash(key) & mask;
+        while (longValues[index] != null) {
+            if (longKeys[index] == key) {
+                longValues[index] = value;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+        longKeys[index] = key;
+        longValues[index] = value;
+        if (++longSize * 2 > longValues.length) {
+            resizeLongTable();
+        }
+    }
+
+    public void put(Object key, Object value) {
+        if (key instanceof Long) {
+            put((long) key, value);
+            return;
+        }
+        key = normalize(key);
+        int mask = objectValues.length - 1;
+        int index = hash(key) & mask;
+        while (objectValues[index] != null) {
+            if (objectKeys[index].equals(key)) {
+                objectValues[index] = value;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+        objectKeys[index] = key;
+        objectValues[index] = value;
+        if (++objectSize * 2 > objectValues.length) {
+            resizeObjectTable();
+        }
+    }
+
+    public Object remove(long key) {
+        int index = findLong(key);
+        if (index < 0) {
+            return null;
+        }
+        Object value = longValues[index];
+        removeLongAt(index);
+        longSize--;
+        return value;
+    }
+
+    public Object remove(Object key) {
+        if (key instanceof Long) {
+            return remove((long) key);
+        }
+        key = normalize(key);
+        int index = findObject(key);
+        if (index < 0) {
+            return null;
+        }
+        Object value = objectValues[index];
+        removeObjectAt(index);
+        objectSize--;
+        return value;
+    }
+
+    public Object[] keys() {
+        Object[] keys = new Object[size()];
+        int position = 0;
+        for (int i = 0; i < longValues.length; i++) {
+            if (longValues[i] != null) {
+                keys[position++] = longKeys[i];
+            }
+        }
+        for (int i = 0; i < objectValues.length; i++) {
+            if (objectValues[i] != null) {
+                keys[position++] = objectKeys[i];
+            }
+        }
+        return keys;
+    }
+
+    public int size() {
+        return longSize + objectSize;
+    }
+
+    private static Object normalize(Object key) {
+        return key instanceof RopeType ? key.toString() : key;
+    }
+
+    private int findLong(long key) {
+        int mask = longValues.length - 1;
+        int index = hash(key) & mask;
+        while (longValues[index] != null) {
+            if (longKeys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int findObject(Object key) {
+        int mask = objectValues.length - 1;
+        int index = hash(key) & mask;
+        while (objectValues[index] != null) {
+            if (objectKeys[index].equals(key)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void removeLongAt(int index) {
+        int mask = longValues.length - 1;
+        int next = index;
+        while (true) {
+            next = (next + 1) & mask;
+            if (longValues[next] == null) {
+                break;
+            }
+            int home = hash(longKeys[next]) & mask;
+            if (isBetween(home, index, next)) {
+                continue;
+            }
+            longKeys[index] = longKeys[next];
+            longValues[index] = longValues[next];
+            index = next;
+        }
+        longValues[index] = null;
+    }
+
+    private void removeObjectAt(int index) {
+        int mask = objectValues.length - 1;
+        int next = index;
+        while (true) {
+            next = (next + 1) & mask;
+            if (objectValues[next] == null) {
+                break;
+            }
+            int home = hash(objectKeys[next]) & mask;
+            if (isBetween(home, index, next)) {
+                continue;
+            }
+            objectKeys[index] = objectKeys[next];
+            objectValues[index] = objectValues[next];
+            index = next;
+        }
+        objectKeys[index] = null;
+        objectValues[index] = null;
+    }
+
+    /**
+     * Checks whether {@code home} lies cyclically in {@code (removed, current]}, in which case the entry at
+     * {@code current} is still reachable after the slot at {@code removed} is emptied.
+     */
+    private static boolean isBetween(int home, int removed, int current) {
+        return removed <= current
+                ? removed < home && home <= current
+                : removed < home || home <= current;
+    }
+
+    private void resizeLongTable() {
+        long[] oldKeys = longKeys;
+        Object[] oldValues = longValues;
+        longKeys = new long[oldKeys.length * 2];
+        longValues = new Object[oldValues.length * 2];
+        longSize = 0;
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void resizeObjectTable() {
+        Object[] oldKeys = objectKeys;
+        Object[] oldValues = objectValues;
+        objectKeys = new Object[oldKeys.length * 2];
+        objectValues = new Object[oldValues.length * 2];
+        objectSize = 0;
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private static int hash(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private static int hash(Object key) {
+        int hash = key.hashCode() * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        MapType mapType = (MapType) o;
+        if (size() != mapType.size()) {
+            return false;
+        }
+        for (int i = 0; i < longValues.length; i++) {
+            if (longValues[i] != null && !RopeType.equalValues(longValues[i], mapType.get(longKeys[i]))) {
+                return false;
+            }
+        }
+        for (int i = 0; i < objectValues.length; i++) {
+            if (objectValues[i] != null && !RopeType.equalValues(objectValues[i], mapType.get(objectKeys[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        for (int i = 0; i < longValues.length; i++) {
+            if (longValues[i] != null) {
+                result += Long.hashCode(longKeys[i]) ^ longValues[i].hashCode();
+            }
+        }
+        for (int i = 0; i < objectValues.length; i++) {
+            if (objectValues[i] != null) {
+                result += objectKeys[i].hashCode() ^ objectValues[i].hashCode();
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "{", "}");
+        for (int i = 0; i < longValues.length; i++) {
+            if (longValues[i] != null) {
+                joiner.add(longKeys[i] + "=" + longValues[i]);
+            }
+        }
+        for (int i = 0; i < objectValues.length; i++) {
+            if (objectValues[i] != null) {
+                joiner.add(objectKeys[i] + "=" + objectValues[i]);
+            }
+        }
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.type;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.object.DynamicObject;
+import com.oracle.truffle.api.object.Layout;
+import com.oracle.truffle.api.object.ObjectType;
+import com.oracle.truffle.api.object.Property;
+import com.oracle.truffle.api.object.Shape;
+
+import java.util.StringJoiner;
+
+/**
+ * Object type of records. Records are {@link DynamicObject}s, so their fields are stored according to shapes shared
+ * by all records that had the same fields added in the same order.
+ */
+public final class RecordType extends ObjectType {
+    private static final Layout LAYOUT = Layout.createLayout();
+    private static final RecordType INSTANCE = new RecordType();
+    private static final Shape EMPTY_SHAPE = LAYOUT.createShape(INSTANCE);
+
+    private RecordType() {
+    }
+
+    public static DynamicObject createRecord() {
+        return EMPTY_SHAPE.newInstance();
+    }
+
+    public static boolean isRecord(Object value) {
+        return value instanceof DynamicObject && ((DynamicObject) value).getShape().getObjectType() == INSTANCE;
+    }
+
+    @Override
+    public boolean equals(DynamicObject object, Object other) {
+        return object == other;
+    }
+
+    @Override
+    public int hashCode(DynamicObject object) {
+        return System.identityHashCode(object);
+    }
+
+    @Override
+    @TruffleBoundary
+    public String toString(DynamicObject object) {
+        StringJoiner joiner = new StringJoiner(", ", "{", "}");
+        for (Property property : object.getShape().getPropertyList()) {
+            joiner.add(property.getKey() + "=" + property.get(object, object.getShape()));
+        }
+        return joiner.toString();
+    }
+}
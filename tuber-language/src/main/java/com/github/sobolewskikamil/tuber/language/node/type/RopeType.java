@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.type;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Lazy string concatenation. A rope keeps references to both of its parts and is flattened into a single
+ * {@link String} only when its characters are needed, so repeatedly appending to a string takes linear time in total.
+ * Concatenations shorter than {@link #FLAT_THRESHOLD} characters are performed eagerly, as copying them is cheaper
+ * than keeping a tree of small ropes.
+ */
+public final class RopeType {
+    static final int FLAT_THRESHOLD = 64;
+
+    private Object left;
+    private Object right;
+    private final int length;
+    private String flattened;
+
+    private RopeType(Object left, Object right, int length) {
+        this.left = left;
+        this.right = right;
+        this.length = length;
+    }
+
+    /**
+     * Concatenates two parts, each of which must be either a {@link String} or a {@link RopeType}.
+     */
+    public static Object concat(Object left, Object right) {
+        int length = length(left) + length(right);
+        if (length < 0) {
+            throw new OutOfMemoryError("Rope length overflow");
+        }
+        if (length <= FLAT_THRESHOLD) {
+            return left.toString().concat(right.toString());
+        }
+        if (length(left) == 0) {
+            return right;
+        }
+        if (length(right) == 0) {
+            return left;
+        }
+        return new RopeType(left, right, length);
+    }
+
+    public static boolean isRope(Object value) {
+        return value instanceof RopeType;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public boolean isFlattened() {
+        return flattened != null;
+    }
+
+    /**
+     * Appends the characters of this rope to the given builder without flattening it.
+     */
+    public void appendTo(StringBuilder builder) {
+        if (flattened != null) {
+            builder.append(flattened);
+            return;
+        }
+        Deque<Object> parts = new ArrayDeque<>();
+        parts.push(this);
+        while (!parts.isEmpty()) {
+            Object part = parts.pop();
+            if (part instanceof RopeType && ((RopeType) part).flattened == null) {
+                RopeType rope = (RopeType) part;
+                parts.push(rope.right);
+                parts.push(rope.left);
+            } else {
+                builder.append(part.toString());
+            }
+        }
+    }
+
+    private static int length(Object part) {
+        return part instanceof RopeType ? ((RopeType) part).length : ((String) part).length();
+    }
+
+    private String flatten() {
+        StringBuilder builder = new StringBuilder(length);
+        appendTo(builder);
+        return builder.toString();
+    }
+
+    /**
+     * Compares two values, treating a rope and a string with the same characters as equal. {@link String#equals}
+     * does not know about ropes, so containers compare their elements through this method.
+     */
+    public static boolean equalValues(Object left, Object right) {
+        if (left instanceof String && right instanceof RopeType) {
+            return right.equals(left);
+        }
+        return left == null ? right == null : left.equals(right);
+    }
+
+    /**
+     * A rope is equal to another rope or a {@link String} with the same characters.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof RopeType) {
+            RopeType ropeType = (RopeType) o;
+            return length == ropeType.length && toString().equals(ropeType.toString());
+        }
+        if (o instanceof String) {
+            return length == ((String) o).length() && toString().equals(o);
+        }
+        return false;
+    }
+
+    /**
+     * Hashes the flattened characters, so a rope has the same hash code as an equal {@link String}.
+     */
+    @Override
+    public int hashCode() {
+        return toString().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        if (flattened == null) {
+            flattened = flatten();
+            left = null;
+            right = null;
+        }
+        return flattened;
+    }
+}
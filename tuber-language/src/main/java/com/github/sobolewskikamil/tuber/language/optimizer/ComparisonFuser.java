@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.optimizer;
+
+import com.github.sobolewskikamil.tuber.language.node.expression.access.ReadLocalVariableNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.literal.LongLiteralNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.logical.*;
+import com.oracle.truffle.api.frame.FrameSlot;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.nodes.RootNode;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Replaces comparisons of a local variable with another local variable or with an integer literal, such as the
+ * condition {@code i < n} of a loop, with a {@link LocalComparisonNode} which reads the operands directly from the
+ * frame. A literal on the left side is moved to the right by mirroring the comparison.
+ */
+public final class ComparisonFuser implements OptimizationPass {
+
+    @Override
+    public String getName() {
+        return "comparison fusion";
+    }
+
+    @Override
+    public void apply(RootNode rootNode) {
+        rootNode.adoptChildren();
+        fuseChildren(rootNode);
+    }
+
+    private static void fuseChildren(Node node) {
+        List<Node> children = new ArrayList<>();
+        node.getChildren().forEach(children::add);
+        for (Node child : children) {
+            fuseChildren(child);
+            if (isComparison(child)) {
+                fuse(child);
+            }
+        }
+    }
+
+    private static void fuse(Node comparison) {
+        Iterator<Node> operands = comparison.getChildren().iterator();
+        Node left = operands.next();
+        Node right = operands.next();
+        if (left instanceof ReadLocalVariableNode && right instanceof ReadLocalVariableNode) {
+            comparison.replace(createLocalComparison(comparison,
+                    ((ReadLocalVariableNode) left).getSlot(), ((ReadLocalVariableNode) right).getSlot()));
+        } else if (left instanceof ReadLocalVariableNode && right instanceof LongLiteralNode) {
+            comparison.replace(createLocalComparison(comparison,
+                    ((ReadLocalVariableNode) left).getSlot(), ((LongLiteralNode) right).executeLong(null)));
+        } else if (left instanceof LongLiteralNode && right instanceof ReadLocalVariableNode) {
+            comparison.replace(createMirroredLocalComparison(comparison,
+                    ((ReadLocalVariableNode) right).getSlot(), ((LongLiteralNode) left).executeLong(null)));
+        }
+    }
+
+    private static boolean isComparison(Node node) {
+        return node instanceof LessNode || node instanceof LessOrEqualNode || node instanceof GreaterNode
+                || node instanceof GreaterOrEqualNode || node instanceof EqualNode || node instanceof NotEqualNode;
+    }
+
+    private static LocalComparisonNode createLocalComparison(Node comparison, FrameSlot leftSlot, FrameSlot rightSlot) {
+        if (comparison instanceof LessNode) {
+            return new LocalLessNode(leftSlot, rightSlot);
+        } else if (comparison instanceof LessOrEqualNode) {
+            return new LocalLessOrEqualNode(leftSlot, rightSlot);
+        } else if (comparison instanceof GreaterNode) {
+            return new LocalGreaterNode(leftSlot, rightSlot);
+        } else if (comparison instanceof GreaterOrEqualNode) {
+            return new LocalGreaterOrEqualNode(leftSlot, rightSlot);
+        } else if (comparison instanceof EqualNode) {
+            return new LocalEqualNode(leftSlot, rightSlot);
+        }
+        return new LocalNotEqualNode(leftSlot, rightSlot);
+    }
+
+    private static LocalComparisonNode createLocalComparison(Node comparison, FrameSlot leftSlot, long rightConstant) {
+        if (comparison instanceof LessNode) {
+            return new LocalLessNode(leftSlot, rightConstant);
+        } else if (comparison instanceof LessOrEqualNode) {
+            return new LocalLessOrEqualNode(leftSlot, rightConstant);
+        } else if (comparison instanceof GreaterNode) {
+            return new LocalGreaterNode(leftSlot, rightConstant);
+        } else if (comparison instanceof GreaterOrEqualNode) {
+            return new LocalGreaterOrEqualNode(leftSlot, rightConstant);
+        } else if (comparison instanceof EqualNode) {
+            return new LocalEqualNode(leftSlot, rightConstant);
+        }
+        return new LocalNotEqualNode(leftSlot, rightConstant);
+    }
+
+    private static LocalComparisonNode createMirroredLocalComparison(Node comparison, FrameSlot leftSlot, long rightConstant) {
+        if (comparison instanceof LessNode) {
+            return new LocalGreaterNode(leftSlot, rightConstant);
+        } else if (comparison instanceof LessOrEqualNode) {
+            return new LocalGreaterOrEqualNode(leftSlot, rightConstant);
+        } else if (comparison instanceof GreaterNode) {
+            return new LocalLessNode(leftSlot, rightConstant);
+        } else if (comparison instanceof GreaterOrEqualNode) {
+            return new LocalLessOrEqualNode(leftSlot, rightConstant);
+        }
+        return createLocalComparison(comparison, leftSlot, rightConstant);
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.optimizer;
+
+import com.github.sobolewskikamil.tuber.language.exception.TuberException;
+import com.github.sobolewskikamil.tuber.language.node.expression.BinaryNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.ExpressionNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.UnaryNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.access.ReadLocalVariableNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.access.UpdateLocalVariableNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.access.WriteLocalVariableNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.flowcontrol.BlockNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.flowcontrol.FunctionBodyNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.literal.BooleanLiteralNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.literal.DoubleLiteralNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.literal.LongLiteralNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.literal.NullLiteralNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.literal.StringLiteralNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.logical.AndNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.logical.OrNode;
+import com.github.sobolewskikamil.tuber.language.node.type.NullType;
+import com.oracle.truffle.api.frame.FrameSlot;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.nodes.NodeUtil;
+import com.oracle.truffle.api.nodes.RootNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evaluates operators whose operands are all literals before the function is executed, and replaces them with the
+ * resulting literal. With propagation enabled, locals assigned exactly once, directly in the function body, with a
+ * literal value are also propagated into the reads which follow the assignment, so that expressions using them can
+ * be folded as well. Operators which fail, like {@code 1 % 0}, are left in place to report the error when they are
+ * executed.
+ */
+public final class ConstantFolder implements OptimizationPass {
+    private final boolean propagateLocals;
+
+    public ConstantFolder(boolean propagateLocals) {
+        this.propagateLocals = propagateLocals;
+    }
+
+    @Override
+    public String getName() {
+        return propagateLocals ? "constant propagation" : "constant folding";
+    }
+
+    @Override
+    public void apply(RootNode rootNode) {
+        rootNode.adoptChildren();
+        Map<FrameSlot, Integer> writeCounts = propagateLocals ? countWrites(rootNode) : Collections.emptyMap();
+        new Folding(writeCounts).foldChildren(rootNode);
+    }
+
+    private static Map<FrameSlot, Integer> countWrites(RootNode rootNode) {
+        Map<FrameSlot, Integer> writeCounts = new HashMap<>();
+        countWrites(rootNode, writeCounts);
+        return writeCounts;
+    }
+
+    private static void countWrites(Node node, Map<FrameSlot, Integer> writeCounts) {
+        if (node instanceof WriteLocalVariableNode) {
+            writeCounts.merge(((WriteLocalVariableNode) node).getSlot(), 1, Integer::sum);
+        } else if (node instanceof UpdateLocalVariableNode) {
+            writeCounts.merge(((UpdateLocalVariableNode) node).getSlot(), 1, Integer::sum);
+        }
+        NodeUtil.forEachChild(node, child -> {
+            countWrites(child, writeCounts);
+            return true;
+        });
+    }
+
+    /**
+     * Statements directly in the function body are executed in order, so an assignment there precedes every read
+     * which is visited after it.
+     */
+    private static boolean isInFunctionBody(Node node) {
+        Node parent = node.getParent();
+        return parent instanceof BlockNode && parent.getParent() instanceof FunctionBodyNode;
+    }
+
+    private static boolean isOperation(Node node) {
+        return node instanceof BinaryNode || node instanceof UnaryNode || node instanceof AndNode
+                || node instanceof OrNode;
+    }
+
+    /**
+     * Operations without children, like the one applied by a compound array element assignment, are not folded.
+     */
+    private static boolean hasOnlyLiteralChildren(Node node) {
+        boolean hasChildren = false;
+        for (Node child : node.getChildren()) {
+            if (!isLiteral(child)) {
+                return false;
+            }
+            hasChildren = true;
+        }
+        return hasChildren;
+    }
+
+    private static boolean isLiteral(Node node) {
+        return node instanceof LongLiteralNode || node instanceof DoubleLiteralNode || node instanceof BooleanLiteralNode
+                || node instanceof StringLiteralNode || node instanceof NullLiteralNode;
+    }
+
+    private static boolean isLiteralValue(Object value) {
+        return value instanceof Long || value instanceof Double || value instanceof Boolean || value instanceof String
+                || value instanceof NullType;
+    }
+
+    private static Object evaluate(ExpressionNode node) {
+        try {
+            return node.executeGeneric(null);
+        } catch (TuberException e) {
+            return null;
+        }
+    }
+
+    private static ExpressionNode createLiteral(Object value) {
+        if (value instanceof Long) {
+            return new LongLiteralNode((long) value);
+        }
+        if (value instanceof Double) {
+            return new DoubleLiteralNode((double) value);
+        }
+        if (value instanceof Boolean) {
+            return new BooleanLiteralNode((boolean) value);
+        }
+        if (value instanceof String) {
+            return new StringLiteralNode(((String) value).intern());
+        }
+        return new NullLiteralNode((NullType) value);
+    }
+
+    private static final class Folding {
+        private final Map<FrameSlot, Integer> writeCounts;
+        private final Map<FrameSlot, Object> constants;
+
+        private Folding(Map<FrameSlot, Integer> writeCounts) {
+            this.writeCounts = writeCounts;
+            this.constants = new HashMap<>();
+        }
+
+        private void foldChildren(Node node) {
+            List<Node> children = new ArrayList<>();
+            node.getChildren().forEach(children::add);
+            for (Node child : children) {
+                foldNode(child);
+            }
+        }
+
+        private void foldNode(Node node) {
+            if (node instanceof ReadLocalVariableNode) {
+                Object constant = constants.get(((ReadLocalVariableNode) node).getSlot());
+                if (constant != null) {
+                    node.replace(createLiteral(constant));
+                }
+                return;
+            }
+            foldChildren(node);
+            if (node instanceof WriteLocalVariableNode) {
+                recordConstant((WriteLocalVariableNode) node);
+            } else if (isOperation(node) && hasOnlyLiteralChildren(node)) {
+                Object value = evaluate((ExpressionNode) node);
+                if (value != null && isLiteralValue(value)) {
+                    node.replace(createLiteral(value));
+                }
+            }
+        }
+
+        private void recordConstant(WriteLocalVariableNode node) {
+            FrameSlot slot = node.getSlot();
+            Iterator<Node> children = node.getChildren().iterator();
+            if (!children.hasNext()) {
+                return;
+            }
+            Node value = children.next();
+            if (writeCounts.getOrDefault(slot, 0) == 1 && isInFunctionBody(node) && isLiteral(value)) {
+                constants.put(slot, ((ExpressionNode) value).executeGeneric(null));
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.optimizer;
+
+import com.oracle.truffle.api.nodes.NodeUtil;
+import com.oracle.truffle.api.nodes.RootNode;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Runs the optimization passes selected by the optimization level over each parsed function. When a dump writer is
+ * given, the node tree is printed to it before and after each pass.
+ */
+public class Optimizer {
+    public static final int MAX_LEVEL = 2;
+
+    private final List<OptimizationPass> passes;
+    private final PrintWriter dump;
+
+    public Optimizer(List<OptimizationPass> passes, PrintWriter dump) {
+        this.passes = passes;
+        this.dump = dump;
+    }
+
+    public static Optimizer disabled() {
+        return new Optimizer(Collections.emptyList(), null);
+    }
+
+    public static Optimizer forLevel(int level, PrintWriter dump) {
+        validateLevel(level);
+        List<OptimizationPass> passes = new ArrayList<>();
+        if (level >= 1) {
+            passes.add(new ConstantFolder(level >= 2));
+        }
+        if (level >= 2) {
+            passes.add(new ComparisonFuser());
+        }
+        return new Optimizer(passes, dump);
+    }
+
+    public static void validateLevel(int level) {
+        if (level < 0 || level > MAX_LEVEL) {
+            throw new IllegalArgumentException("Optimization level must be between 0 and " + MAX_LEVEL);
+        }
+    }
+
+    public List<OptimizationPass> getPasses() {
+        return passes;
+    }
+
+    public void optimize(String functionName, RootNode rootNode) {
+        for (OptimizationPass pass : passes) {
+            dumpTree(functionName, "before " + pass.getName(), rootNode);
+            pass.apply(rootNode);
+            dumpTree(functionName, "after " + pass.getName(), rootNode);
+        }
+    }
+
+    private void dumpTree(String functionName, String stage, RootNode rootNode) {
+        if (dump != null) {
+            dump.println("=== " + functionName + ": " + stage + " ===");
+            NodeUtil.printTree(dump, rootNode);
+            dump.flush();
+        }
+    }
+}
@@ -22,10 +22,11 @@
 package com.github.sobolewskikamil.tuber.language.parser;
 
 import com.github.sobolewskikamil.tuber.language.Language;
+import com.github.sobolewskikamil.tuber.language.optimizer.Optimizer;
 import com.oracle.truffle.api.RootCallTarget;
 
 import java.util.Map;
 
 public interface ParserFacade {
-    Map<String, RootCallTarget> parseLanguage(Language language, String source);
+    Map<String, RootCallTarget> parseLanguage(Language language, String source, Optimizer optimizer);
 }
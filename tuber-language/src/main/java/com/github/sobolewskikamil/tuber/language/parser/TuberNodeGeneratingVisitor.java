@@ -26,18 +26,22 @@ import com.github.sobolewskikamil.tuber.language.grammar.TuberBaseVisitor;
 import com.github.sobolewskikamil.tuber.language.grammar.TuberParser;
 import com.github.sobolewskikamil.tuber.language.node.RootNode;
 import com.github.sobolewskikamil.tuber.language.node.StatementNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.BinaryNode;
 import com.github.sobolewskikamil.tuber.language.node.expression.ExpressionNode;
 import com.github.sobolewskikamil.tuber.language.node.expression.access.*;
 import com.github.sobolewskikamil.tuber.language.node.expression.arithmetic.*;
+import com.github.sobolewskikamil.tuber.language.node.expression.bitwise.*;
 import com.github.sobolewskikamil.tuber.language.node.expression.call.CallNode;
 import com.github.sobolewskikamil.tuber.language.node.expression.flowcontrol.*;
 import com.github.sobolewskikamil.tuber.language.node.expression.literal.*;
 import com.github.sobolewskikamil.tuber.language.node.expression.logical.*;
 import com.github.sobolewskikamil.tuber.language.node.type.NullType;
+import com.github.sobolewskikamil.tuber.language.optimizer.Optimizer;
 import com.oracle.truffle.api.RootCallTarget;
 import com.oracle.truffle.api.Truffle;
 import com.oracle.truffle.api.frame.FrameDescriptor;
 import com.oracle.truffle.api.frame.FrameSlot;
+import com.oracle.truffle.api.frame.FrameSlotKind;
 import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.tree.TerminalNode;
 
@@ -50,6 +54,7 @@ import java.util.stream.Stream;
 class TuberNodeGeneratingVisitor extends TuberBaseVisitor<StatementNode> {
     private final Language language;
     private final Map<String, RootCallTarget> functions;
+    private final Optimizer optimizer;
 
     private LexicalScope lexicalScope;
     private FrameDescriptor frameDescriptor;
@@ -57,8 +62,13 @@ class TuberNodeGeneratingVisitor extends TuberBaseVisitor<StatementNode> {
     private Supplier<FrameDescriptor> frameDescriptorSupplier;
 
     TuberNodeGeneratingVisitor(Language language) {
+        this(language, Optimizer.disabled());
+    }
+
+    TuberNodeGeneratingVisitor(Language language, Optimizer optimizer) {
         this.language = language;
         this.functions = new HashMap<>();
+        this.optimizer = optimizer;
         this.frameDescriptorSupplier = FrameDescriptor::new;
         this.lexicalScopeSupplier = LexicalScope::new;
     }
@@ -88,7 +98,9 @@ class TuberNodeGeneratingVisitor extends TuberBaseVisitor<StatementNode> {
 
         frameDescriptor = null;
         lexicalScope = null;
-        functions.put(functionName, Truffle.getRuntime().createCallTarget((com.oracle.truffle.api.nodes.RootNode) rootNode.deepCopy()));
+        com.oracle.truffle.api.nodes.RootNode functionRootNode = (com.oracle.truffle.api.nodes.RootNode) rootNode.deepCopy();
+        optimizer.optimize(functionName, functionRootNode);
+        functions.put(functionName, Truffle.getRuntime().createCallTarget(functionRootNode));
 
         return functionBodyNode;
     }
@@ -160,6 +172,9 @@ class TuberNodeGeneratingVisitor extends TuberBaseVisitor<StatementNode> {
         if (ctx.whileStatement() != null) {
             return visitWhileStatement(ctx.whileStatement());
         }
+        if (ctx.forStatement() != null) {
+            return visitForStatement(ctx.forStatement());
+        }
         throw new IllegalStateException(String.format("Unknown statement: %s", ctx.getText()));
     }
 
@@ -170,6 +185,38 @@ class TuberNodeGeneratingVisitor extends TuberBaseVisitor<StatementNode> {
         return new WhileNode(conditionNode, iterationStatement);
     }
 
+    @Override
+    public StatementNode visitForStatement(TuberParser.ForStatementContext ctx) {
+        if (ctx.In() != null) {
+            ExpressionNode startNode = (ExpressionNode) visitExpression(ctx.expression(0));
+            ExpressionNode endNode = (ExpressionNode) visitExpression(ctx.expression(1));
+            String identifier = ctx.Identifier().getText();
+            FrameSlot slot = frameDescriptor.findOrAddFrameSlot(identifier);
+            lexicalScope.addLocal(identifier, slot);
+            int position = ctx.getStart().getTokenIndex();
+            FrameSlot counterSlot = frameDescriptor.addFrameSlot("(" + identifier + " counter " + position + ")", FrameSlotKind.Long);
+            FrameSlot endSlot = frameDescriptor.addFrameSlot("(" + identifier + " end " + position + ")", FrameSlotKind.Long);
+            StatementNode bodyNode = visitIterStat(ctx.iterStat());
+            return new RangeForNode(startNode, endNode, counterSlot, endSlot,
+                    WriteLocalVariableNodeGen.create(null, slot), bodyNode);
+        }
+        StatementNode initNode = visitVariableAssignment(ctx.variableAssignment());
+        ExpressionNode conditionNode = (ExpressionNode) visitExpression(ctx.expression(0));
+        StatementNode updateNode = visitForUpdate(ctx.forUpdate());
+        StatementNode bodyNode = visitIterStat(ctx.iterStat());
+        return new ForNode(initNode, conditionNode, updateNode, bodyNode);
+    }
+
+    @Override
+    public StatementNode visitForUpdate(TuberParser.ForUpdateContext ctx) {
+        if (ctx.Assign() != null) {
+            FrameSlot slot = frameDescriptor.findOrAddFrameSlot(ctx.Identifier().getText());
+            lexicalScope.addLocal(ctx.Identifier().getText(), slot);
+            return WriteLocalVariableNodeGen.create((ExpressionNode) visitExpression(ctx.expression()), slot);
+        }
+        return getUpdateLocalVariableNode(ctx.Identifier(), ctx.op, ctx.expression(), ctx.getText());
+    }
+
     @Override
     public StatementNode visitWhileStat(TuberParser.WhileStatContext ctx) {
         return visitExpression(ctx.expression());
@@ -241,9 +288,21 @@ class TuberNodeGeneratingVisitor extends TuberBaseVisitor<StatementNode> {
         if (ctx.variableAssignment() != null) {
             return visitVariableAssignment(ctx.variableAssignment());
         }
+        if (ctx.compoundAssignment() != null) {
+            return visitCompoundAssignment(ctx.compoundAssignment());
+        }
         if (ctx.arrayElementAssignment() != null) {
             return visitArrayElementAssignment(ctx.arrayElementAssignment());
         }
+        if (ctx.arrayElementCompoundAssignment() != null) {
+            return visitArrayElementCompoundAssignment(ctx.arrayElementCompoundAssignment());
+        }
+        if (ctx.fieldAssignment() != null) {
+            return visitFieldAssignment(ctx.fieldAssignment());
+        }
+        if (ctx.tupleAssignment() != null) {
+            return visitTupleAssignment(ctx.tupleAssignment());
+        }
         throw new IllegalStateException(String.format("Unknown assignment: %s", ctx.getText()));
     }
 
@@ -256,6 +315,11 @@ class TuberNodeGeneratingVisitor extends TuberBaseVisitor<StatementNode> {
         return WriteLocalVariableNodeGen.create(valueNode, frameSlot);
     }
 
+    @Override
+    public StatementNode visitCompoundAssignment(TuberParser.CompoundAssignmentContext ctx) {
+        return getUpdateLocalVariableNode(ctx.Identifier(), ctx.op, ctx.expression(), ctx.getText());
+    }
+
     @Override
     public StatementNode visitArrayElementAssignment(TuberParser.ArrayElementAssignmentContext ctx) {
         String identifier = ctx.arrayElement().Identifier().getText();
@@ -268,6 +332,47 @@ class TuberNodeGeneratingVisitor extends TuberBaseVisitor<StatementNode> {
         return getWriteArrayElementNode(new LinkedList<>(indexNodes), element, ReadLocalVariableNodeGen.create(slot));
     }
 
+    @Override
+    public StatementNode visitArrayElementCompoundAssignment(TuberParser.ArrayElementCompoundAssignmentContext ctx) {
+        String identifier = ctx.arrayElement().Identifier().getText();
+        FrameSlot slot = lexicalScope.getLocals().get(identifier);
+        ExpressionNode valueNode = getCompoundValueNode(ctx.expression());
+        LinkedList<ExpressionNode> indexNodes = ctx.arrayElement().expression().stream()
+                .map(this::visitExpression)
+                .map(ExpressionNode.class::cast)
+                .collect(Collectors.toCollection(LinkedList::new));
+        ExpressionNode indexNode = indexNodes.removeLast();
+        ExpressionNode sourceNode = (ExpressionNode) getReadArrayElementNode(indexNodes, ReadLocalVariableNodeGen.create(slot));
+        return new UpdateArrayElementNode(sourceNode, indexNode, valueNode, getCompoundOperationNode(ctx));
+    }
+
+    @Override
+    public StatementNode visitFieldAssignment(TuberParser.FieldAssignmentContext ctx) {
+        List<TerminalNode> identifiers = ctx.fieldAccess().Identifier();
+        ExpressionNode receiver = getReadFieldNode(identifiers.subList(0, identifiers.size() - 1));
+        ExpressionNode value = (ExpressionNode) visitExpression(ctx.expression());
+        String name = identifiers.get(identifiers.size() - 1).getText();
+        return WriteFieldNodeGen.create(receiver, value, name);
+    }
+
+    @Override
+    public StatementNode visitTupleAssignment(TuberParser.TupleAssignmentContext ctx) {
+        ExpressionNode valueNode = (ExpressionNode) visitExpression(ctx.expression());
+        List<TerminalNode> identifiers = ctx.idList().Identifier();
+        FrameSlot tupleSlot = frameDescriptor.findOrAddFrameSlot("(" + ctx.idList().getText() + ")");
+        StatementNode[] statements = new StatementNode[identifiers.size() + 1];
+        statements[0] = WriteLocalVariableNodeGen.create(valueNode, tupleSlot);
+        for (int i = 0; i < identifiers.size(); i++) {
+            String identifier = identifiers.get(i).getText();
+            FrameSlot frameSlot = frameDescriptor.findOrAddFrameSlot(identifier);
+            lexicalScope.addLocal(identifier, frameSlot);
+            ExpressionNode elementNode = ReadTupleElementNodeGen.create(
+                    ReadLocalVariableNodeGen.create(tupleSlot), i, identifiers.size());
+            statements[i + 1] = WriteLocalVariableNodeGen.create(elementNode, frameSlot);
+        }
+        return new BlockNode(statements);
+    }
+
     @Override
     public StatementNode visitReturnStatement(TuberParser.ReturnStatementContext ctx) {
         ExpressionNode expression = (ExpressionNode) visitExpression(ctx.expression());
@@ -291,6 +396,12 @@ class TuberNodeGeneratingVisitor extends TuberBaseVisitor<StatementNode> {
         if (ctx.arrayElement() != null) {
             return visitArrayElement(ctx.arrayElement());
         }
+        if (ctx.fieldAccess() != null) {
+            return visitFieldAccess(ctx.fieldAccess());
+        }
+        if (ctx.tuple() != null) {
+            return visitTuple(ctx.tuple());
+        }
         if (ctx.op != null) {
             Token op = ctx.op;
             if (op.getType() == TuberParser.Add) {
@@ -308,6 +419,11 @@ class TuberNodeGeneratingVisitor extends TuberBaseVisitor<StatementNode> {
                 ExpressionNode right = (ExpressionNode) visit(ctx.right);
                 return DivNodeGen.create(left, right);
             }
+            if (op.getType() == TuberParser.IntDivide) {
+                ExpressionNode left = (ExpressionNode) visit(ctx.left);
+                ExpressionNode right = (ExpressionNode) visit(ctx.right);
+                return IntDivNodeGen.create(left, right);
+            }
             if (op.getType() == TuberParser.Multiply) {
                 ExpressionNode left = (ExpressionNode) visit(ctx.left);
                 ExpressionNode right = (ExpressionNode) visit(ctx.right);
@@ -323,6 +439,36 @@ class TuberNodeGeneratingVisitor extends TuberBaseVisitor<StatementNode> {
                 ExpressionNode right = (ExpressionNode) visit(ctx.right);
                 return ExpNodeGen.create(left, right);
             }
+            if (op.getType() == TuberParser.BitAnd) {
+                ExpressionNode left = (ExpressionNode) visit(ctx.left);
+                ExpressionNode right = (ExpressionNode) visit(ctx.right);
+                return BitwiseAndNodeGen.create(left, right);
+            }
+            if (op.getType() == TuberParser.BitOr) {
+                ExpressionNode left = (ExpressionNode) visit(ctx.left);
+                ExpressionNode right = (ExpressionNode) visit(ctx.right);
+                return BitwiseOrNodeGen.create(left, right);
+            }
+            if (op.getType() == TuberParser.Xor) {
+                ExpressionNode left = (ExpressionNode) visit(ctx.left);
+                ExpressionNode right = (ExpressionNode) visit(ctx.right);
+                return BitwiseXorNodeGen.create(left, right);
+            }
+            if (op.getType() == TuberParser.ShiftLeft) {
+                ExpressionNode left = (ExpressionNode) visit(ctx.left);
+                ExpressionNode right = (ExpressionNode) visit(ctx.right);
+                return ShiftLeftNodeGen.create(left, right);
+            }
+            if (op.getType() == TuberParser.ShiftRight) {
+                ExpressionNode left = (ExpressionNode) visit(ctx.left);
+                ExpressionNode right = (ExpressionNode) visit(ctx.right);
+                return ShiftRightNodeGen.create(left, right);
+            }
+            if (op.getType() == TuberParser.UnsignedShiftRight) {
+                ExpressionNode left = (ExpressionNode) visit(ctx.left);
+                ExpressionNode right = (ExpressionNode) visit(ctx.right);
+                return UnsignedShiftRightNodeGen.create(left, right);
+            }
             if (op.getType() == TuberParser.Equal) {
                 ExpressionNode left = (ExpressionNode) visit(ctx.left);
                 ExpressionNode right = (ExpressionNode) visit(ctx.right);
@@ -383,6 +529,15 @@ class TuberNodeGeneratingVisitor extends TuberBaseVisitor<StatementNode> {
         return new ArrayLiteralNode();
     }
 
+    @Override
+    public StatementNode visitTuple(TuberParser.TupleContext ctx) {
+        ExpressionNode[] expressions = ctx.expression().stream()
+                .map(this::visitExpression)
+                .map(ExpressionNode.class::cast)
+                .toArray(ExpressionNode[]::new);
+        return new TupleLiteralNode(expressions);
+    }
+
     @Override
     public StatementNode visitArrayElement(TuberParser.ArrayElementContext ctx) {
         String identifier = ctx.Identifier().getText();
@@ -394,6 +549,11 @@ class TuberNodeGeneratingVisitor extends TuberBaseVisitor<StatementNode> {
         return getReadArrayElementNode(new LinkedList<>(expression), ReadLocalVariableNodeGen.create(slot));
     }
 
+    @Override
+    public StatementNode visitFieldAccess(TuberParser.FieldAccessContext ctx) {
+        return getReadFieldNode(ctx.Identifier());
+    }
+
     @Override
     public StatementNode visitLiteral(TuberParser.LiteralContext ctx) {
         String text = ctx.getText();
@@ -409,7 +569,7 @@ class TuberNodeGeneratingVisitor extends TuberBaseVisitor<StatementNode> {
         }
         if (ctx.String() != null) {
             String withoutQuotes = text.substring(1, text.length() - 1);
-            return new StringLiteralNode(withoutQuotes);
+            return new StringLiteralNode(withoutQuotes.intern());
         }
         if (ctx.Long() != null) {
             return new LongLiteralNode(Long.valueOf(text));
@@ -453,4 +613,48 @@ class TuberNodeGeneratingVisitor extends TuberBaseVisitor<StatementNode> {
         ReadArrayElementNode newCurrent = new ReadArrayElementNode(currentNode, indexNode);
         return getWriteArrayElementNode(indexes, element, newCurrent);
     }
+
+    private StatementNode getUpdateLocalVariableNode(TerminalNode identifier, Token op,
+                                                     TuberParser.ExpressionContext expression, String text) {
+        FrameSlot slot = lexicalScope.getLocals().get(identifier.getText());
+        ExpressionNode valueNode = getCompoundValueNode(expression);
+        int type = op.getType();
+        if (type == TuberParser.AddAssign || type == TuberParser.Increment) {
+            return AddLocalVariableNodeGen.create(valueNode, slot);
+        }
+        if (type == TuberParser.SubtractAssign || type == TuberParser.Decrement) {
+            return SubtractLocalVariableNodeGen.create(valueNode, slot);
+        }
+        if (type == TuberParser.MultiplyAssign) {
+            return MultiplyLocalVariableNodeGen.create(valueNode, slot);
+        }
+        throw new IllegalStateException(String.format("Unknown compound assignment: %s", text));
+    }
+
+    private ExpressionNode getCompoundValueNode(TuberParser.ExpressionContext expression) {
+        return expression == null ? new LongLiteralNode(1) : (ExpressionNode) visitExpression(expression);
+    }
+
+    private BinaryNode getCompoundOperationNode(TuberParser.ArrayElementCompoundAssignmentContext ctx) {
+        int type = ctx.op.getType();
+        if (type == TuberParser.AddAssign || type == TuberParser.Increment) {
+            return AddNodeGen.create(null, null);
+        }
+        if (type == TuberParser.SubtractAssign || type == TuberParser.Decrement) {
+            return SubNodeGen.create(null, null);
+        }
+        if (type == TuberParser.MultiplyAssign) {
+            return MulNodeGen.create(null, null);
+        }
+        throw new IllegalStateException(String.format("Unknown compound assignment: %s", ctx.getText()));
+    }
+
+    private ExpressionNode getReadFieldNode(List<TerminalNode> identifiers) {
+        FrameSlot slot = lexicalScope.getLocals().get(identifiers.get(0).getText());
+        ExpressionNode currentNode = ReadLocalVariableNodeGen.create(slot);
+        for (TerminalNode identifier : identifiers.subList(1, identifiers.size())) {
+            currentNode = ReadFieldNodeGen.create(currentNode, identifier.getText());
+        }
+        return currentNode;
+    }
 }
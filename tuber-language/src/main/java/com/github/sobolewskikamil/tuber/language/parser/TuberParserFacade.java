@@ -24,6 +24,7 @@ package com.github.sobolewskikamil.tuber.language.parser;
 import com.github.sobolewskikamil.tuber.language.Language;
 import com.github.sobolewskikamil.tuber.language.grammar.TuberLexer;
 import com.github.sobolewskikamil.tuber.language.grammar.TuberParser;
+import com.github.sobolewskikamil.tuber.language.optimizer.Optimizer;
 import com.oracle.truffle.api.RootCallTarget;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
@@ -32,10 +33,10 @@ import java.util.Map;
 
 public class TuberParserFacade implements ParserFacade {
     @Override
-    public Map<String, RootCallTarget> parseLanguage(Language language, String source) {
+    public Map<String, RootCallTarget> parseLanguage(Language language, String source, Optimizer optimizer) {
         TuberLexer lexer = new TuberLexer(CharStreams.fromString(source));
         TuberParser parser = new TuberParser(new CommonTokenStream(lexer));
-        TuberNodeGeneratingVisitor visitor = new TuberNodeGeneratingVisitor(language);
+        TuberNodeGeneratingVisitor visitor = new TuberNodeGeneratingVisitor(language, optimizer);
         TuberParser.ParseContext parse = parser.parse();
         visitor.visit(parse);
         return visitor.getFunctions();
@@ -25,29 +25,44 @@ import com.github.sobolewskikamil.tuber.language.Language;
 import com.github.sobolewskikamil.tuber.language.node.RootNode;
 import com.github.sobolewskikamil.tuber.language.node.expression.ExpressionNode;
 import com.github.sobolewskikamil.tuber.language.node.expression.access.ReadArgumentNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.access.ReadRemainingArgumentsNode;
 import com.github.sobolewskikamil.tuber.language.node.expression.builtin.*;
 import com.github.sobolewskikamil.tuber.language.utils.NodeUtils;
+import com.oracle.truffle.api.RootCallTarget;
 import com.oracle.truffle.api.Truffle;
 import com.oracle.truffle.api.TruffleLanguage.Env;
 import com.oracle.truffle.api.dsl.NodeFactory;
 import com.oracle.truffle.api.frame.FrameDescriptor;
+import org.graalvm.options.OptionValues;
 
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
 import java.io.PrintWriter;
+import java.util.SplittableRandom;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 public class Context {
+    private static final int PATTERN_CACHE_SIZE = 64;
+
     private final Language language;
     private final FunctionRegistry functionRegistry;
     private final BufferedReader input;
     private final PrintWriter output;
+    private final PrintWriter errorOutput;
+    private final PatternCache patternCache;
+    private final OptionValues options;
+    private SplittableRandom random;
 
     public Context(Language language, Env env) {
         this.language = language;
         this.functionRegistry = new FunctionRegistry();
         this.input = new BufferedReader(new InputStreamReader(env.in()));
         this.output = new PrintWriter(env.out(), true);
+        this.errorOutput = new PrintWriter(env.err(), true);
+        this.patternCache = new PatternCache(PATTERN_CACHE_SIZE);
+        this.options = env.getOptions();
+        this.random = new SplittableRandom();
         installBuiltins();
     }
 
@@ -63,24 +78,147 @@ public class Context {
         return output;
     }
 
+    public PrintWriter getErrorOutput() {
+        return errorOutput;
+    }
+
+    public OptionValues getOptions() {
+        return options;
+    }
+
+    public PatternCache getPatternCache() {
+        return patternCache;
+    }
+
+    /**
+     * Random generator of the context. It is not thread safe, so other threads should use their own
+     * {@link SplittableRandom#split()} of it.
+     */
+    public SplittableRandom getRandom() {
+        return random;
+    }
+
+    public void setRandom(SplittableRandom random) {
+        this.random = random;
+    }
+
     private void installBuiltins() {
         installBuiltin(ReadlnBuiltinNodeFactory.getInstance());
         installBuiltin(PrintlnBuiltinNodeFactory.getInstance());
         installBuiltin(NewArrayBuiltinNodeFactory.getInstance());
         installBuiltin(ArrayLengthBuiltinNodeFactory.getInstance());
         installBuiltin(CurrentTimeMillisBuiltinNodeFactory.getInstance());
+        installBuiltin(NewMapBuiltinNodeFactory.getInstance());
+        installBuiltin(MapGetBuiltinNodeFactory.getInstance());
+        installBuiltin(MapPutBuiltinNodeFactory.getInstance());
+        installBuiltin(MapHasBuiltinNodeFactory.getInstance());
+        installBuiltin(MapRemoveBuiltinNodeFactory.getInstance());
+        installBuiltin(MapKeysBuiltinNodeFactory.getInstance());
+        installBuiltin(SizeBuiltinNodeFactory.getInstance());
+        installBuiltin(NewRecordBuiltinNodeFactory.getInstance());
+        installBuiltin(NewHeapBuiltinNodeFactory.getInstance());
+        installBuiltin(HeapPushBuiltinNodeFactory.getInstance());
+        installBuiltin(HeapPopBuiltinNodeFactory.getInstance());
+        installBuiltin(HeapPeekBuiltinNodeFactory.getInstance());
+        installBuiltin(NewDequeBuiltinNodeFactory.getInstance());
+        installBuiltin(DequePushFrontBuiltinNodeFactory.getInstance());
+        installBuiltin(DequePushBackBuiltinNodeFactory.getInstance());
+        installBuiltin(DequePopFrontBuiltinNodeFactory.getInstance());
+        installBuiltin(DequePopBackBuiltinNodeFactory.getInstance());
+        installBuiltin(NewBuilderBuiltinNodeFactory.getInstance());
+        installBuiltin(BuilderAppendBuiltinNodeFactory.getInstance());
+        installBuiltin(BuilderBuildBuiltinNodeFactory.getInstance());
+        installBuiltin(BuilderClearBuiltinNodeFactory.getInstance());
+        installBuiltin(BuilderLengthBuiltinNodeFactory.getInstance());
+        installBuiltin(StrlenBuiltinNodeFactory.getInstance());
+        installBuiltin(CharAtBuiltinNodeFactory.getInstance());
+        installBuiltin(SubstringBuiltinNodeFactory.getInstance());
+        installBuiltin(IndexOfBuiltinNodeFactory.getInstance());
+        installBuiltin(StartsWithBuiltinNodeFactory.getInstance());
+        installBuiltin(EndsWithBuiltinNodeFactory.getInstance());
+        installBuiltin(ToUpperBuiltinNodeFactory.getInstance());
+        installBuiltin(ToLowerBuiltinNodeFactory.getInstance());
+        installBuiltin(TrimBuiltinNodeFactory.getInstance());
+        installBuiltin(ChrBuiltinNodeFactory.getInstance());
+        installBuiltin(OrdBuiltinNodeFactory.getInstance());
+        installBuiltin(SplitBuiltinNodeFactory.getInstance());
+        installBuiltin(SplitWhitespaceBuiltinNodeFactory.getInstance());
+        installBuiltin(TokenizeBuiltinNodeFactory.getInstance());
+        installBuiltin(JoinBuiltinNodeFactory.getInstance());
+        installBuiltin(ToLongBuiltinNodeFactory.getInstance());
+        installBuiltin(ToDoubleBuiltinNodeFactory.getInstance());
+        installBuiltin(ToNumberBuiltinNodeFactory.getInstance());
+        installVariadicBuiltin(FormatBuiltinNodeFactory.getInstance());
+        installBuiltin(MatchesBuiltinNodeFactory.getInstance());
+        installBuiltin(FindBuiltinNodeFactory.getInstance());
+        installBuiltin(GroupsBuiltinNodeFactory.getInstance());
+        installBuiltin(ReplaceAllBuiltinNodeFactory.getInstance());
+        installMathBuiltins();
+        installRandomBuiltins();
+    }
+
+    private void installMathBuiltins() {
+        installLazyBuiltin(AbsBuiltinNodeFactory.getInstance());
+        installLazyBuiltin(MinBuiltinNodeFactory.getInstance());
+        installLazyBuiltin(MaxBuiltinNodeFactory.getInstance());
+        installLazyBuiltin(FloorBuiltinNodeFactory.getInstance());
+        installLazyBuiltin(CeilBuiltinNodeFactory.getInstance());
+        installLazyBuiltin(RoundBuiltinNodeFactory.getInstance());
+        installLazyBuiltin(SqrtBuiltinNodeFactory.getInstance());
+        installLazyBuiltin(SinBuiltinNodeFactory.getInstance());
+        installLazyBuiltin(CosBuiltinNodeFactory.getInstance());
+        installLazyBuiltin(TanBuiltinNodeFactory.getInstance());
+        installLazyBuiltin(Atan2BuiltinNodeFactory.getInstance());
+        installLazyBuiltin(ExpBuiltinNodeFactory.getInstance());
+        installLazyBuiltin(LogBuiltinNodeFactory.getInstance());
+    }
+
+    private void installRandomBuiltins() {
+        installLazyBuiltin(RandomBuiltinNodeFactory.getInstance());
+        installLazyBuiltin(RandomLongBuiltinNodeFactory.getInstance());
+        installLazyBuiltin(SeedBuiltinNodeFactory.getInstance());
     }
 
     private void installBuiltin(NodeFactory<? extends BuiltinNode> factory) {
+        registerBuiltin(factory, createArgumentNodes(factory));
+    }
+
+    /**
+     * Installs a builtin whose node is created only when it is first looked up.
+     */
+    private void installLazyBuiltin(NodeFactory<? extends BuiltinNode> factory) {
+        String name = NodeUtils.getNodeInfo(factory.getNodeClass()).shortName();
+        getFunctionRegistry().registerLazy(name,
+                () -> createCallTarget(factory.createNode((Object) createArgumentNodes(factory))));
+    }
+
+    private static ExpressionNode[] createArgumentNodes(NodeFactory<? extends BuiltinNode> factory) {
         int argumentCount = factory.getExecutionSignature().size();
-        ExpressionNode[] argumentNodes = IntStream.range(0, argumentCount)
+        return IntStream.range(0, argumentCount)
                 .mapToObj(ReadArgumentNode::new)
                 .toArray(ExpressionNode[]::new);
+    }
+
+    /**
+     * Installs a builtin whose last parameter receives all remaining arguments as an array.
+     */
+    private void installVariadicBuiltin(NodeFactory<? extends BuiltinNode> factory) {
+        int fixedArgumentCount = factory.getExecutionSignature().size() - 1;
+        ExpressionNode[] argumentNodes = Stream.concat(
+                IntStream.range(0, fixedArgumentCount).mapToObj(ReadArgumentNode::new),
+                Stream.of(new ReadRemainingArgumentsNode(fixedArgumentCount)))
+                .toArray(ExpressionNode[]::new);
+        registerBuiltin(factory, argumentNodes);
+    }
 
+    private void registerBuiltin(NodeFactory<? extends BuiltinNode> factory, ExpressionNode[] argumentNodes) {
         BuiltinNode builtinNode = factory.createNode((Object) argumentNodes);
         String name = NodeUtils.getNodeInfo(builtinNode.getClass()).shortName();
+        getFunctionRegistry().register(name, createCallTarget(builtinNode));
+    }
 
+    private RootCallTarget createCallTarget(BuiltinNode builtinNode) {
         RootNode rootNode = new RootNode(language, new FrameDescriptor(), builtinNode);
-        getFunctionRegistry().register(name, Truffle.getRuntime().createCallTarget(rootNode));
+        return Truffle.getRuntime().createCallTarget(rootNode);
     }
 }
@@ -21,17 +21,24 @@
  */
 package com.github.sobolewskikamil.tuber.language.runtime;
 
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.RootCallTarget;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 public class FunctionRegistry {
     private final Map<String, RootCallTarget> functions = new HashMap<>();
+    private final Map<String, Supplier<RootCallTarget>> lazyFunctions = new HashMap<>();
 
     public Optional<RootCallTarget> lookup(String name) {
-        return Optional.ofNullable(functions.get(name));
+        RootCallTarget function = functions.get(name);
+        if (function == null && lazyFunctions.containsKey(name)) {
+            function = createLazy(name);
+        }
+        return Optional.ofNullable(function);
     }
 
     public void register(String name, RootCallTarget function) {
@@ -41,4 +48,19 @@ public class FunctionRegistry {
     public void registerAll(Map<String, RootCallTarget> functions) {
         this.functions.putAll(functions);
     }
+
+    /**
+     * Registers a function which is created on its first lookup, so that rarely used builtins do not slow down
+     * context creation. Functions registered eagerly under the same name take precedence.
+     */
+    public void registerLazy(String name, Supplier<RootCallTarget> factory) {
+        lazyFunctions.put(name, factory);
+    }
+
+    @TruffleBoundary
+    private RootCallTarget createLazy(String name) {
+        RootCallTarget function = lazyFunctions.remove(name).get();
+        functions.put(name, function);
+        return function;
+    }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.runtime;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Bounded cache of compiled regular expressions, evicting the least recently used one. Used for patterns which are
+ * not constant at the call site.
+ */
+public class PatternCache {
+    private final Map<String, Pattern> patterns;
+
+    public PatternCache(int capacity) {
+        this.patterns = new LinkedHashMap<String, Pattern>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the compiled pattern, or {@code null} when the regular expression is invalid.
+     */
+    @TruffleBoundary
+    public Pattern get(String regex) {
+        Pattern pattern = patterns.get(regex);
+        if (pattern == null) {
+            pattern = compile(regex);
+            if (pattern != null) {
+                patterns.put(regex, pattern);
+            }
+        }
+        return pattern;
+    }
+
+    public int size() {
+        return patterns.size();
+    }
+
+    /**
+     * Compiles the regular expression, returning {@code null} when it is invalid.
+     */
+    @TruffleBoundary
+    public static Pattern compile(String regex) {
+        try {
+            return Pattern.compile(regex);
+        } catch (PatternSyntaxException e) {
+            return null;
+        }
+    }
+}
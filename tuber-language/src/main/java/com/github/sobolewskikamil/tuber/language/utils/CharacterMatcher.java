@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.utils;
+
+import com.github.sobolewskikamil.tuber.language.node.type.ArrayType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Precompiled set of delimiter characters. ASCII characters are looked up in a table, other characters are searched
+ * in a string, which is usually empty.
+ */
+public final class CharacterMatcher {
+    private static final int ASCII = 128;
+    private static final CharacterMatcher WHITESPACE = createWhitespace();
+
+    private final boolean[] asciiCharacters;
+    private final String otherCharacters;
+
+    private CharacterMatcher(String characters) {
+        this.asciiCharacters = new boolean[ASCII];
+        StringBuilder others = new StringBuilder();
+        for (int i = 0; i < characters.length(); i++) {
+            char character = characters.charAt(i);
+            if (character < ASCII) {
+                asciiCharacters[character] = true;
+            } else {
+                others.append(character);
+            }
+        }
+        this.otherCharacters = others.toString();
+    }
+
+    public static CharacterMatcher of(String characters) {
+        return new CharacterMatcher(characters);
+    }
+
+    public static CharacterMatcher whitespace() {
+        return WHITESPACE;
+    }
+
+    public boolean matches(char character) {
+        return character < ASCII ? asciiCharacters[character] : otherCharacters.indexOf(character) >= 0;
+    }
+
+    /**
+     * Splits the value on runs of matching characters. Leading, trailing and repeated delimiters do not produce
+     * empty tokens.
+     */
+    public ArrayType tokenize(String value) {
+        List<Object> tokens = new ArrayList<>();
+        int length = value.length();
+        int start = 0;
+        while (start < length) {
+            while (start < length && matches(value.charAt(start))) {
+                start++;
+            }
+            int end = start;
+            while (end < length && !matches(value.charAt(end))) {
+                end++;
+            }
+            if (end > start) {
+                tokens.add(value.substring(start, end));
+            }
+            start = end;
+        }
+        return new ArrayType(tokens.toArray());
+    }
+
+    private static CharacterMatcher createWhitespace() {
+        StringBuilder characters = new StringBuilder();
+        for (char character = Character.MIN_VALUE; character < Character.MAX_VALUE; character++) {
+            if (Character.isWhitespace(character)) {
+                characters.append(character);
+            }
+        }
+        return new CharacterMatcher(characters.toString());
+    }
+}
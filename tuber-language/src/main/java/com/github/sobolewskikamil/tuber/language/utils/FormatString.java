@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.utils;
+
+import com.github.sobolewskikamil.tuber.language.node.type.RopeType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Format string parsed into literal text and directives, so that it can be applied many times without parsing it
+ * again. Supports {@code %d}, {@code %s} and {@code %f} with the {@code -} and {@code 0} flags, width and precision,
+ * as well as {@code %%} and {@code %n}.
+ * <p>
+ * Doubles are rendered without {@link java.util.Formatter} when the scaled value fits exactly in a {@code double};
+ * they are then rounded half up from their binary value, which may differ from {@link String#format} in the last
+ * digit for values such as {@code 2.675}.
+ */
+public final class FormatString {
+    private static final int DEFAULT_PRECISION = 6;
+    private static final int MAX_FAST_PRECISION = 15;
+    private static final double MAX_FAST_SCALED_VALUE = 1e15;
+    private static final long[] POWERS_OF_TEN = new long[MAX_FAST_PRECISION + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final String[] literals;
+    private final Directive[] directives;
+
+    private FormatString(String[] literals, Directive[] directives) {
+        this.literals = literals;
+        this.directives = directives;
+    }
+
+    public static FormatString parse(String format) {
+        List<String> literals = new ArrayList<>();
+        List<Directive> directives = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int length = format.length();
+        int index = 0;
+        while (index < length) {
+            char character = format.charAt(index++);
+            if (character != '%') {
+                literal.append(character);
+                continue;
+            }
+
+            boolean leftAligned = false;
+            boolean zeroPadded = false;
+            for (; index < length; index++) {
+                if (format.charAt(index) == '-') {
+                    leftAligned = true;
+                } else if (format.charAt(index) == '0') {
+                    zeroPadded = true;
+                } else {
+                    break;
+                }
+            }
+            int width = 0;
+            for (; index < length && isDigit(format.charAt(index)); index++) {
+                width = width * 10 + format.charAt(index) - '0';
+            }
+            int precision = -1;
+            if (index < length && format.charAt(index) == '.') {
+                int start = ++index;
+                precision = 0;
+                for (; index < length && isDigit(format.charAt(index)); index++) {
+                    precision = precision * 10 + format.charAt(index) - '0';
+                }
+                if (index == start) {
+                    throw invalidDirective(format);
+                }
+            }
+            if (index == length) {
+                throw invalidDirective(format);
+            }
+
+            char conversion = format.charAt(index++);
+            boolean modified = leftAligned || zeroPadded || width > 0 || precision >= 0;
+            if (conversion == '%' || conversion == 'n') {
+                if (modified) {
+                    throw invalidDirective(format);
+                }
+                literal.append(conversion == '%' ? "%" : System.lineSeparator());
+                continue;
+            }
+            if (conversion != 'd' && conversion != 's' && conversion != 'f'
+                    || conversion == 'd' && precision >= 0
+                    || conversion == 's' && zeroPadded
+                    || leftAligned && zeroPadded
+                    || (leftAligned || zeroPadded) && width == 0) {
+                throw invalidDirective(format);
+            }
+            literals.add(literal.toString());
+            literal.setLength(0);
+            directives.add(new Directive(conversion, leftAligned, zeroPadded, width, precision));
+        }
+        literals.add(literal.toString());
+        return new FormatString(literals.toArray(new String[0]), directives.toArray(new Directive[0]));
+    }
+
+    /**
+     * Formats the arguments, ignoring the ones without a matching directive.
+     *
+     * @throws IllegalArgumentException when an argument is missing or does not match its directive
+     */
+    public String format(Object[] arguments) {
+        if (arguments.length < directives.length) {
+            throw new IllegalArgumentException("Expected " + directives.length + " arguments");
+        }
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < directives.length; i++) {
+            result.append(literals[i]);
+            directives[i].appendTo(result, arguments[i]);
+        }
+        result.append(literals[directives.length]);
+        return result.toString();
+    }
+
+    private static boolean isDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+
+    private static IllegalArgumentException invalidDirective(String format) {
+        return new IllegalArgumentException("Invalid format: " + format);
+    }
+
+    private static final class Directive {
+        private final char conversion;
+        private final boolean leftAligned;
+        private final boolean zeroPadded;
+        private final int width;
+        private final int precision;
+
+        private Directive(char conversion, boolean leftAligned, boolean zeroPadded, int width, int precision) {
+            this.conversion = conversion;
+            this.leftAligned = leftAligned;
+            this.zeroPadded = zeroPadded;
+            this.width = width;
+            this.precision = precision;
+        }
+
+        private void appendTo(StringBuilder result, Object argument) {
+            int start = result.length();
+            if (conversion == 'd') {
+                if (!(argument instanceof Long)) {
+                    throw new IllegalArgumentException("Expected integer for %d: " + argument);
+                }
+                result.append((long) argument);
+            } else if (conversion == 'f') {
+                if (argument instanceof Long) {
+                    appendFixed(result, (long) argument);
+                } else if (argument instanceof Double) {
+                    appendFixed(result, (double) argument);
+                } else {
+                    throw new IllegalArgumentException("Expected number for %f: " + argument);
+                }
+            } else {
+                if (argument instanceof RopeType) {
+                    ((RopeType) argument).appendTo(result);
+                } else {
+                    result.append(argument);
+                }
+                if (precision >= 0 && result.length() - start > precision) {
+                    result.setLength(start + precision);
+                }
+            }
+            pad(result, start);
+        }
+
+        private void appendFixed(StringBuilder result, double value) {
+            int digits = precision < 0 ? DEFAULT_PRECISION : precision;
+            double magnitude = Math.abs(value);
+            if (digits > MAX_FAST_PRECISION || !(magnitude * POWERS_OF_TEN[digits] < MAX_FAST_SCALED_VALUE)) {
+                result.append(String.format(Locale.ROOT, "%." + digits + "f", value));
+                return;
+            }
+            long power = POWERS_OF_TEN[digits];
+            long scaled = Math.round(magnitude * power);
+            if (Double.doubleToRawLongBits(value) < 0) {
+                result.append('-');
+            }
+            result.append(scaled / power);
+            if (digits > 0) {
+                result.append('.');
+                long fraction = scaled % power;
+                for (long digit = power / 10; digit > fraction && digit > 1; digit /= 10) {
+                    result.append('0');
+                }
+                result.append(fraction);
+            }
+        }
+
+        private void pad(StringBuilder result, int start) {
+            int padding = width - (result.length() - start);
+            if (padding <= 0) {
+                return;
+            }
+            if (leftAligned) {
+                for (int i = 0; i < padding; i++) {
+                    result.append(' ');
+                }
+                return;
+            }
+            // like Formatter, NaN and Infinity are padded with spaces even with the 0 flag
+            boolean zeros = zeroPadded && Character.isDigit(result.charAt(result.length() - 1));
+            int position = zeros && result.charAt(start) == '-' ? start + 1 : start;
+            char padCharacter = zeros ? '0' : ' ';
+            for (int i = 0; i < padding; i++) {
+                result.insert(position, padCharacter);
+            }
+        }
+    }
+}
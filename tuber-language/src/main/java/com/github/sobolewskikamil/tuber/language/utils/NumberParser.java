@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.utils;
+
+import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+/**
+ * Parsers for numeric literals that return {@code null} for malformed input instead of throwing an exception.
+ * Decimal numbers with at most 15 significant digits and a small exponent are computed exactly from the parsed
+ * mantissa; only the remaining ones are passed to {@link Double#parseDouble(String)}.
+ */
+public final class NumberParser {
+    private static final int MAX_MANTISSA_DIGITS = 15;
+    private static final int MAX_EXACT_EXPONENT = 22;
+    private static final int MAX_EXPONENT = 100000;
+
+    @CompilationFinal(dimensions = 1)
+    private static final double[] POWERS_OF_TEN = new double[MAX_EXACT_EXPONENT + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1.0;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private NumberParser() {
+    }
+
+    /**
+     * Parses an optionally signed decimal integer, returning {@code null} when it is malformed or out of range.
+     */
+    public static Long parseLong(String value) {
+        int length = value.length();
+        int index = 0;
+        boolean negative = false;
+        if (length > 0 && isSign(value.charAt(0))) {
+            negative = value.charAt(0) == '-';
+            index++;
+        }
+        if (index == length) {
+            return null;
+        }
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplicationLimit = limit / 10;
+        long result = 0;
+        for (; index < length; index++) {
+            int digit = value.charAt(index) - '0';
+            if (digit < 0 || digit > 9 || result < multiplicationLimit) {
+                return null;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return null;
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * Parses a decimal number with an optional sign, fraction and exponent, returning {@code null} when it is
+     * malformed.
+     */
+    public static Double parseDouble(String value) {
+        int length = value.length();
+        int index = 0;
+        boolean negative = false;
+        if (length > 0 && isSign(value.charAt(0))) {
+            negative = value.charAt(0) == '-';
+            index++;
+        }
+
+        long mantissa = 0;
+        int significantDigits = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean fraction = false;
+        for (; index < length; index++) {
+            char character = value.charAt(index);
+            if (character == '.' && !fraction) {
+                fraction = true;
+                continue;
+            }
+            int digit = character - '0';
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            digits++;
+            if (significantDigits > 0 || digit != 0) {
+                significantDigits++;
+            }
+            if (significantDigits <= MAX_MANTISSA_DIGITS) {
+                mantissa = mantissa * 10 + digit;
+                if (fraction) {
+                    exponent--;
+                }
+            } else if (!fraction) {
+                exponent++;
+            }
+        }
+        if (digits == 0) {
+            return null;
+        }
+
+        if (index < length) {
+            char character = value.charAt(index);
+            if (character != 'e' && character != 'E') {
+                return null;
+            }
+            index++;
+            boolean negativeExponent = false;
+            if (index < length && isSign(value.charAt(index))) {
+                negativeExponent = value.charAt(index) == '-';
+                index++;
+            }
+            if (index == length) {
+                return null;
+            }
+            int explicitExponent = 0;
+            for (; index < length; index++) {
+                int digit = value.charAt(index) - '0';
+                if (digit < 0 || digit > 9) {
+                    return null;
+                }
+                if (explicitExponent < MAX_EXPONENT) {
+                    explicitExponent = explicitExponent * 10 + digit;
+                }
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+
+        if (significantDigits > MAX_MANTISSA_DIGITS || Math.abs(exponent) > MAX_EXACT_EXPONENT) {
+            return slowParseDouble(value);
+        }
+        double result = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+        return negative ? -result : result;
+    }
+
+    private static boolean isSign(char character) {
+        return character == '-' || character == '+';
+    }
+
+    @TruffleBoundary
+    private static Double slowParseDouble(String value) {
+        return Double.parseDouble(value);
+    }
+}
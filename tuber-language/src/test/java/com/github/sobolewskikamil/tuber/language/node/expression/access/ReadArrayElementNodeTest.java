@@ -24,8 +24,12 @@ package com.github.sobolewskikamil.tuber.language.node.expression.access;
 import com.github.sobolewskikamil.tuber.language.exception.TuberException;
 import com.github.sobolewskikamil.tuber.language.node.expression.ExpressionNode;
 import com.github.sobolewskikamil.tuber.language.node.type.ArrayType;
+import com.github.sobolewskikamil.tuber.language.node.type.DequeType;
+import com.github.sobolewskikamil.tuber.language.node.type.RopeType;
+import com.github.sobolewskikamil.tuber.language.node.type.TupleType;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.UnexpectedResultException;
+import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -53,7 +57,7 @@ class ReadArrayElementNodeTest {
     @Test
     void shouldReturnArrayElementByIndex() throws UnexpectedResultException {
         // given
-        when(sourceNode.executeArrayType(frame)).thenReturn(new ArrayType("test1", "test2", "test3"));
+        when(sourceNode.executeGeneric(frame)).thenReturn(new ArrayType("test1", "test2", "test3"));
         when(indexNode.executeLong(frame)).thenReturn(1L);
 
         // when
@@ -66,7 +70,7 @@ class ReadArrayElementNodeTest {
     @Test
     void shouldThrowExceptionWhenNoElementOnGivenIndex() throws UnexpectedResultException {
         // given
-        when(sourceNode.executeArrayType(frame)).thenReturn(new ArrayType());
+        when(sourceNode.executeGeneric(frame)).thenReturn(new ArrayType());
         when(indexNode.executeLong(frame)).thenReturn(1L);
 
         // when / then
@@ -75,9 +79,96 @@ class ReadArrayElementNodeTest {
     }
 
     @Test
-    void shouldThrowExceptionWhenSourceNodeThrowsUnexpectedResultException() throws UnexpectedResultException {
+    void shouldReturnDequeElementByIndex() throws UnexpectedResultException {
         // given
-        when(sourceNode.executeArrayType(frame)).thenThrow(new UnexpectedResultException("test"));
+        DequeType deque = new DequeType();
+        deque.pushBack(1L);
+        deque.pushBack(2L);
+        deque.pushFront(0L);
+        when(sourceNode.executeGeneric(frame)).thenReturn(deque);
+        when(indexNode.executeLong(frame)).thenReturn(1L);
+
+        // when
+        Object result = node.executeGeneric(frame);
+
+        // then
+        assertThat(result).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenDequeIndexIsOutOfBounds() throws UnexpectedResultException {
+        // given
+        DequeType deque = new DequeType();
+        deque.pushBack(1L);
+        when(sourceNode.executeGeneric(frame)).thenReturn(deque);
+        when(indexNode.executeLong(frame)).thenReturn(1L);
+
+        // when
+        TuberException exception = catchThrowableOfType(() -> node.executeGeneric(frame), TuberException.class);
+
+        // then
+        assertThat(exception).hasMessage("Error: operation not defined for Deque [1], Number 1.");
+        assertThat(exception.getLocation()).isSameAs(node);
+    }
+
+    @Test
+    void shouldReturnTupleElementByIndex() throws UnexpectedResultException {
+        // given
+        when(sourceNode.executeGeneric(frame)).thenReturn(new TupleType(1L, "test"));
+        when(indexNode.executeLong(frame)).thenReturn(1L);
+
+        // when
+        Object result = node.executeGeneric(frame);
+
+        // then
+        assertThat(result).isEqualTo("test");
+    }
+
+    @Test
+    void shouldReturnCharacterCodeOfStringByIndex() throws UnexpectedResultException {
+        // given
+        when(sourceNode.executeGeneric(frame)).thenReturn("test");
+        when(indexNode.executeLong(frame)).thenReturn(1L);
+
+        // when
+        Object result = node.executeGeneric(frame);
+
+        // then
+        assertThat(result).isEqualTo((long) 'e');
+    }
+
+    @Test
+    void shouldReturnCharacterCodeOfRopeByIndex() throws UnexpectedResultException {
+        // given
+        when(sourceNode.executeGeneric(frame)).thenReturn(RopeType.concat(StringUtils.repeat("a", 100), "b"));
+        when(indexNode.executeLong(frame)).thenReturn(100L);
+
+        // when
+        Object result = node.executeGeneric(frame);
+
+        // then
+        assertThat(result).isEqualTo((long) 'b');
+    }
+
+    @Test
+    void shouldThrowExceptionWhenStringIndexIsOutOfBounds() throws UnexpectedResultException {
+        // given
+        when(sourceNode.executeGeneric(frame)).thenReturn("test");
+        when(indexNode.executeLong(frame)).thenReturn(4L);
+
+        // when
+        TuberException exception = catchThrowableOfType(() -> node.executeGeneric(frame), TuberException.class);
+
+        // then
+        assertThat(exception).hasMessage("Error: operation not defined for String \"test\", Number 4.");
+        assertThat(exception.getLocation()).isSameAs(node);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenSourceIsNotIndexable() throws UnexpectedResultException {
+        // given
+        when(sourceNode.executeGeneric(frame)).thenReturn(1L);
+        when(indexNode.executeLong(frame)).thenReturn(1L);
 
         // when
         TuberException exception = catchThrowableOfType(() -> node.executeGeneric(frame), TuberException.class);
@@ -90,7 +181,7 @@ class ReadArrayElementNodeTest {
     @Test
     void shouldThrowExceptionWhenIndexNodeThrowsUnexpectedResultException() throws UnexpectedResultException {
         // given
-        when(sourceNode.executeArrayType(frame)).thenReturn(new ArrayType());
+        when(sourceNode.executeGeneric(frame)).thenReturn(new ArrayType());
         when(indexNode.executeLong(frame)).thenThrow(new UnexpectedResultException("test"));
 
         // when
@@ -100,4 +191,45 @@ class ReadArrayElementNodeTest {
         assertThat(exception).hasMessage("Error: operation not defined.");
         assertThat(exception.getLocation()).isSameAs(node);
     }
+
+    @Test
+    void shouldThrowExceptionWhenStringIndexExceedsIntRange() throws UnexpectedResultException {
+        // given
+        when(sourceNode.executeGeneric(frame)).thenReturn("abc");
+        when(indexNode.executeLong(frame)).thenReturn(4294967297L);
+
+        // when
+        TuberException exception = catchThrowableOfType(() -> node.executeGeneric(frame), TuberException.class);
+
+        // then
+        assertThat(exception).hasMessage("Error: operation not defined for String \"abc\", Number 4294967297.");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenDequeIndexExceedsIntRange() throws UnexpectedResultException {
+        // given
+        DequeType deque = new DequeType();
+        deque.pushBack(1L);
+        when(sourceNode.executeGeneric(frame)).thenReturn(deque);
+        when(indexNode.executeLong(frame)).thenReturn(4294967296L);
+
+        // when
+        TuberException exception = catchThrowableOfType(() -> node.executeGeneric(frame), TuberException.class);
+
+        // then
+        assertThat(exception).hasMessage("Error: operation not defined for Deque [1], Number 4294967296.");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenTupleIndexExceedsIntRange() throws UnexpectedResultException {
+        // given
+        when(sourceNode.executeGeneric(frame)).thenReturn(new TupleType(1L, 2L));
+        when(indexNode.executeLong(frame)).thenReturn(4294967297L);
+
+        // when
+        TuberException exception = catchThrowableOfType(() -> node.executeGeneric(frame), TuberException.class);
+
+        // then
+        assertThat(exception).hasMessage("Error: operation not defined for Tuple (1, 2), Number 4294967297.");
+    }
 }
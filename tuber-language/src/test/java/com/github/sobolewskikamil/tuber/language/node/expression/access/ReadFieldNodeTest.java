@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.access;
+
+import com.github.sobolewskikamil.tuber.language.node.type.NullType;
+import com.github.sobolewskikamil.tuber.language.node.type.RecordType;
+import com.oracle.truffle.api.object.DynamicObject;
+import com.oracle.truffle.api.object.Location;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.Mockito.doReturn;
+
+@ExtendWith(MockitoExtension.class)
+class ReadFieldNodeTest {
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private ReadFieldNode node;
+
+    @BeforeEach
+    void setup() {
+        doReturn("x").when(node).getName();
+    }
+
+    @Test
+    void shouldReadFieldThroughCachedLocation() {
+        // given
+        DynamicObject record = RecordType.createRecord();
+        record.define("x", 1L);
+        Location location = node.lookupLocation(record.getShape());
+
+        // when
+        Object result = node.readCached(record, record.getShape(), location);
+
+        // then
+        assertThat(result).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldReturnNullTypeForMissingCachedField() {
+        // given
+        DynamicObject record = RecordType.createRecord();
+        Location location = node.lookupLocation(record.getShape());
+
+        // when
+        Object result = node.readCached(record, record.getShape(), location);
+
+        // then
+        assertThat(location).isNull();
+        assertThat(result).isSameAs(NullType.getInstance());
+    }
+
+    @Test
+    void shouldReadFieldWithoutCache() {
+        // given
+        DynamicObject record = RecordType.createRecord();
+        record.define("x", "test");
+
+        // when
+        Object result = node.readUncached(record);
+
+        // then
+        assertThat(result).isEqualTo("test");
+    }
+
+    @Test
+    void shouldReturnNullTypeForMissingField() {
+        // when
+        Object result = node.readUncached(RecordType.createRecord());
+
+        // then
+        assertThat(result).isSameAs(NullType.getInstance());
+    }
+}
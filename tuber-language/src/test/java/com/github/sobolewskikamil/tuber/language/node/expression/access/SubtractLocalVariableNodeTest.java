@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.access;
+
+import com.github.sobolewskikamil.tuber.language.node.expression.arithmetic.SubNode;
+import com.oracle.truffle.api.frame.FrameSlot;
+import com.oracle.truffle.api.frame.FrameSlotTypeException;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SubtractLocalVariableNodeTest {
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private SubtractLocalVariableNode node;
+    @Mock
+    private FrameSlot slot;
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private VirtualFrame frame;
+    @Mock
+    private SubNode operation;
+    @Mock
+    private WriteLocalVariableNode write;
+
+    @BeforeEach
+    void setUp() {
+        when(node.getSlot()).thenReturn(slot);
+    }
+
+    @Test
+    void shouldSubtractInPlace() throws FrameSlotTypeException {
+        // given
+        when(frame.getLong(slot)).thenReturn(5L);
+
+        // when
+        long result = node.subtractLong(frame, 3L);
+
+        // then
+        assertThat(result).isEqualTo(2L);
+        verify(frame).setLong(slot, 2L);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenLongOverflows() throws FrameSlotTypeException {
+        // given
+        when(frame.getLong(slot)).thenReturn(Long.MIN_VALUE);
+
+        // when / then
+        assertThatThrownBy(() -> node.subtractLong(frame, 1L))
+                .isExactlyInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void shouldSubtractThroughOperationAndWrite() {
+        // given
+        when(frame.getValue(slot)).thenReturn(1.5);
+        when(operation.executeEvaluated(frame, 1.5, 2L)).thenReturn(-0.5);
+        when(write.executeWrite(frame, -0.5)).thenReturn(-0.5);
+
+        // when
+        Object result = node.subtract(frame, 2L, operation, write);
+
+        // then
+        assertThat(result).isEqualTo(-0.5);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.access;
+
+import com.github.sobolewskikamil.tuber.language.exception.TuberException;
+import com.github.sobolewskikamil.tuber.language.node.expression.BinaryNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.ExpressionNode;
+import com.github.sobolewskikamil.tuber.language.node.type.ArrayType;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.UnexpectedResultException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UpdateArrayElementNodeTest {
+    private UpdateArrayElementNode node;
+    @Mock
+    private ExpressionNode sourceNode;
+    @Mock
+    private ExpressionNode indexNode;
+    @Mock
+    private ExpressionNode valueNode;
+    @Mock
+    private BinaryNode operationNode;
+    @Mock
+    private VirtualFrame frame;
+
+    @BeforeEach
+    void setUp() {
+        node = new UpdateArrayElementNode(sourceNode, indexNode, valueNode, operationNode);
+    }
+
+    @Test
+    void shouldUpdateElementUnderGivenIndex() throws UnexpectedResultException {
+        // given
+        ArrayType arrayType = new ArrayType(1L, 2L);
+        when(sourceNode.executeArrayType(frame)).thenReturn(arrayType);
+        when(indexNode.executeLong(frame)).thenReturn(1L);
+        when(valueNode.executeGeneric(frame)).thenReturn(3L);
+        when(operationNode.executeEvaluated(frame, 2L, 3L)).thenReturn(5L);
+
+        // when
+        Object result = node.executeGeneric(frame);
+
+        // then
+        assertThat(result).isEqualTo(5L);
+        assertThat(arrayType).isEqualTo(new ArrayType(1L, 5L));
+        verify(indexNode, times(1)).executeLong(frame);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenSourceIsNotArray() throws UnexpectedResultException {
+        // given
+        when(sourceNode.executeArrayType(frame)).thenThrow(new UnexpectedResultException(1L));
+
+        // when / then
+        assertThatThrownBy(() -> node.executeGeneric(frame))
+                .isExactlyInstanceOf(TuberException.class);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenIndexIsOutOfBounds() throws UnexpectedResultException {
+        // given
+        when(sourceNode.executeArrayType(frame)).thenReturn(new ArrayType(1L, 2L));
+        when(indexNode.executeLong(frame)).thenReturn(2L);
+
+        // when / then
+        assertThatThrownBy(() -> node.executeGeneric(frame))
+                .isExactlyInstanceOf(TuberException.class);
+        verify(operationNode, never()).executeEvaluated(any(), any(), any());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenIndexIsNegative() throws UnexpectedResultException {
+        // given
+        when(sourceNode.executeArrayType(frame)).thenReturn(new ArrayType(1L, 2L));
+        when(indexNode.executeLong(frame)).thenReturn(-1L);
+
+        // when / then
+        assertThatThrownBy(() -> node.executeGeneric(frame))
+                .isExactlyInstanceOf(TuberException.class);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenElementIsNotInitialized() throws UnexpectedResultException {
+        // given
+        when(sourceNode.executeArrayType(frame)).thenReturn(new ArrayType(2));
+        when(indexNode.executeLong(frame)).thenReturn(0L);
+
+        // when / then
+        assertThatThrownBy(() -> node.executeGeneric(frame))
+                .isExactlyInstanceOf(TuberException.class);
+        verify(operationNode, never()).executeEvaluated(any(), any(), any());
+    }
+}
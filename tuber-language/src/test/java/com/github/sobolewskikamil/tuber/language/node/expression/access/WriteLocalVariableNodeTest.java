@@ -71,6 +71,17 @@ class WriteLocalVariableNodeTest {
         verify(frame).setDouble(slot, 1.0);
     }
 
+    @Test
+    void shouldWriteLongAsObject() {
+        // when
+        Object result = node.writeLongAsObject(frame, 1L);
+
+        // then
+        assertThat(result).isEqualTo(1L);
+        verify(frame.getFrameDescriptor()).setFrameSlotKind(slot, FrameSlotKind.Object);
+        verify(frame).setObject(slot, 1L);
+    }
+
     @Test
     void shouldWriteBoolean() {
         // when
@@ -23,12 +23,17 @@ package com.github.sobolewskikamil.tuber.language.node.expression.arithmetic;
 
 import com.github.sobolewskikamil.tuber.language.exception.TuberException;
 import com.github.sobolewskikamil.tuber.language.node.type.ArrayType;
+import com.github.sobolewskikamil.tuber.language.node.type.BigIntegerType;
+import com.github.sobolewskikamil.tuber.language.node.type.RopeType;
+import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigInteger;
+
 import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
@@ -67,10 +72,57 @@ class AddNodeTest {
     @Test
     void shouldAddObjectsByCallingToString() {
         // when
-        String result = node.add("test", 1);
+        Object result = node.add("test", (Object) true);
+
+        // then
+        assertThat(result).isEqualTo("testtrue");
+    }
+
+    @Test
+    void shouldAddLongAndString() {
+        // when
+        Object first = node.add(1L, "test");
+        Object second = node.add("test", 1L);
+
+        // then
+        assertThat(first).isEqualTo("1test");
+        assertThat(second).isEqualTo("test1");
+    }
+
+    @Test
+    void shouldAddDoubleAndString() {
+        // when
+        Object first = node.add(1.5, "test");
+        Object second = node.add("test", 1.5);
+
+        // then
+        assertThat(first).isEqualTo("1.5test");
+        assertThat(second).isEqualTo("test1.5");
+    }
+
+    @Test
+    void shouldProduceRopeForLongConcatenation() {
+        // given
+        String longString = StringUtils.repeat("a", 100);
+
+        // when
+        Object result = node.add(longString, (Object) "b");
+
+        // then
+        assertThat(result).isInstanceOf(RopeType.class);
+        assertThat(result.toString()).isEqualTo(longString + "b");
+    }
+
+    @Test
+    void shouldReturnTrueForRope() {
+        // given
+        Object rope = RopeType.concat(StringUtils.repeat("a", 100), "b");
+
+        // when
+        boolean result = node.isAnyString(1, rope);
 
         // then
-        assertThat(result).isEqualTo("test1");
+        assertThat(result).isTrue();
     }
 
     @Test
@@ -109,4 +161,28 @@ class AddNodeTest {
         assertThat(exception).hasMessage("Error: operation \"+\" not defined for 1, 2.");
         assertThat(exception.getLocation()).isSameAs(node);
     }
+
+    @Test
+    void shouldAddBigIntegers() {
+        // given
+        BigIntegerType max = BigIntegerType.valueOf(Long.MAX_VALUE);
+
+        // when
+        Object result = node.add(max, BigIntegerType.valueOf(1));
+
+        // then
+        assertThat(result).isEqualTo(new BigIntegerType(new BigInteger("9223372036854775808")));
+    }
+
+    @Test
+    void shouldNormalizeBigIntegerSumToLong() {
+        // given
+        BigIntegerType big = new BigIntegerType(new BigInteger("9223372036854775808"));
+
+        // when
+        Object result = node.add(big, BigIntegerType.valueOf(-1));
+
+        // then
+        assertThat(result).isEqualTo(Long.MAX_VALUE);
+    }
 }
@@ -22,12 +22,15 @@
 package com.github.sobolewskikamil.tuber.language.node.expression.arithmetic;
 
 import com.github.sobolewskikamil.tuber.language.exception.TuberException;
+import com.github.sobolewskikamil.tuber.language.node.type.BigIntegerType;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigInteger;
+
 import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
@@ -63,4 +66,16 @@ class DivNodeTest {
         assertThat(exception).hasMessage("Error: operation \"/\" not defined for 1, 2.");
         assertThat(exception.getLocation()).isSameAs(node);
     }
+
+    @Test
+    void shouldDivideBigIntegers() {
+        // given
+        BigIntegerType big = new BigIntegerType(new BigInteger("18446744073709551616"));
+
+        // when
+        double result = node.div(big, BigIntegerType.valueOf(4));
+
+        // then
+        assertThat(result).isEqualTo(4.611686018427388E18);
+    }
 }
@@ -22,6 +22,7 @@
 package com.github.sobolewskikamil.tuber.language.node.expression.arithmetic;
 
 import com.github.sobolewskikamil.tuber.language.exception.TuberException;
+import com.github.sobolewskikamil.tuber.language.node.type.BigIntegerType;
 import org.assertj.core.data.Offset;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,6 +30,8 @@ import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigInteger;
+
 import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
@@ -65,4 +68,92 @@ class ExpNodeTest {
         assertThat(exception).hasMessage("Error: operation \"^\" not defined for 1, 2.");
         assertThat(exception.getLocation()).isSameAs(node);
     }
+
+    @Test
+    void shouldPowerBigInteger() {
+        // when
+        Object result = node.exp(BigIntegerType.valueOf(2), 64);
+
+        // then
+        assertThat(result).isEqualTo(new BigIntegerType(new BigInteger("18446744073709551616")));
+    }
+
+    @Test
+    void shouldAcceptIntExponent() {
+        // when
+        boolean result = node.isIntExponent(Integer.MAX_VALUE);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(node.isIntExponent(-1)).isFalse();
+        assertThat(node.isIntExponent(Integer.MAX_VALUE + 1L)).isFalse();
+    }
+
+    @Test
+    void shouldExpLongsExactlyAboveDoublePrecision() {
+        // when
+        long result = node.exp(3L, 39L);
+
+        // then
+        assertThat(result).isEqualTo(4052555153018976267L);
+    }
+
+    @Test
+    void shouldExpCachedExponent() {
+        // when
+        long result = node.expCached(-3L, 3L, 3L);
+
+        // then
+        assertThat(result).isEqualTo(-27L);
+    }
+
+    @Test
+    void shouldThrowArithmeticExceptionOnOverflow() {
+        // when
+        ArithmeticException exception = catchThrowableOfType(() -> node.exp(2L, 63L), ArithmeticException.class);
+
+        // then
+        assertThat(exception).isNotNull();
+    }
+
+    @Test
+    void shouldNotOverflowForMinimalLong() {
+        // when
+        long result = ExpNode.pow(-2L, 63L);
+
+        // then
+        assertThat(result).isEqualTo(Long.MIN_VALUE);
+    }
+
+    @Test
+    void shouldExpNegativeExponent() {
+        // when
+        double result = node.expNegative(2L, -2L);
+
+        // then
+        assertThat(result).isEqualTo(0.25);
+    }
+
+    @Test
+    void shouldExpBigIntegerToNegativeExponent() {
+        // given
+        BigIntegerType base = new BigIntegerType(BigInteger.ONE.shiftLeft(64));
+
+        // when
+        double result = node.expNegative(base, -1L);
+
+        // then
+        assertThat(result).isEqualTo(0x1p-64);
+    }
+
+    @Test
+    void shouldUnrollOnlySmallExponents() {
+        // when
+        boolean result = node.isUnrolled(ExpNode.MAX_UNROLLED_EXPONENT);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(node.isUnrolled(ExpNode.MAX_UNROLLED_EXPONENT + 1)).isFalse();
+        assertThat(node.isUnrolled(-1L)).isFalse();
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.arithmetic;
+
+import com.github.sobolewskikamil.tuber.language.exception.TuberException;
+import com.github.sobolewskikamil.tuber.language.node.type.BigIntegerType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigInteger;
+
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class IntDivNodeTest {
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private IntDivNode node;
+
+    @Test
+    void shouldIntDivLongs() {
+        // when
+        long result = node.intDiv(7L, 2L);
+
+        // then
+        assertThat(result).isEqualTo(3L);
+    }
+
+    @Test
+    void shouldRoundTowardsZero() {
+        // when
+        long result = node.intDiv(-7L, 2L);
+
+        // then
+        assertThat(result).isEqualTo(-3L);
+    }
+
+    @Test
+    void shouldThrowArithmeticExceptionWhenNegatingMinimalLong() {
+        // when
+        ArithmeticException exception = catchThrowableOfType(() -> node.intDiv(Long.MIN_VALUE, -1L),
+                ArithmeticException.class);
+
+        // then
+        assertThat(exception).isNotNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0L, 1L, 7L, -1L, -7L, -8L, -9L, Long.MAX_VALUE, Long.MIN_VALUE})
+    void shouldShiftLikeDivisionForPowerOfTwo(long value) {
+        // when
+        long result = node.intDivCached(value, 8L, 8L, node.shiftOf(8L));
+
+        // then
+        assertThat(result).isEqualTo(value / 8L);
+    }
+
+    @Test
+    void shouldIntDivBigIntegers() {
+        // given
+        BigIntegerType left = new BigIntegerType(BigInteger.ONE.shiftLeft(64));
+
+        // when
+        Object result = node.intDiv(left, BigIntegerType.valueOf(1L << 32));
+
+        // then
+        assertThat(result).isEqualTo(1L << 32);
+    }
+
+    @Test
+    void shouldCheckPowerOfTwo() {
+        // when
+        boolean result = node.isPowerOfTwo(1L << 40);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(node.isPowerOfTwo(1L)).isFalse();
+        assertThat(node.isPowerOfTwo(6L)).isFalse();
+        assertThat(node.isPowerOfTwo(Long.MIN_VALUE)).isFalse();
+    }
+
+    @Test
+    void shouldThrowTypeException() {
+        // when
+        TuberException exception = catchThrowableOfType(() -> node.typeError(1, 2), TuberException.class);
+
+        // then
+        assertThat(exception).hasMessage("Error: operation \"~/\" not defined for 1, 2.");
+        assertThat(exception.getLocation()).isSameAs(node);
+    }
+}
@@ -22,6 +22,7 @@
 package com.github.sobolewskikamil.tuber.language.node.expression.arithmetic;
 
 import com.github.sobolewskikamil.tuber.language.exception.TuberException;
+import com.github.sobolewskikamil.tuber.language.node.type.BigIntegerType;
 import org.assertj.core.data.Offset;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,6 +30,8 @@ import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigInteger;
+
 import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
@@ -64,4 +67,26 @@ class ModNodeTest {
         assertThat(exception).hasMessage("Error: operation \"%\" not defined for 1, 2.");
         assertThat(exception.getLocation()).isSameAs(node);
     }
+
+    @Test
+    void shouldModBigIntegers() {
+        // given
+        BigIntegerType big = new BigIntegerType(new BigInteger("-18446744073709551617"));
+
+        // when
+        Object result = node.mod(big, BigIntegerType.valueOf(10));
+
+        // then
+        assertThat(result).isEqualTo(-7L);
+    }
+
+    @Test
+    void shouldThrowTypeExceptionWhenModLongByZero() {
+        // when
+        TuberException exception = catchThrowableOfType(() -> node.modByZero(1L, 0L), TuberException.class);
+
+        // then
+        assertThat(exception).hasMessage("Error: operation \"%\" not defined for Number 1, Number 0.");
+        assertThat(exception.getLocation()).isSameAs(node);
+    }
 }
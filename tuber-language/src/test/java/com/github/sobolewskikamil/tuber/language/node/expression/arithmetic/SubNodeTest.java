@@ -22,12 +22,15 @@
 package com.github.sobolewskikamil.tuber.language.node.expression.arithmetic;
 
 import com.github.sobolewskikamil.tuber.language.exception.TuberException;
+import com.github.sobolewskikamil.tuber.language.node.type.BigIntegerType;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigInteger;
+
 import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
@@ -63,4 +66,13 @@ class SubNodeTest {
         assertThat(exception).hasMessage("Error: operation \"-\" not defined for 1, 2.");
         assertThat(exception.getLocation()).isSameAs(node);
     }
+
+    @Test
+    void shouldSubtractBigIntegers() {
+        // when
+        Object result = node.sub(BigIntegerType.valueOf(Long.MIN_VALUE), BigIntegerType.valueOf(1));
+
+        // then
+        assertThat(result).isEqualTo(new BigIntegerType(new BigInteger("-9223372036854775809")));
+    }
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.builtin;
+
+import com.github.sobolewskikamil.tuber.language.exception.TuberException;
+import com.github.sobolewskikamil.tuber.language.node.type.BigIntegerType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigInteger;
+
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class AbsBuiltinNodeTest {
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private AbsBuiltinNode node;
+
+    @Test
+    void shouldReturnAbsoluteLong() {
+        // when
+        long result = node.abs(-3L);
+
+        // then
+        assertThat(result).isEqualTo(3L);
+    }
+
+    @Test
+    void shouldReturnAbsoluteDouble() {
+        // when
+        double result = node.abs(-2.5);
+
+        // then
+        assertThat(result).isEqualTo(2.5);
+    }
+
+    @Test
+    void shouldReturnAbsoluteBigInteger() {
+        // when
+        Object result = node.abs(new BigIntegerType(BigInteger.ONE.shiftLeft(64).negate()));
+
+        // then
+        assertThat(result).isEqualTo(new BigIntegerType(BigInteger.ONE.shiftLeft(64)));
+    }
+
+    @Test
+    void shouldNormalizeAbsoluteBigIntegerToLong() {
+        // when
+        Object result = node.abs(BigIntegerType.valueOf(-3L));
+
+        // then
+        assertThat(result).isEqualTo(3L);
+    }
+
+    @Test
+    void shouldThrowArithmeticExceptionForMinimalLong() {
+        // when
+        ArithmeticException exception = catchThrowableOfType(() -> node.abs(Long.MIN_VALUE), ArithmeticException.class);
+
+        // then
+        assertThat(exception).isNotNull();
+    }
+
+    @Test
+    void shouldThrowExceptionWhenArgumentIsNotNumber() {
+        // when
+        TuberException exception = catchThrowableOfType(() -> node.typeError(true), TuberException.class);
+
+        // then
+        assertThat(exception).hasMessage("Error: operation \"abs\" not defined for Boolean true.");
+    }
+}
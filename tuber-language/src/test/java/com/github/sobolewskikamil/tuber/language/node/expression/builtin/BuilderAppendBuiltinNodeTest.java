@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.builtin;
+
+import com.github.sobolewskikamil.tuber.language.node.type.ArrayType;
+import com.github.sobolewskikamil.tuber.language.node.type.BuilderType;
+import com.github.sobolewskikamil.tuber.language.node.type.RopeType;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class BuilderAppendBuiltinNodeTest {
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private BuilderAppendBuiltinNode node;
+
+    @Test
+    void shouldAppendLong() {
+        // given
+        BuilderType builder = new BuilderType();
+
+        // when
+        BuilderType result = node.append(builder, 1L);
+
+        // then
+        assertThat(result).isSameAs(builder);
+        assertThat(builder.toString()).isEqualTo("1");
+    }
+
+    @Test
+    void shouldAppendDouble() {
+        // given
+        BuilderType builder = new BuilderType();
+
+        // when
+        node.append(builder, 1.5);
+
+        // then
+        assertThat(builder.toString()).isEqualTo("1.5");
+    }
+
+    @Test
+    void shouldAppendBoolean() {
+        // given
+        BuilderType builder = new BuilderType();
+
+        // when
+        node.append(builder, false);
+
+        // then
+        assertThat(builder.toString()).isEqualTo("false");
+    }
+
+    @Test
+    void shouldAppendString() {
+        // given
+        BuilderType builder = new BuilderType();
+
+        // when
+        node.append(builder, "test");
+
+        // then
+        assertThat(builder.toString()).isEqualTo("test");
+    }
+
+    @Test
+    void shouldAppendRope() {
+        // given
+        BuilderType builder = new BuilderType();
+
+        // when
+        node.append(builder, (RopeType) RopeType.concat(StringUtils.repeat("a", 100), "b"));
+
+        // then
+        assertThat(builder.toString()).isEqualTo(StringUtils.repeat("a", 100) + "b");
+    }
+
+    @Test
+    void shouldAppendArray() {
+        // given
+        BuilderType builder = new BuilderType();
+
+        // when
+        node.append(builder, new ArrayType(1L, "test"));
+
+        // then
+        assertThat(builder.toString()).isEqualTo("[1, test]");
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.builtin;
+
+import com.github.sobolewskikamil.tuber.language.exception.TuberException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.catchThrowableOfType;
+
+@ExtendWith(MockitoExtension.class)
+class ChrBuiltinNodeTest {
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private ChrBuiltinNode node;
+
+    @Test
+    void shouldReturnCharacterForCode() {
+        // when
+        String result = node.chr(97);
+
+        // then
+        assertThat(result).isEqualTo("a");
+    }
+
+    @Test
+    void shouldReturnNonAsciiCharacterForCode() {
+        // when
+        String result = node.chr(380);
+
+        // then
+        assertThat(result).isEqualTo("ż");
+    }
+
+    @Test
+    void shouldCheckCodeRange() {
+        // when
+        boolean result = node.isCharacter(-1);
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(node.isCharacter(65536)).isFalse();
+        assertThat(node.isCharacter(65535)).isTrue();
+    }
+
+    @Test
+    void shouldThrowExceptionForInvalidCode() {
+        // when
+        TuberException exception = catchThrowableOfType(() -> node.typeError(-1L), TuberException.class);
+
+        // then
+        assertThat(exception).hasMessage("Error: operation \"chr\" not defined for Number -1.");
+    }
+}
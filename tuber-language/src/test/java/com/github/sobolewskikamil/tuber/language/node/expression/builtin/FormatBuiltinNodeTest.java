@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.builtin;
+
+import com.github.sobolewskikamil.tuber.language.exception.TuberException;
+import com.github.sobolewskikamil.tuber.language.node.type.ArrayType;
+import com.github.sobolewskikamil.tuber.language.utils.FormatString;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.catchThrowableOfType;
+
+@ExtendWith(MockitoExtension.class)
+class FormatBuiltinNodeTest {
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private FormatBuiltinNode node;
+
+    @Test
+    void shouldFormatWithCachedFormat() {
+        // given
+        FormatString formatString = FormatString.parse("%s=%d");
+
+        // when
+        String result = node.formatCached("%s=%d", new ArrayType("x", 1L), "%s=%d", formatString);
+
+        // then
+        assertThat(result).isEqualTo("x=1");
+    }
+
+    @Test
+    void shouldFormat() {
+        // when
+        String result = node.format("%.2f", new ArrayType(1.005e2));
+
+        // then
+        assertThat(result).isEqualTo("100.50");
+    }
+
+    @Test
+    void shouldReturnNullWhenParsingInvalidFormat() {
+        // when
+        FormatString result = FormatBuiltinNode.parseFormat("%x");
+
+        // then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    void shouldThrowExceptionForInvalidFormat() {
+        // when
+        TuberException exception = catchThrowableOfType(() -> node.format("%x", new ArrayType(1L)),
+                TuberException.class);
+
+        // then
+        assertThat(exception).hasMessage("Error: operation \"format\" not defined for String \"%x\", Array [1].");
+    }
+
+    @Test
+    void shouldThrowExceptionForMismatchedArgument() {
+        // when
+        TuberException exception = catchThrowableOfType(() -> node.format("%d", new ArrayType("test")),
+                TuberException.class);
+
+        // then
+        assertThat(exception).hasMessage("Error: operation \"format\" not defined for String \"%d\", Array [test].");
+    }
+
+    @Test
+    void shouldThrowExceptionForNonStringFormat() {
+        // when
+        TuberException exception = catchThrowableOfType(() -> node.typeError(5L, new ArrayType()),
+                TuberException.class);
+
+        // then
+        assertThat(exception).hasMessage("Error: operation \"format\" not defined for Number 5, Array [].");
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.builtin;
+
+import com.github.sobolewskikamil.tuber.language.node.type.MapType;
+import com.github.sobolewskikamil.tuber.language.node.type.NullType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class MapRemoveBuiltinNodeTest {
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private MapRemoveBuiltinNode node;
+
+    @Test
+    void shouldRemoveLongKeyAndReturnItsValue() {
+        // given
+        MapType map = new MapType();
+        map.put(1L, "test");
+
+        // when
+        Object result = node.remove(map, 1L);
+
+        // then
+        assertThat(result).isEqualTo("test");
+        assertThat(map.has(1L)).isFalse();
+    }
+
+    @Test
+    void shouldRemoveObjectKeyAndReturnItsValue() {
+        // given
+        MapType map = new MapType();
+        map.put("key", "test");
+
+        // when
+        Object result = node.remove(map, (Object) "key");
+
+        // then
+        assertThat(result).isEqualTo("test");
+        assertThat(map.has("key")).isFalse();
+    }
+
+    @Test
+    void shouldReturnNullTypeForMissingKey() {
+        // when
+        Object result = node.remove(new MapType(), 1L);
+
+        // then
+        assertThat(result).isSameAs(NullType.getInstance());
+    }
+}
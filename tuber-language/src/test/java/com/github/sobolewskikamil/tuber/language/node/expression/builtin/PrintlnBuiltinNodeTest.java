@@ -22,9 +22,13 @@
 package com.github.sobolewskikamil.tuber.language.node.expression.builtin;
 
 import com.github.sobolewskikamil.tuber.language.node.type.ArrayType;
+import com.github.sobolewskikamil.tuber.language.node.type.BuilderType;
+import com.github.sobolewskikamil.tuber.language.node.type.MapType;
 import com.github.sobolewskikamil.tuber.language.node.type.NullType;
+import com.github.sobolewskikamil.tuber.language.node.type.RecordType;
 import com.github.sobolewskikamil.tuber.language.runtime.Context;
 import com.google.common.collect.ImmutableList;
+import com.oracle.truffle.api.object.DynamicObject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -134,6 +138,50 @@ class PrintlnBuiltinNodeTest {
         assertThat(out.toString()).isEqualTo("[1, 1.0, test, true, null, [2, []]]\n");
     }
 
+    @Test
+    void shouldPrintlnMapType() {
+        // given
+        doCallRealMethod().when(node).println(any(MapType.class));
+        MapType map = new MapType();
+        map.put(1L, "test");
+
+        // when
+        MapType result = node.println(map);
+
+        // then
+        assertThat(result).isSameAs(map);
+        assertThat(out.toString()).isEqualTo("{1=test}\n");
+    }
+
+    @Test
+    void shouldPrintlnBuilder() {
+        // given
+        doCallRealMethod().when(node).println(any(BuilderType.class));
+        BuilderType builder = new BuilderType().append("test").append(1L);
+
+        // when
+        BuilderType result = node.println(builder);
+
+        // then
+        assertThat(result).isSameAs(builder);
+        assertThat(out.toString()).isEqualTo("test1\n");
+    }
+
+    @Test
+    void shouldPrintlnRecord() {
+        // given
+        doCallRealMethod().when(node).println(any(DynamicObject.class));
+        DynamicObject record = RecordType.createRecord();
+        record.define("x", 1L);
+
+        // when
+        DynamicObject result = node.println(record);
+
+        // then
+        assertThat(result).isSameAs(record);
+        assertThat(out.toString()).isEqualTo("{x=1}\n");
+    }
+
     @Test
     void shouldPrintlnObject() {
         // given
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.builtin;
+
+import com.github.sobolewskikamil.tuber.language.exception.TuberException;
+import com.github.sobolewskikamil.tuber.language.runtime.Context;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.catchThrowableOfType;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RandomLongBuiltinNodeTest {
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private RandomLongBuiltinNode node;
+    @Mock
+    private Context context;
+
+    @Test
+    void shouldReturnNextLongWithinBound() {
+        // given
+        doReturn(context).when(node).getContext();
+        when(context.getRandom()).thenReturn(new SplittableRandom(42L));
+
+        // when
+        long result = node.randomLong(10L);
+
+        // then
+        assertThat(result).isEqualTo(new SplittableRandom(42L).nextLong(10L));
+        assertThat(result).isBetween(0L, 9L);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenBoundIsNotPositive() {
+        // when
+        TuberException exception = catchThrowableOfType(() -> node.typeError(0L), TuberException.class);
+
+        // then
+        assertThat(exception).hasMessage("Error: operation \"randomLong\" not defined for Number 0.");
+    }
+}
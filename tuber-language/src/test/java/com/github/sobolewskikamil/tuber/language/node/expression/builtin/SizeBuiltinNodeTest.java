@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.builtin;
+
+import com.github.sobolewskikamil.tuber.language.exception.TuberException;
+import com.github.sobolewskikamil.tuber.language.node.type.ArrayType;
+import com.github.sobolewskikamil.tuber.language.node.type.DequeType;
+import com.github.sobolewskikamil.tuber.language.node.type.HeapType;
+import com.github.sobolewskikamil.tuber.language.node.type.MapType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.catchThrowableOfType;
+
+@ExtendWith(MockitoExtension.class)
+class SizeBuiltinNodeTest {
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private SizeBuiltinNode node;
+
+    @Test
+    void shouldReturnSizeOfMap() {
+        // given
+        MapType map = new MapType();
+        map.put(1L, "test1");
+        map.put("key", "test2");
+
+        // when
+        long result = node.size(map);
+
+        // then
+        assertThat(result).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldReturnSizeOfHeap() {
+        // given
+        HeapType heap = new HeapType();
+        heap.push(1L, "test1");
+        heap.push(2.5, "test2");
+
+        // when
+        long result = node.size(heap);
+
+        // then
+        assertThat(result).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldReturnSizeOfDeque() {
+        // given
+        DequeType deque = new DequeType();
+        deque.pushBack(1L);
+        deque.pushFront("test");
+
+        // when
+        long result = node.size(deque);
+
+        // then
+        assertThat(result).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldThrowExceptionForUnsupportedValue() {
+        // when
+        TuberException exception = catchThrowableOfType(() -> node.typeError(new ArrayType(1L)), TuberException.class);
+
+        // then
+        assertThat(exception).hasMessage("Error: operation \"size\" not defined for Array [1].");
+    }
+}
@@ -23,7 +23,9 @@ package com.github.sobolewskikamil.tuber.language.node.expression.call;
 
 import com.github.sobolewskikamil.tuber.language.node.expression.ExpressionNode;
 import com.oracle.truffle.api.RootCallTarget;
+import com.oracle.truffle.api.Truffle;
 import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.RootNode;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
@@ -31,13 +33,15 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class CallNodeTest {
-    @Mock
-    private RootCallTarget rootCallTarget;
     @Mock
     private ExpressionNode functionNode;
     @Mock
@@ -50,10 +54,17 @@ class CallNodeTest {
     @Test
     void shouldDeleteCallsToFunctionNodeAndArguments() {
         // given
+        List<Object> calledArguments = new ArrayList<>();
+        RootCallTarget rootCallTarget = Truffle.getRuntime().createCallTarget(new RootNode(null) {
+            @Override
+            public Object execute(VirtualFrame frame) {
+                calledArguments.addAll(Arrays.asList(frame.getArguments()));
+                return "result";
+            }
+        });
         when(functionNode.executeGeneric(frame)).thenReturn(rootCallTarget);
         when(argumentNode1.executeGeneric(frame)).thenReturn("arg1");
         when(argumentNode2.executeGeneric(frame)).thenReturn("arg2");
-        when(rootCallTarget.call("arg1", "arg2")).thenReturn("result");
 
         CallNode callNode = new CallNode(functionNode, new ExpressionNode[]{argumentNode1, argumentNode2});
 
@@ -63,10 +74,11 @@ class CallNodeTest {
         // then
         assertThat(result).isEqualTo("result");
 
-        InOrder inOrder = Mockito.inOrder(functionNode, argumentNode1, argumentNode2, rootCallTarget);
+        assertThat(calledArguments).containsExactly("arg1", "arg2");
+
+        InOrder inOrder = Mockito.inOrder(functionNode, argumentNode1, argumentNode2);
         inOrder.verify(functionNode).executeGeneric(frame);
         inOrder.verify(argumentNode1).executeGeneric(frame);
         inOrder.verify(argumentNode2).executeGeneric(frame);
-        inOrder.verify(rootCallTarget).call("arg1", "arg2");
     }
 }
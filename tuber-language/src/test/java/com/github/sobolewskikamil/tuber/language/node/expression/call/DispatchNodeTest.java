@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.call;
+
+import com.oracle.truffle.api.RootCallTarget;
+import com.oracle.truffle.api.Truffle;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.RootNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+class DispatchNodeTest {
+    private DispatchNode node;
+
+    @BeforeEach
+    void setUp() {
+        node = DispatchNodeGen.create();
+    }
+
+    @Test
+    void shouldCallCachedTarget() {
+        // given
+        RootCallTarget target = createCallTarget("first");
+
+        // when
+        Object firstResult = node.executeDispatch(target, new Object[]{"arg"});
+        Object secondResult = node.executeDispatch(target, new Object[]{"arg"});
+
+        // then
+        assertThat(firstResult).isEqualTo("first arg");
+        assertThat(secondResult).isEqualTo("first arg");
+    }
+
+    @Test
+    void shouldCallTargetsBeyondCacheLimit() {
+        // given
+        RootCallTarget first = createCallTarget("first");
+        RootCallTarget second = createCallTarget("second");
+        RootCallTarget third = createCallTarget("third");
+
+        // when
+        Object firstResult = node.executeDispatch(first, new Object[]{"arg"});
+        Object secondResult = node.executeDispatch(second, new Object[]{"arg"});
+        Object thirdResult = node.executeDispatch(third, new Object[]{"arg"});
+        Object repeatedResult = node.executeDispatch(first, new Object[]{"arg"});
+
+        // then
+        assertThat(firstResult).isEqualTo("first arg");
+        assertThat(secondResult).isEqualTo("second arg");
+        assertThat(thirdResult).isEqualTo("third arg");
+        assertThat(repeatedResult).isEqualTo("first arg");
+    }
+
+    private static RootCallTarget createCallTarget(String name) {
+        return Truffle.getRuntime().createCallTarget(new RootNode(null) {
+            @Override
+            public Object execute(VirtualFrame frame) {
+                return name + " " + frame.getArguments()[0];
+            }
+        });
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.flowcontrol;
+
+import com.github.sobolewskikamil.tuber.language.node.StatementNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.ExpressionNode;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.UnexpectedResultException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ForNodeTest {
+    private ForNode node;
+    @Mock
+    private StatementNode initNode;
+    @Mock
+    private ExpressionNode conditionNode;
+    @Mock
+    private StatementNode updateNode;
+    @Mock
+    private StatementNode bodyNode;
+    @Mock
+    private VirtualFrame frame;
+
+    @BeforeEach
+    void setUp() {
+        node = new ForNode(initNode, conditionNode, updateNode, bodyNode);
+    }
+
+    @Test
+    void shouldInitializeOnceAndEvaluateLoopGivenTimes() throws UnexpectedResultException {
+        // given
+        AtomicInteger counter = new AtomicInteger(5);
+        doAnswer(arg -> counter.getAndDecrement() != 0).when(conditionNode).executeBoolean(frame);
+
+        // when
+        node.executeVoid(frame);
+
+        // then
+        InOrder inOrder = inOrder(initNode, bodyNode);
+        inOrder.verify(initNode, times(1)).executeVoid(frame);
+        inOrder.verify(bodyNode, times(5)).executeVoid(frame);
+        verify(updateNode, times(5)).executeVoid(frame);
+    }
+}
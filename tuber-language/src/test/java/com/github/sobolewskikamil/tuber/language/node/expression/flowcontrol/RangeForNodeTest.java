@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.flowcontrol;
+
+import com.github.sobolewskikamil.tuber.language.exception.TuberException;
+import com.github.sobolewskikamil.tuber.language.node.StatementNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.access.WriteLocalVariableNodeGen;
+import com.github.sobolewskikamil.tuber.language.node.expression.literal.DoubleLiteralNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.literal.LongLiteralNode;
+import com.oracle.truffle.api.Truffle;
+import com.oracle.truffle.api.frame.FrameDescriptor;
+import com.oracle.truffle.api.frame.FrameSlot;
+import com.oracle.truffle.api.frame.FrameSlotKind;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class RangeForNodeTest {
+    @Mock
+    private StatementNode bodyNode;
+    private FrameSlot slot;
+    private FrameSlot counterSlot;
+    private FrameSlot endSlot;
+    private VirtualFrame frame;
+
+    @BeforeEach
+    void setUp() {
+        FrameDescriptor frameDescriptor = new FrameDescriptor();
+        slot = frameDescriptor.addFrameSlot("i");
+        counterSlot = frameDescriptor.addFrameSlot("(i counter)", FrameSlotKind.Long);
+        endSlot = frameDescriptor.addFrameSlot("(i end)", FrameSlotKind.Long);
+        frame = Truffle.getRuntime().createVirtualFrame(new Object[0], frameDescriptor);
+    }
+
+    @Test
+    void shouldRunBodyForEachValueInRange() {
+        // given
+        List<Object> values = new ArrayList<>();
+        doAnswer(invocation -> values.add(frame.getValue(slot))).when(bodyNode).executeVoid(any());
+        RangeForNode node = new RangeForNode(new LongLiteralNode(2), new LongLiteralNode(5), counterSlot, endSlot,
+                WriteLocalVariableNodeGen.create(null, slot), bodyNode);
+
+        // when
+        node.executeVoid(frame);
+
+        // then
+        assertThat(values).containsExactly(2L, 3L, 4L);
+    }
+
+    @Test
+    void shouldNotRunBodyForEmptyRange() {
+        // given
+        RangeForNode node = new RangeForNode(new LongLiteralNode(5), new LongLiteralNode(2), counterSlot, endSlot,
+                WriteLocalVariableNodeGen.create(null, slot), bodyNode);
+
+        // when
+        node.executeVoid(frame);
+
+        // then
+        assertThat(frame.getValue(slot)).isNull();
+    }
+
+    @Test
+    void shouldThrowExceptionWhenBoundIsNotLong() {
+        // given
+        RangeForNode node = new RangeForNode(new LongLiteralNode(0), new DoubleLiteralNode(1.5), counterSlot, endSlot,
+                WriteLocalVariableNodeGen.create(null, slot), bodyNode);
+
+        // when / then
+        assertThatThrownBy(() -> node.executeVoid(frame))
+                .isExactlyInstanceOf(TuberException.class);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.flowcontrol;
+
+import com.github.sobolewskikamil.tuber.language.node.StatementNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.access.WriteLocalVariableNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.flowcontrol.exception.BreakException;
+import com.github.sobolewskikamil.tuber.language.node.expression.flowcontrol.exception.ContinueException;
+import com.oracle.truffle.api.frame.FrameSlot;
+import com.oracle.truffle.api.frame.FrameSlotTypeException;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RangeRepeatingNodeTest {
+    private RangeRepeatingNode node;
+    @Mock
+    private FrameSlot counterSlot;
+    @Mock
+    private FrameSlot endSlot;
+    @Mock
+    private WriteLocalVariableNode writeIndexNode;
+    @Mock
+    private StatementNode bodyNode;
+    @Mock
+    private VirtualFrame frame;
+
+    @BeforeEach
+    void setUp() throws FrameSlotTypeException {
+        node = new RangeRepeatingNode(counterSlot, endSlot, writeIndexNode, bodyNode);
+        when(frame.getLong(endSlot)).thenReturn(3L);
+    }
+
+    @Test
+    void shouldReturnFalseWhenCounterReachedEnd() throws FrameSlotTypeException {
+        // given
+        doReturn(3L).when(frame).getLong(counterSlot);
+
+        // when
+        boolean result = node.executeRepeating(frame);
+
+        // then
+        assertThat(result).isFalse();
+        verify(bodyNode, never()).executeVoid(frame);
+    }
+
+    @Test
+    void shouldWriteIndexAndAdvanceCounter() throws FrameSlotTypeException {
+        // given
+        doReturn(1L).when(frame).getLong(counterSlot);
+
+        // when
+        boolean result = node.executeRepeating(frame);
+
+        // then
+        assertThat(result).isTrue();
+        verify(frame).setLong(counterSlot, 2L);
+        verify(writeIndexNode).executeWriteLong(frame, 1L);
+        verify(bodyNode).executeVoid(frame);
+    }
+
+    @Test
+    void shouldReturnFalseIfBodyNodeThrowsBreakException() throws FrameSlotTypeException {
+        // given
+        doReturn(1L).when(frame).getLong(counterSlot);
+        doThrow(BreakException.getInstance()).when(bodyNode).executeVoid(frame);
+
+        // when
+        boolean result = node.executeRepeating(frame);
+
+        // then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void shouldReturnTrueIfBodyNodeThrowsContinueException() throws FrameSlotTypeException {
+        // given
+        doReturn(1L).when(frame).getLong(counterSlot);
+        doThrow(ContinueException.getInstance()).when(bodyNode).executeVoid(frame);
+
+        // when
+        boolean result = node.executeRepeating(frame);
+
+        // then
+        assertThat(result).isTrue();
+    }
+}
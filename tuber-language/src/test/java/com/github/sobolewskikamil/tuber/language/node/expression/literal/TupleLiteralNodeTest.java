@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.literal;
+
+import com.github.sobolewskikamil.tuber.language.node.type.NullType;
+import com.github.sobolewskikamil.tuber.language.node.type.TupleType;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.Mockito.mock;
+
+class TupleLiteralNodeTest {
+    @Test
+    void shouldReturnValueWhenExecuteGeneric() {
+        // given
+        TupleLiteralNode node = new TupleLiteralNode(
+                new LongLiteralNode(1L),
+                new StringLiteralNode("test"),
+                new NullLiteralNode(NullType.getInstance())
+        );
+
+        // when
+        Object result = node.executeGeneric(mock(VirtualFrame.class));
+
+        // then
+        assertThat(result).isEqualTo(new TupleType(1L, "test", NullType.getInstance()));
+    }
+
+    @Test
+    void shouldReturnValueWhenExecuteTupleType() {
+        // given
+        TupleLiteralNode node = new TupleLiteralNode(
+                new DoubleLiteralNode(1.0),
+                new TupleLiteralNode(new BooleanLiteralNode(true), new LongLiteralNode(2L))
+        );
+
+        // when
+        TupleType result = node.executeTupleType(mock(VirtualFrame.class));
+
+        // then
+        assertThat(result).isEqualTo(new TupleType(1.0, new TupleType(true, 2L)));
+    }
+}
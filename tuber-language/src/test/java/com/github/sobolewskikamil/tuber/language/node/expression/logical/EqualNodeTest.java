@@ -23,7 +23,15 @@ package com.github.sobolewskikamil.tuber.language.node.expression.logical;
 
 import com.github.sobolewskikamil.tuber.language.exception.TuberException;
 import com.github.sobolewskikamil.tuber.language.node.type.ArrayType;
+import com.github.sobolewskikamil.tuber.language.node.type.BigIntegerType;
+import com.github.sobolewskikamil.tuber.language.node.type.BuilderType;
+import com.github.sobolewskikamil.tuber.language.node.type.DequeType;
+import com.github.sobolewskikamil.tuber.language.node.type.HeapType;
+import com.github.sobolewskikamil.tuber.language.node.type.MapType;
 import com.github.sobolewskikamil.tuber.language.node.type.NullType;
+import com.github.sobolewskikamil.tuber.language.node.type.RecordType;
+import com.github.sobolewskikamil.tuber.language.node.type.TupleType;
+import com.oracle.truffle.api.object.DynamicObject;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
@@ -31,6 +39,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 
 import static org.assertj.core.api.AssertionsForClassTypes.catchThrowableOfType;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
@@ -112,6 +121,24 @@ class EqualNodeTest {
         assertThat(result).isFalse();
     }
 
+    @Test
+    void shouldCompareDistinctStringInstancesByContent() {
+        // when
+        boolean result = node.equal("test", new String("test"));
+
+        // then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    void shouldCompareStringsWithSameHashByContent() {
+        // when
+        boolean result = node.equal("Aa", "BB");
+
+        // then
+        assertThat(result).isFalse();
+    }
+
     @Test
     void shouldReturnTrueForEqualNullTypes() {
         // when
@@ -148,6 +175,79 @@ class EqualNodeTest {
         assertThat(result).isFalse();
     }
 
+    @Test
+    void shouldReturnTrueForEqualMapTypes() {
+        // given
+        MapType left = new MapType();
+        left.put(1L, "test");
+        MapType right = new MapType();
+        right.put(1L, "test");
+
+        // when
+        boolean result = node.equal(left, right);
+
+        // then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    void shouldReturnFalseForNotEqualMapTypes() {
+        // given
+        MapType left = new MapType();
+        left.put(1L, "test");
+
+        // when
+        boolean result = node.equal(left, new MapType());
+
+        // then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void shouldReturnTrueForEqualTuples() {
+        // when
+        boolean result = node.equal(new TupleType(1L, "test"), new TupleType(1L, "test"));
+
+        // then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    void shouldReturnFalseForNotEqualTuples() {
+        // when
+        boolean result = node.equal(new TupleType(1L, "test"), new TupleType(2L, "test"));
+
+        // then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void shouldReturnTrueForSameRecords() {
+        // given
+        DynamicObject record = RecordType.createRecord();
+
+        // when
+        boolean result = node.equal(record, record);
+
+        // then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    void shouldReturnFalseForDifferentRecordsWithSameFields() {
+        // given
+        DynamicObject left = RecordType.createRecord();
+        left.define("x", 1L);
+        DynamicObject right = RecordType.createRecord();
+        right.define("x", 1L);
+
+        // when
+        boolean result = node.equal(left, right);
+
+        // then
+        assertThat(result).isFalse();
+    }
+
     @Test
     void shouldReturnTrueForEqualObjects() {
         // when
@@ -193,4 +293,76 @@ class EqualNodeTest {
         assertThat(exception).hasMessage("Error: operation \"==\" not defined for String \"test1\", String \"test2\".");
         assertThat(exception.getLocation()).isSameAs(node);
     }
+
+    @Test
+    void shouldReturnTrueForEqualBigIntegers() {
+        // when
+        boolean result = node.equal(new BigIntegerType(new BigInteger("18446744073709551616")), new BigIntegerType(new BigInteger("18446744073709551616")));
+
+        // then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    void shouldReturnTrueForSameHeaps() {
+        // given
+        HeapType value = new HeapType();
+
+        // when
+        boolean result = node.equal(value, value);
+
+        // then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    void shouldReturnFalseForDifferentHeaps() {
+        // when
+        boolean result = node.equal(new HeapType(), new HeapType());
+
+        // then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void shouldReturnTrueForSameDeques() {
+        // given
+        DequeType value = new DequeType();
+
+        // when
+        boolean result = node.equal(value, value);
+
+        // then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    void shouldReturnFalseForDifferentDeques() {
+        // when
+        boolean result = node.equal(new DequeType(), new DequeType());
+
+        // then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void shouldReturnTrueForSameBuilders() {
+        // given
+        BuilderType value = new BuilderType();
+
+        // when
+        boolean result = node.equal(value, value);
+
+        // then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    void shouldReturnFalseForDifferentBuilders() {
+        // when
+        boolean result = node.equal(new BuilderType(), new BuilderType());
+
+        // then
+        assertThat(result).isFalse();
+    }
 }
@@ -22,12 +22,15 @@
 package com.github.sobolewskikamil.tuber.language.node.expression.logical;
 
 import com.github.sobolewskikamil.tuber.language.exception.TuberException;
+import com.github.sobolewskikamil.tuber.language.node.type.BigIntegerType;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigInteger;
+
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.catchThrowableOfType;
 
@@ -81,4 +84,17 @@ class LessNodeTest {
         assertThat(exception).hasMessage("Error: operation \"<\" not defined for String \"test1\", String \"test2\".");
         assertThat(exception.getLocation()).isSameAs(node);
     }
+
+    @Test
+    void shouldCompareBigIntegers() {
+        // given
+        BigIntegerType left = new BigIntegerType(new BigInteger("1000000000000000000001"));
+        BigIntegerType right = new BigIntegerType(new BigInteger("1000000000000000000002"));
+
+        // when
+        boolean result = node.less(left, right);
+
+        // then
+        assertThat(result).isTrue();
+    }
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.expression.logical;
+
+import com.github.sobolewskikamil.tuber.language.node.RootNode;
+import com.oracle.truffle.api.Truffle;
+import com.oracle.truffle.api.frame.FrameDescriptor;
+import com.oracle.truffle.api.frame.FrameSlot;
+import com.oracle.truffle.api.frame.FrameSlotKind;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.UnexpectedResultException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalComparisonNodeTest {
+    private FrameDescriptor frameDescriptor;
+    private FrameSlot leftSlot;
+    private FrameSlot rightSlot;
+    private VirtualFrame frame;
+
+    @BeforeEach
+    void setUp() {
+        frameDescriptor = new FrameDescriptor();
+        leftSlot = frameDescriptor.addFrameSlot("left");
+        rightSlot = frameDescriptor.addFrameSlot("right");
+        frame = Truffle.getRuntime().createVirtualFrame(new Object[0], frameDescriptor);
+    }
+
+    @Test
+    void shouldCompareLongSlots() throws UnexpectedResultException {
+        // given
+        writeLong(leftSlot, 1);
+        writeLong(rightSlot, 2);
+        LocalComparisonNode node = new LocalLessNode(leftSlot, rightSlot);
+
+        // when
+        boolean result = node.executeBoolean(frame);
+
+        // then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    void shouldCompareLongSlotWithConstant() {
+        // given
+        writeLong(leftSlot, 3);
+        LocalComparisonNode node = new LocalLessNode(leftSlot, 2);
+
+        // when
+        Object result = node.executeGeneric(frame);
+
+        // then
+        assertThat(result).isEqualTo(false);
+    }
+
+    @Test
+    void shouldRewriteToGenericComparisonWhenSlotIsNotLong() {
+        // given
+        writeLong(leftSlot, 1);
+        frameDescriptor.setFrameSlotKind(rightSlot, FrameSlotKind.Double);
+        frame.setDouble(rightSlot, 1.5);
+        LocalComparisonNode node = new LocalLessNode(leftSlot, rightSlot);
+        RootNode rootNode = new RootNode(null, frameDescriptor, node);
+        rootNode.adoptChildren();
+
+        // when
+        Object result = node.executeGeneric(frame);
+
+        // then
+        assertThat(result).isEqualTo(true);
+        assertThat(rootNode.getChildren()).hasOnlyElementsOfType(LessNode.class);
+    }
+
+    private void writeLong(FrameSlot slot, long value) {
+        frameDescriptor.setFrameSlotKind(slot, FrameSlotKind.Long);
+        frame.setLong(slot, value);
+    }
+}
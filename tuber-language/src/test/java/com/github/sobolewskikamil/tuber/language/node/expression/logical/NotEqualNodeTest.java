@@ -23,7 +23,15 @@ package com.github.sobolewskikamil.tuber.language.node.expression.logical;
 
 import com.github.sobolewskikamil.tuber.language.exception.TuberException;
 import com.github.sobolewskikamil.tuber.language.node.type.ArrayType;
+import com.github.sobolewskikamil.tuber.language.node.type.BigIntegerType;
+import com.github.sobolewskikamil.tuber.language.node.type.BuilderType;
+import com.github.sobolewskikamil.tuber.language.node.type.DequeType;
+import com.github.sobolewskikamil.tuber.language.node.type.HeapType;
+import com.github.sobolewskikamil.tuber.language.node.type.MapType;
 import com.github.sobolewskikamil.tuber.language.node.type.NullType;
+import com.github.sobolewskikamil.tuber.language.node.type.RecordType;
+import com.github.sobolewskikamil.tuber.language.node.type.TupleType;
+import com.oracle.truffle.api.object.DynamicObject;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
@@ -31,6 +39,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 
 import static org.assertj.core.api.AssertionsForClassTypes.catchThrowableOfType;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
@@ -112,6 +121,24 @@ class NotEqualNodeTest {
         assertThat(result).isFalse();
     }
 
+    @Test
+    void shouldCompareDistinctStringInstancesByContent() {
+        // when
+        boolean result = node.notEqual("test", new String("test"));
+
+        // then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void shouldCompareStringsWithSameHashByContent() {
+        // when
+        boolean result = node.notEqual("Aa", "BB");
+
+        // then
+        assertThat(result).isTrue();
+    }
+
     @Test
     void shouldReturnTrueForNotEqualNullTypes() {
         // when
@@ -148,6 +175,79 @@ class NotEqualNodeTest {
         assertThat(result).isFalse();
     }
 
+    @Test
+    void shouldReturnFalseForEqualMapTypes() {
+        // given
+        MapType left = new MapType();
+        left.put(1L, "test");
+        MapType right = new MapType();
+        right.put(1L, "test");
+
+        // when
+        boolean result = node.notEqual(left, right);
+
+        // then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void shouldReturnTrueForNotEqualMapTypes() {
+        // given
+        MapType left = new MapType();
+        left.put(1L, "test");
+
+        // when
+        boolean result = node.notEqual(left, new MapType());
+
+        // then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    void shouldReturnFalseForEqualTuples() {
+        // when
+        boolean result = node.notEqual(new TupleType(1L, "test"), new TupleType(1L, "test"));
+
+        // then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void shouldReturnTrueForNotEqualTuples() {
+        // when
+        boolean result = node.notEqual(new TupleType(1L, "test"), new TupleType(2L, "test"));
+
+        // then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    void shouldReturnFalseForSameRecords() {
+        // given
+        DynamicObject record = RecordType.createRecord();
+
+        // when
+        boolean result = node.notEqual(record, record);
+
+        // then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void shouldReturnTrueForDifferentRecordsWithSameFields() {
+        // given
+        DynamicObject left = RecordType.createRecord();
+        left.define("x", 1L);
+        DynamicObject right = RecordType.createRecord();
+        right.define("x", 1L);
+
+        // when
+        boolean result = node.notEqual(left, right);
+
+        // then
+        assertThat(result).isTrue();
+    }
+
     @Test
     void shouldReturnTrueForNotEqualObjects() {
         // when
@@ -193,4 +293,76 @@ class NotEqualNodeTest {
         assertThat(exception).hasMessage("Error: operation \"!=\" not defined for String \"test1\", String \"test2\".");
         assertThat(exception.getLocation()).isSameAs(node);
     }
+
+    @Test
+    void shouldReturnTrueForNotEqualBigIntegers() {
+        // when
+        boolean result = node.notEqual(new BigIntegerType(new BigInteger("18446744073709551616")), new BigIntegerType(new BigInteger("18446744073709551617")));
+
+        // then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    void shouldReturnFalseForSameHeaps() {
+        // given
+        HeapType value = new HeapType();
+
+        // when
+        boolean result = node.notEqual(value, value);
+
+        // then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void shouldReturnTrueForDifferentHeaps() {
+        // when
+        boolean result = node.notEqual(new HeapType(), new HeapType());
+
+        // then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    void shouldReturnFalseForSameDeques() {
+        // given
+        DequeType value = new DequeType();
+
+        // when
+        boolean result = node.notEqual(value, value);
+
+        // then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void shouldReturnTrueForDifferentDeques() {
+        // when
+        boolean result = node.notEqual(new DequeType(), new DequeType());
+
+        // then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    void shouldReturnFalseForSameBuilders() {
+        // given
+        BuilderType value = new BuilderType();
+
+        // when
+        boolean result = node.notEqual(value, value);
+
+        // then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void shouldReturnTrueForDifferentBuilders() {
+        // when
+        boolean result = node.notEqual(new BuilderType(), new BuilderType());
+
+        // then
+        assertThat(result).isTrue();
+    }
 }
@@ -21,6 +21,7 @@
  */
 package com.github.sobolewskikamil.tuber.language.node.type;
 
+import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
@@ -149,4 +150,17 @@ class ArrayTypeTest {
         String expected = Arrays.deepToString(values);
         assertThat(result).isEqualTo(expected);
     }
+
+    @Test
+    void shouldTreatRopeAndEqualStringAsEqualElements() {
+        // given
+        String string = StringUtils.repeat("a", 70);
+        Object rope = RopeType.concat(StringUtils.repeat("a", 35), StringUtils.repeat("a", 35));
+        ArrayType first = new ArrayType(rope, 1L);
+        ArrayType second = new ArrayType(string, 1L);
+
+        // then
+        assertThat(first).isEqualTo(second);
+        assertThat(second).isEqualTo(first);
+    }
 }
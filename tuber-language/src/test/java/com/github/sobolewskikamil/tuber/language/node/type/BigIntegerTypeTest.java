@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.type;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+class BigIntegerTypeTest {
+    private static final BigIntegerType MAX_LONG = BigIntegerType.valueOf(Long.MAX_VALUE);
+    private static final BigIntegerType ONE = BigIntegerType.valueOf(1);
+
+    @Test
+    void shouldNormalizeToLongWhenValueFits() {
+        // when
+        Object result = BigIntegerType.normalize(BigInteger.valueOf(Long.MIN_VALUE));
+
+        // then
+        assertThat(result).isEqualTo(Long.MIN_VALUE);
+    }
+
+    @Test
+    void shouldKeepBigIntegerWhenValueDoesNotFit() {
+        // when
+        Object result = BigIntegerType.normalize(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE));
+
+        // then
+        assertThat(result).isEqualTo(new BigIntegerType(new BigInteger("9223372036854775808")));
+    }
+
+    @Test
+    void shouldAddPastLongRange() {
+        // when
+        Object result = MAX_LONG.add(ONE);
+
+        // then
+        assertThat(result.toString()).isEqualTo("9223372036854775808");
+    }
+
+    @Test
+    void shouldSubtractBackIntoLongRange() {
+        // given
+        BigIntegerType big = (BigIntegerType) MAX_LONG.add(ONE);
+
+        // when
+        Object result = big.subtract(ONE);
+
+        // then
+        assertThat(result).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void shouldMultiply() {
+        // when
+        Object result = MAX_LONG.multiply(MAX_LONG);
+
+        // then
+        assertThat(result.toString()).isEqualTo("85070591730234615847396907784232501249");
+    }
+
+    @Test
+    void shouldDivideTowardsZero() {
+        // given
+        BigIntegerType big = new BigIntegerType(new BigInteger("-18446744073709551617"));
+
+        // when
+        Object result = big.divide(BigIntegerType.valueOf(10));
+
+        // then
+        assertThat(result).isEqualTo(-1844674407370955161L);
+    }
+
+    @Test
+    void shouldComputeRemainderWithSignOfDividend() {
+        // given
+        BigIntegerType big = new BigIntegerType(new BigInteger("-18446744073709551617"));
+
+        // when
+        Object result = big.remainder(BigIntegerType.valueOf(10));
+
+        // then
+        assertThat(result).isEqualTo(-7L);
+    }
+
+    @Test
+    void shouldRaiseToPower() {
+        // when
+        Object result = BigIntegerType.valueOf(2).pow(64);
+
+        // then
+        assertThat(result.toString()).isEqualTo("18446744073709551616");
+    }
+
+    @Test
+    void shouldCompareValues() {
+        // given
+        BigIntegerType big = (BigIntegerType) MAX_LONG.add(ONE);
+
+        // when
+        int result = big.compareTo(MAX_LONG);
+
+        // then
+        assertThat(result).isPositive();
+    }
+
+    @Test
+    void shouldCheckZero() {
+        // when
+        boolean result = BigIntegerType.valueOf(0).isZero();
+
+        // then
+        assertThat(result).isTrue();
+    }
+}
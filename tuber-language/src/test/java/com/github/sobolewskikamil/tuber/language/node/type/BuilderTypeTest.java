@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.type;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+class BuilderTypeTest {
+    @Test
+    void shouldAppendValues() {
+        // given
+        BuilderType builder = new BuilderType();
+
+        // when
+        builder.append(1L)
+                .append(1.5)
+                .append(true)
+                .append("test")
+                .append(new ArrayType(1L, new ArrayType("a", 2.0)));
+
+        // then
+        assertThat(builder.toString()).isEqualTo("11.5truetest[1, [a, 2.0]]");
+        assertThat(builder.length()).isEqualTo(25);
+    }
+
+    @Test
+    void shouldAppendRopeWithoutFlatteningIt() {
+        // given
+        BuilderType builder = new BuilderType();
+        RopeType rope = (RopeType) RopeType.concat(StringUtils.repeat("a", 100), "b");
+
+        // when
+        builder.append(rope);
+
+        // then
+        assertThat(builder.toString()).isEqualTo(StringUtils.repeat("a", 100) + "b");
+        assertThat(rope.isFlattened()).isFalse();
+    }
+
+    @Test
+    void shouldClear() {
+        // given
+        BuilderType builder = new BuilderType();
+        builder.append("test");
+
+        // when
+        builder.clear();
+
+        // then
+        assertThat(builder.length()).isZero();
+        assertThat(builder.toString()).isEmpty();
+    }
+
+    @Test
+    void shouldWriteContentInChunks() {
+        // given
+        BuilderType builder = new BuilderType();
+        for (int i = 0; i < 10000; i++) {
+            builder.append(i % 10);
+        }
+        StringWriter out = new StringWriter();
+
+        // when
+        builder.writeTo(new PrintWriter(out));
+
+        // then
+        assertThat(out.toString()).isEqualTo(builder.toString());
+    }
+
+    @Test
+    void shouldWriteNothingWhenEmpty() {
+        // given
+        StringWriter out = new StringWriter();
+
+        // when
+        new BuilderType().writeTo(new PrintWriter(out));
+
+        // then
+        assertThat(out.toString()).isEmpty();
+    }
+}
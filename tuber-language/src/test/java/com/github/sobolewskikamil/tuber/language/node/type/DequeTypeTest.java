@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.type;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+class DequeTypeTest {
+    @Test
+    void shouldPushAndPopOnBothEnds() {
+        // given
+        DequeType deque = new DequeType();
+        deque.pushBack(2L);
+        deque.pushFront(1L);
+        deque.pushBack(3L);
+
+        // when
+        Object front = deque.popFront();
+        Object back = deque.popBack();
+
+        // then
+        assertThat(front).isEqualTo(1L);
+        assertThat(back).isEqualTo(3L);
+        assertThat(deque.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldWrapAroundAndGrow() {
+        // given
+        DequeType deque = new DequeType();
+        for (long i = 0; i < 100; i++) {
+            deque.pushFront(-i);
+            deque.pushBack(i);
+        }
+
+        // when
+        Object first = deque.get(0).orElse(null);
+        Object middle = deque.get(100).orElse(null);
+        Object last = deque.get(199).orElse(null);
+
+        // then
+        assertThat(deque.size()).isEqualTo(200);
+        assertThat(first).isEqualTo(-99L);
+        assertThat(middle).isEqualTo(0L);
+        assertThat(last).isEqualTo(99L);
+    }
+
+    @Test
+    void shouldKeepOrderWhenUsedAsQueue() {
+        // given
+        DequeType deque = new DequeType();
+        long sum = 0;
+
+        // when
+        for (long i = 0; i < 1000; i++) {
+            deque.pushBack(i);
+            if (i % 3 == 0) {
+                sum += (long) deque.popFront();
+            }
+        }
+
+        // then
+        assertThat(sum).isEqualTo(55611L);
+        assertThat(deque.get(0).orElse(null)).isEqualTo(334L);
+    }
+
+    @Test
+    void shouldStoreDoubles() {
+        // given
+        DequeType deque = new DequeType();
+
+        // when
+        deque.pushBack(1.5);
+        deque.pushFront(0.5);
+
+        // then
+        assertThat(deque.popFront()).isEqualTo(0.5);
+        assertThat(deque.popFront()).isEqualTo(1.5);
+    }
+
+    @Test
+    void shouldGeneralizeStorageForMixedElements() {
+        // given
+        DequeType deque = new DequeType();
+        deque.pushBack(1L);
+        deque.pushBack(2L);
+
+        // when
+        deque.pushFront("test");
+        deque.pushBack(1.5);
+
+        // then
+        assertThat(deque.toString()).isEqualTo("[test, 1, 2, 1.5]");
+    }
+
+    @Test
+    void shouldReturnEmptyForIndexOutOfRange() {
+        // given
+        DequeType deque = new DequeType();
+        deque.pushBack(1L);
+
+        // then
+        assertThat(deque.get(1).isPresent()).isFalse();
+        assertThat(deque.get(-1).isPresent()).isFalse();
+    }
+
+    @Test
+    void shouldReturnNullWhenEmpty() {
+        // given
+        DequeType deque = new DequeType();
+
+        // then
+        assertThat(deque.popFront()).isNull();
+        assertThat(deque.popBack()).isNull();
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.type;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+class HeapTypeTest {
+    @Test
+    void shouldPopValuesInPriorityOrder() {
+        // given
+        HeapType heap = new HeapType();
+        heap.push(5L, "e");
+        heap.push(1L, "a");
+        heap.push(3L, "c");
+        heap.push(2L, "b");
+        heap.push(4L, "d");
+
+        // when
+        StringBuilder result = new StringBuilder();
+        while (heap.size() > 0) {
+            result.append(heap.pop());
+        }
+
+        // then
+        assertThat(result.toString()).isEqualTo("abcde");
+    }
+
+    @Test
+    void shouldGrowBeyondInitialCapacity() {
+        // given
+        HeapType heap = new HeapType();
+        for (long i = 1000; i > 0; i--) {
+            heap.push(i, i);
+        }
+
+        // when
+        long previous = 0;
+        boolean ordered = true;
+        while (heap.size() > 0) {
+            long current = (long) heap.pop();
+            ordered &= previous < current;
+            previous = current;
+        }
+
+        // then
+        assertThat(ordered).isTrue();
+        assertThat(previous).isEqualTo(1000L);
+    }
+
+    @Test
+    void shouldSwitchToDoublePriorities() {
+        // given
+        HeapType heap = new HeapType();
+        heap.push(2L, "c");
+        heap.push(1L, "a");
+
+        // when
+        heap.push(1.5, "b");
+
+        // then
+        assertThat(heap.hasDoublePriorities()).isTrue();
+        assertThat(heap.pop()).isEqualTo("a");
+        assertThat(heap.pop()).isEqualTo("b");
+        assertThat(heap.pop()).isEqualTo("c");
+    }
+
+    @Test
+    void shouldPushLongPriorityAfterSwitchingToDoublePriorities() {
+        // given
+        HeapType heap = new HeapType();
+        heap.push(2.5, "b");
+
+        // when
+        heap.push(1L, "a");
+
+        // then
+        assertThat(heap.pop()).isEqualTo("a");
+        assertThat(heap.pop()).isEqualTo("b");
+    }
+
+    @Test
+    void shouldPeekWithoutRemoving() {
+        // given
+        HeapType heap = new HeapType();
+        heap.push(2L, "b");
+        heap.push(1L, "a");
+
+        // when
+        Object result = heap.peek();
+
+        // then
+        assertThat(result).isEqualTo("a");
+        assertThat(heap.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReturnNullWhenEmpty() {
+        // given
+        HeapType heap = new HeapType();
+
+        // when
+        Object popped = heap.pop();
+        Object peeked = heap.peek();
+
+        // then
+        assertThat(popped).isNull();
+        assertThat(peeked).isNull();
+    }
+
+    @Test
+    void shouldConvertToString() {
+        // given
+        HeapType heap = new HeapType();
+        heap.push(2L, "b");
+        heap.push(1L, "a");
+
+        // when
+        String result = heap.toString();
+
+        // then
+        assertThat(result).isEqualTo("[1=a, 2=b]");
+    }
+}
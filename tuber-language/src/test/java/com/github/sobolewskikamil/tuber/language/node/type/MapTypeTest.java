@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.type;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MapTypeTest {
+    @Test
+    void shouldReturnNullForMissingKey() {
+        // given
+        MapType mapType = new MapType();
+
+        // when
+        Object result = mapType.get(1L);
+
+        // then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    void shouldPutAndGetLongKey() {
+        // given
+        MapType mapType = new MapType();
+
+        // when
+        mapType.put(1L, "test");
+
+        // then
+        assertThat(mapType.get(1L)).isEqualTo("test");
+        assertThat(mapType.get((Object) 1L)).isEqualTo("test");
+        assertThat(mapType.has(1L)).isTrue();
+    }
+
+    @Test
+    void shouldPutAndGetObjectKeys() {
+        // given
+        MapType mapType = new MapType();
+
+        // when
+        mapType.put("key", 1L);
+        mapType.put(1.5, 2L);
+        mapType.put(true, 3L);
+        mapType.put(new TupleType(1L, "a"), 4L);
+
+        // then
+        assertThat(mapType.get("key")).isEqualTo(1L);
+        assertThat(mapType.get(1.5)).isEqualTo(2L);
+        assertThat(mapType.get(true)).isEqualTo(3L);
+        assertThat(mapType.get(new TupleType(1L, "a"))).isEqualTo(4L);
+        assertThat(mapType.size()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldDistinguishLongAndDoubleKeys() {
+        // given
+        MapType mapType = new MapType();
+
+        // when
+        mapType.put(1L, "long");
+        mapType.put(1.0, "double");
+
+        // then
+        assertThat(mapType.get(1L)).isEqualTo("long");
+        assertThat(mapType.get(1.0)).isEqualTo("double");
+    }
+
+    @Test
+    void shouldReplaceValueOfExistingKey() {
+        // given
+        MapType mapType = new MapType();
+        mapType.put(1L, "test1");
+
+        // when
+        mapType.put(1L, "test2");
+
+        // then
+        assertThat(mapType.get(1L)).isEqualTo("test2");
+        assertThat(mapType.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldGrowAndKeepAllEntries() {
+        // given
+        MapType mapType = new MapType();
+
+        // when
+        LongStream.range(0, 1000).forEach(i -> mapType.put(i, (Object) (i * 2)));
+        LongStream.range(0, 1000).forEach(i -> mapType.put("key" + i, i));
+
+        // then
+        assertThat(mapType.size()).isEqualTo(2000);
+        LongStream.range(0, 1000).forEach(i -> assertThat(mapType.get(i)).isEqualTo(i * 2));
+        LongStream.range(0, 1000).forEach(i -> assertThat(mapType.get("key" + i)).isEqualTo(i));
+    }
+
+    @Test
+    void shouldRemoveKeysAndKeepRemainingReachable() {
+        // given
+        MapType mapType = new MapType();
+        LongStream.range(0, 100).forEach(i -> mapType.put(i, (Object) i));
+        LongStream.range(0, 100).forEach(i -> mapType.put("key" + i, i));
+
+        // when
+        LongStream.range(0, 100).filter(i -> i % 3 == 0).forEach(i -> {
+            assertThat(mapType.remove(i)).isEqualTo(i);
+            assertThat(mapType.remove("key" + i)).isEqualTo(i);
+        });
+
+        // then
+        LongStream.range(0, 100).forEach(i -> {
+            assertThat(mapType.has(i)).isEqualTo(i % 3 != 0);
+            assertThat(mapType.has("key" + i)).isEqualTo(i % 3 != 0);
+        });
+        assertThat(mapType.size()).isEqualTo(132);
+    }
+
+    @Test
+    void shouldReturnNullWhenRemovingMissingKey() {
+        // given
+        MapType mapType = new MapType();
+
+        // when / then
+        assertThat(mapType.remove(1L)).isNull();
+        assertThat(mapType.remove("test")).isNull();
+    }
+
+    @Test
+    void shouldReturnAllKeys() {
+        // given
+        MapType mapType = new MapType();
+        mapType.put(1L, "test1");
+        mapType.put("key", "test2");
+
+        // when
+        Object[] result = mapType.keys();
+
+        // then
+        assertThat(result).containsExactlyInAnyOrder(1L, "key");
+    }
+
+    @Test
+    void shouldMatchRopeKeysWithEqualStrings() {
+        // given
+        MapType mapType = new MapType();
+        String key = StringUtils.repeat("a", 100) + "b";
+
+        // when
+        mapType.put(RopeType.concat(StringUtils.repeat("a", 100), "b"), 1L);
+
+        // then
+        assertThat(mapType.get(key)).isEqualTo(1L);
+        assertThat(mapType.has(RopeType.concat(StringUtils.repeat("a", 99), "ab"))).isTrue();
+        assertThat(mapType.keys()[0]).isEqualTo(key);
+    }
+
+    @Test
+    void shouldRecognizeKeys() {
+        // when / then
+        assertThat(MapType.isKey(1L)).isTrue();
+        assertThat(MapType.isKey(1.0)).isTrue();
+        assertThat(MapType.isKey(true)).isTrue();
+        assertThat(MapType.isKey("test")).isTrue();
+        assertThat(MapType.isKey(new ArrayType())).isFalse();
+        assertThat(MapType.isKey(new TupleType(1L, 2L))).isTrue();
+        assertThat(MapType.isKey(new TupleType(1L, new ArrayType()))).isFalse();
+        assertThat(MapType.isKey(RopeType.concat(StringUtils.repeat("a", 100), "b"))).isTrue();
+        assertThat(MapType.isKey(NullType.getInstance())).isFalse();
+        assertThat(MapType.isKey(new MapType())).isFalse();
+    }
+
+    @Test
+    void testEquals() {
+        // given
+        MapType first = new MapType();
+        first.put(1L, "test1");
+        first.put("key", 2L);
+        MapType second = new MapType();
+        second.put("key", 2L);
+        second.put(1L, "test1");
+        MapType third = new MapType();
+        third.put(1L, "test1");
+
+        // when / then
+        assertThat(first)
+                .isEqualTo(first)
+                .isEqualTo(second)
+                .isNotEqualTo(third)
+                .isNotEqualTo(null);
+    }
+
+    @Test
+    void testHashCode() {
+        // given
+        MapType first = new MapType();
+        first.put(1L, "test1");
+        MapType second = new MapType();
+        second.put(1L, "test1");
+
+        // when / then
+        assertThat(first.hashCode()).isEqualTo(second.hashCode());
+    }
+
+    @Test
+    void testToString() {
+        // given
+        MapType mapType = new MapType();
+        mapType.put(1L, "test");
+        mapType.put("key", new ArrayType(1L, 2L));
+
+        // when
+        String result = mapType.toString();
+
+        // then
+        assertThat(result).isEqualTo("{1=test, key=[1, 2]}");
+    }
+}
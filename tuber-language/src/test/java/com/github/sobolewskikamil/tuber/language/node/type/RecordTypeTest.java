@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.type;
+
+import com.oracle.truffle.api.object.DynamicObject;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+class RecordTypeTest {
+    @Test
+    void shouldCreateRecordsSharingEmptyShape() {
+        // when
+        DynamicObject first = RecordType.createRecord();
+        DynamicObject second = RecordType.createRecord();
+
+        // then
+        assertThat(first.getShape()).isSameAs(second.getShape());
+        assertThat(first.getShape().getPropertyCount()).isZero();
+    }
+
+    @Test
+    void shouldShareShapeOfRecordsWithSameFields() {
+        // given
+        DynamicObject first = RecordType.createRecord();
+        DynamicObject second = RecordType.createRecord();
+
+        // when
+        first.define("x", 1L);
+        second.define("x", 2L);
+
+        // then
+        assertThat(first.getShape()).isSameAs(second.getShape());
+    }
+
+    @Test
+    void shouldRecognizeRecord() {
+        // when
+        boolean record = RecordType.isRecord(RecordType.createRecord());
+        boolean notRecord = RecordType.isRecord(new MapType());
+
+        // then
+        assertThat(record).isTrue();
+        assertThat(notRecord).isFalse();
+    }
+
+    @Test
+    void shouldCompareRecordsByIdentity() {
+        // given
+        DynamicObject first = RecordType.createRecord();
+        DynamicObject second = RecordType.createRecord();
+
+        // when
+        boolean same = first.equals(first);
+        boolean different = first.equals(second);
+
+        // then
+        assertThat(same).isTrue();
+        assertThat(different).isFalse();
+    }
+
+    @Test
+    void shouldConvertToString() {
+        // given
+        DynamicObject record = RecordType.createRecord();
+        record.define("x", 1L);
+        record.define("name", "test");
+
+        // when
+        String result = record.toString();
+
+        // then
+        assertThat(result).isEqualTo("{x=1, name=test}");
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.type;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+class RopeTypeTest {
+    private static final String LONG_STRING = StringUtils.repeat("a", RopeType.FLAT_THRESHOLD);
+
+    @Test
+    void shouldConcatenateShortStringsEagerly() {
+        // when
+        Object result = RopeType.concat("test1", "test2");
+
+        // then
+        assertThat(result).isEqualTo("test1test2");
+    }
+
+    @Test
+    void shouldCreateRopeForLongConcatenation() {
+        // when
+        Object result = RopeType.concat(LONG_STRING, "b");
+
+        // then
+        assertThat(result).isInstanceOf(RopeType.class);
+        assertThat(((RopeType) result).length()).isEqualTo(RopeType.FLAT_THRESHOLD + 1);
+        assertThat(((RopeType) result).isFlattened()).isFalse();
+    }
+
+    @Test
+    void shouldReturnOtherPartWhenConcatenatingEmptyString() {
+        // given
+        Object rope = RopeType.concat(LONG_STRING, "b");
+
+        // when
+        Object result = RopeType.concat(rope, "");
+
+        // then
+        assertThat(result).isSameAs(rope);
+    }
+
+    @Test
+    void shouldFlattenDeepRopeInOrder() {
+        // given
+        Object result = "";
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            result = RopeType.concat(result, Integer.toString(i % 10));
+            expected.append(i % 10);
+        }
+
+        // when
+        String flattened = result.toString();
+
+        // then
+        assertThat(flattened).isEqualTo(expected.toString());
+        assertThat(((RopeType) result).isFlattened()).isTrue();
+    }
+
+    @Test
+    void shouldFlattenRopeContainingFlattenedRope() {
+        // given
+        Object inner = RopeType.concat(LONG_STRING, "b");
+        inner.toString();
+
+        // when
+        Object result = RopeType.concat("c", RopeType.concat(inner, "d"));
+
+        // then
+        assertThat(result.toString()).isEqualTo("c" + LONG_STRING + "bd");
+    }
+
+    @Test
+    void shouldAppendRopeWithoutFlatteningIt() {
+        // given
+        RopeType rope = (RopeType) RopeType.concat(RopeType.concat(LONG_STRING, "b"), "c");
+        StringBuilder builder = new StringBuilder("x");
+
+        // when
+        rope.appendTo(builder);
+
+        // then
+        assertThat(builder.toString()).isEqualTo("x" + LONG_STRING + "bc");
+        assertThat(rope.isFlattened()).isFalse();
+    }
+
+    @Test
+    void shouldCompareByContent() {
+        // given
+        Object first = RopeType.concat(LONG_STRING, "b");
+        Object second = RopeType.concat(LONG_STRING.substring(1), "ab");
+
+        // then
+        assertThat(first).isEqualTo(second);
+        assertThat(first.hashCode()).isEqualTo(second.hashCode());
+        assertThat(first).isNotEqualTo(RopeType.concat(LONG_STRING, "c"));
+    }
+
+    @Test
+    void shouldBeEqualToStringWithSameCharacters() {
+        // given
+        Object rope = RopeType.concat(LONG_STRING, "b");
+        String string = LONG_STRING + "b";
+
+        // then
+        assertThat(rope).isEqualTo(string);
+        assertThat(rope.hashCode()).isEqualTo(string.hashCode());
+        assertThat(rope).isNotEqualTo(LONG_STRING + "c");
+    }
+
+    @Test
+    void shouldCompareValuesSymmetrically() {
+        // given
+        Object rope = RopeType.concat(LONG_STRING, "b");
+        String string = LONG_STRING + "b";
+
+        // then
+        assertThat(RopeType.equalValues(string, rope)).isTrue();
+        assertThat(RopeType.equalValues(rope, string)).isTrue();
+        assertThat(RopeType.equalValues(string, RopeType.concat(LONG_STRING, "c"))).isFalse();
+        assertThat(RopeType.equalValues(null, null)).isTrue();
+        assertThat(RopeType.equalValues(1L, null)).isFalse();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.node.type;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+class TupleTypeTest {
+    @Test
+    void shouldReturnElementsAndSize() {
+        // given
+        TupleType tuple = new TupleType(1L, "test");
+
+        // then
+        assertThat(tuple.size()).isEqualTo(2);
+        assertThat(tuple.get(0)).isEqualTo(1L);
+        assertThat(tuple.get(1)).isEqualTo("test");
+    }
+
+    @Test
+    void shouldCompareByElements() {
+        // given
+        TupleType tuple = new TupleType(1L, new ArrayType(2L));
+
+        // then
+        assertThat(tuple).isEqualTo(new TupleType(1L, new ArrayType(2L)));
+        assertThat(tuple.hashCode()).isEqualTo(new TupleType(1L, new ArrayType(2L)).hashCode());
+        assertThat(tuple).isNotEqualTo(new TupleType(1L, 2L));
+    }
+
+    @Test
+    void shouldConvertToString() {
+        // when
+        String result = new TupleType(1L, "test").toString();
+
+        // then
+        assertThat(result).isEqualTo("(1, test)");
+    }
+
+    @Test
+    void shouldTreatRopeAndEqualStringAsEqualElements() {
+        // given
+        String string = StringUtils.repeat("a", 70);
+        Object rope = RopeType.concat(StringUtils.repeat("a", 35), StringUtils.repeat("a", 35));
+        TupleType first = new TupleType(rope, 1L);
+        TupleType second = new TupleType(string, 1L);
+
+        // then
+        assertThat(first).isEqualTo(second);
+        assertThat(second).isEqualTo(first);
+        assertThat(first.hashCode()).isEqualTo(second.hashCode());
+    }
+}
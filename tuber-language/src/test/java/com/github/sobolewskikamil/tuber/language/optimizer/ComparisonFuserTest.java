@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.optimizer;
+
+import com.github.sobolewskikamil.tuber.language.node.RootNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.ExpressionNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.access.ReadLocalVariableNodeGen;
+import com.github.sobolewskikamil.tuber.language.node.expression.literal.DoubleLiteralNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.literal.LongLiteralNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.logical.GreaterNodeGen;
+import com.github.sobolewskikamil.tuber.language.node.expression.logical.LessNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.logical.LessNodeGen;
+import com.github.sobolewskikamil.tuber.language.node.expression.logical.LocalGreaterNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.logical.LocalLessNode;
+import com.oracle.truffle.api.frame.FrameDescriptor;
+import com.oracle.truffle.api.frame.FrameSlot;
+import com.oracle.truffle.api.nodes.NodeUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ComparisonFuserTest {
+    private FrameDescriptor frameDescriptor;
+    private FrameSlot slot1;
+    private FrameSlot slot2;
+
+    @BeforeEach
+    void setUp() {
+        frameDescriptor = new FrameDescriptor();
+        slot1 = frameDescriptor.addFrameSlot("a");
+        slot2 = frameDescriptor.addFrameSlot("b");
+    }
+
+    @Test
+    void shouldFuseComparisonOfLocals() {
+        // given
+        RootNode rootNode = createRootNode(LessNodeGen.create(
+                ReadLocalVariableNodeGen.create(slot1), ReadLocalVariableNodeGen.create(slot2)));
+
+        // when
+        new ComparisonFuser().apply(rootNode);
+
+        // then
+        assertThat(rootNode.getChildren()).hasOnlyElementsOfType(LocalLessNode.class);
+    }
+
+    @Test
+    void shouldFuseComparisonOfLocalWithLiteral() {
+        // given
+        RootNode rootNode = createRootNode(LessNodeGen.create(
+                ReadLocalVariableNodeGen.create(slot1), new LongLiteralNode(10)));
+
+        // when
+        new ComparisonFuser().apply(rootNode);
+
+        // then
+        assertThat(rootNode.getChildren()).hasOnlyElementsOfType(LocalLessNode.class);
+    }
+
+    @Test
+    void shouldMirrorComparisonOfLiteralWithLocal() {
+        // given
+        RootNode rootNode = createRootNode(LessNodeGen.create(
+                new LongLiteralNode(10), ReadLocalVariableNodeGen.create(slot1)));
+
+        // when
+        new ComparisonFuser().apply(rootNode);
+
+        // then
+        assertThat(rootNode.getChildren()).hasOnlyElementsOfType(LocalGreaterNode.class);
+    }
+
+    @Test
+    void shouldFuseNestedComparison() {
+        // given
+        RootNode rootNode = createRootNode(GreaterNodeGen.create(
+                LessNodeGen.create(ReadLocalVariableNodeGen.create(slot1), new LongLiteralNode(1)),
+                ReadLocalVariableNodeGen.create(slot2)));
+
+        // when
+        new ComparisonFuser().apply(rootNode);
+
+        // then
+        assertThat(NodeUtil.findAllNodeInstances(rootNode, LocalLessNode.class)).hasSize(1);
+    }
+
+    @Test
+    void shouldNotFuseComparisonWithDoubleLiteral() {
+        // given
+        RootNode rootNode = createRootNode(LessNodeGen.create(
+                ReadLocalVariableNodeGen.create(slot1), new DoubleLiteralNode(1.5)));
+
+        // when
+        new ComparisonFuser().apply(rootNode);
+
+        // then
+        assertThat(rootNode.getChildren()).hasOnlyElementsOfType(LessNode.class);
+    }
+
+    private RootNode createRootNode(ExpressionNode bodyNode) {
+        return new RootNode(null, frameDescriptor, bodyNode);
+    }
+}
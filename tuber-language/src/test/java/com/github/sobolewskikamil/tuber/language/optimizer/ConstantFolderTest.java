@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.optimizer;
+
+import com.github.sobolewskikamil.tuber.language.node.RootNode;
+import com.github.sobolewskikamil.tuber.language.node.StatementNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.ExpressionNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.access.AddLocalVariableNodeGen;
+import com.github.sobolewskikamil.tuber.language.node.expression.access.ReadLocalVariableNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.access.ReadLocalVariableNodeGen;
+import com.github.sobolewskikamil.tuber.language.node.expression.access.UpdateArrayElementNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.access.WriteLocalVariableNodeGen;
+import com.github.sobolewskikamil.tuber.language.node.expression.arithmetic.AddNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.arithmetic.AddNodeGen;
+import com.github.sobolewskikamil.tuber.language.node.expression.arithmetic.ModNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.arithmetic.ModNodeGen;
+import com.github.sobolewskikamil.tuber.language.node.expression.arithmetic.MulNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.arithmetic.MulNodeGen;
+import com.github.sobolewskikamil.tuber.language.node.expression.flowcontrol.BlockNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.flowcontrol.FunctionBodyNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.flowcontrol.ReturnNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.literal.LongLiteralNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.literal.StringLiteralNode;
+import com.oracle.truffle.api.frame.FrameDescriptor;
+import com.oracle.truffle.api.frame.FrameSlot;
+import com.oracle.truffle.api.nodes.NodeUtil;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConstantFolderTest {
+    private final FrameDescriptor frameDescriptor = new FrameDescriptor();
+
+    @Test
+    void shouldFoldConstantExpression() {
+        // given
+        RootNode rootNode = createRootNode(new ReturnNode(
+                MulNodeGen.create(MulNodeGen.create(literal(60), literal(60)), literal(24))));
+
+        // when
+        new ConstantFolder(true).apply(rootNode);
+
+        // then
+        assertThat(NodeUtil.findAllNodeInstances(rootNode, MulNode.class)).isEmpty();
+        assertThat(NodeUtil.findAllNodeInstances(rootNode, LongLiteralNode.class))
+                .extracting(node -> node.executeLong(null))
+                .containsExactly(86400L);
+    }
+
+    @Test
+    void shouldFoldStringConcatenation() {
+        // given
+        RootNode rootNode = createRootNode(new ReturnNode(
+                AddNodeGen.create(new StringLiteralNode("a"), new StringLiteralNode("b"))));
+
+        // when
+        new ConstantFolder(true).apply(rootNode);
+
+        // then
+        assertThat(NodeUtil.findAllNodeInstances(rootNode, StringLiteralNode.class))
+                .extracting(node -> node.executeString(null))
+                .containsExactly("ab");
+    }
+
+    @Test
+    void shouldNotFoldFailingExpression() {
+        // given
+        RootNode rootNode = createRootNode(new ReturnNode(ModNodeGen.create(literal(1), literal(0))));
+
+        // when
+        new ConstantFolder(true).apply(rootNode);
+
+        // then
+        assertThat(NodeUtil.findAllNodeInstances(rootNode, ModNode.class)).hasSize(1);
+    }
+
+    @Test
+    void shouldPropagateLocalAssignedOnce() {
+        // given
+        FrameSlot slot = frameDescriptor.addFrameSlot("n");
+        RootNode rootNode = createRootNode(
+                WriteLocalVariableNodeGen.create(literal(10), slot),
+                new ReturnNode(AddNodeGen.create(ReadLocalVariableNodeGen.create(slot), literal(1))));
+
+        // when
+        new ConstantFolder(true).apply(rootNode);
+
+        // then
+        assertThat(NodeUtil.findAllNodeInstances(rootNode, ReadLocalVariableNode.class)).isEmpty();
+        assertThat(NodeUtil.findAllNodeInstances(rootNode, LongLiteralNode.class))
+                .extracting(node -> node.executeLong(null))
+                .containsExactly(10L, 11L);
+    }
+
+    @Test
+    void shouldNotPropagateLocalAssignedTwice() {
+        // given
+        FrameSlot slot = frameDescriptor.addFrameSlot("n");
+        RootNode rootNode = createRootNode(
+                WriteLocalVariableNodeGen.create(literal(10), slot),
+                WriteLocalVariableNodeGen.create(literal(20), slot),
+                new ReturnNode(ReadLocalVariableNodeGen.create(slot)));
+
+        // when
+        new ConstantFolder(true).apply(rootNode);
+
+        // then
+        assertThat(NodeUtil.findAllNodeInstances(rootNode, ReadLocalVariableNode.class)).hasSize(1);
+    }
+
+    @Test
+    void shouldNotPropagateLocalUpdatedInPlace() {
+        // given
+        FrameSlot slot = frameDescriptor.addFrameSlot("n");
+        RootNode rootNode = createRootNode(
+                WriteLocalVariableNodeGen.create(literal(10), slot),
+                AddLocalVariableNodeGen.create(literal(1), slot),
+                new ReturnNode(ReadLocalVariableNodeGen.create(slot)));
+
+        // when
+        new ConstantFolder(true).apply(rootNode);
+
+        // then
+        assertThat(NodeUtil.findAllNodeInstances(rootNode, ReadLocalVariableNode.class)).hasSize(1);
+    }
+
+    @Test
+    void shouldNotFoldOperationWithoutOperands() {
+        // given
+        FrameSlot slot = frameDescriptor.addFrameSlot("a");
+        RootNode rootNode = createRootNode(new UpdateArrayElementNode(
+                ReadLocalVariableNodeGen.create(slot), literal(0), literal(1), AddNodeGen.create(null, null)));
+
+        // when
+        new ConstantFolder(true).apply(rootNode);
+
+        // then
+        assertThat(NodeUtil.findAllNodeInstances(rootNode, AddNode.class)).hasSize(1);
+    }
+
+    @Test
+    void shouldNotPropagateLocalWhenOnlyFolding() {
+        // given
+        FrameSlot slot = frameDescriptor.addFrameSlot("n");
+        RootNode rootNode = createRootNode(
+                WriteLocalVariableNodeGen.create(literal(10), slot),
+                new ReturnNode(ReadLocalVariableNodeGen.create(slot)));
+
+        // when
+        new ConstantFolder(false).apply(rootNode);
+
+        // then
+        assertThat(NodeUtil.findAllNodeInstances(rootNode, ReadLocalVariableNode.class)).hasSize(1);
+    }
+
+    private RootNode createRootNode(StatementNode... statementNodes) {
+        return new RootNode(null, frameDescriptor, new FunctionBodyNode(new BlockNode(statementNodes)));
+    }
+
+    private static ExpressionNode literal(long value) {
+        return new LongLiteralNode(value);
+    }
+}
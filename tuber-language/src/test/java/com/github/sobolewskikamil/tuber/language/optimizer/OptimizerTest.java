@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.optimizer;
+
+import com.github.sobolewskikamil.tuber.language.node.RootNode;
+import com.github.sobolewskikamil.tuber.language.node.expression.literal.LongLiteralNode;
+import com.oracle.truffle.api.frame.FrameDescriptor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OptimizerTest {
+    @Mock
+    private OptimizationPass pass1;
+    @Mock
+    private OptimizationPass pass2;
+
+    private final RootNode rootNode = new RootNode(null, new FrameDescriptor(), new LongLiteralNode(1));
+
+    @Test
+    void shouldApplyPassesInOrder() {
+        // given
+        Optimizer optimizer = new Optimizer(Arrays.asList(pass1, pass2), null);
+
+        // when
+        optimizer.optimize("main", rootNode);
+
+        // then
+        InOrder inOrder = inOrder(pass1, pass2);
+        inOrder.verify(pass1).apply(rootNode);
+        inOrder.verify(pass2).apply(rootNode);
+    }
+
+    @Test
+    void shouldDumpTreeBeforeAndAfterEachPass() {
+        // given
+        when(pass1.getName()).thenReturn("pass");
+        StringWriter dump = new StringWriter();
+        Optimizer optimizer = new Optimizer(Arrays.asList(pass1), new PrintWriter(dump));
+
+        // when
+        optimizer.optimize("main", rootNode);
+
+        // then
+        assertThat(dump.toString())
+                .contains("=== main: before pass ===")
+                .contains("=== main: after pass ===")
+                .contains("LongLiteralNode");
+    }
+
+    @Test
+    void shouldHaveNoPassesWhenDisabled() {
+        // when
+        Optimizer optimizer = Optimizer.forLevel(0, null);
+
+        // then
+        assertThat(optimizer.getPasses()).isEmpty();
+    }
+
+    @Test
+    void shouldSelectPassesForLevel() {
+        // when
+        Optimizer folding = Optimizer.forLevel(1, null);
+        Optimizer propagation = Optimizer.forLevel(2, null);
+
+        // then
+        assertThat(folding.getPasses()).extracting(OptimizationPass::getName).containsExactly("constant folding");
+        assertThat(propagation.getPasses()).extracting(OptimizationPass::getName).containsExactly("constant propagation", "comparison fusion");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 3})
+    void shouldThrowExceptionWhenLevelIsNotSupported(int level) {
+        // when / then
+        assertThatThrownBy(() -> Optimizer.forLevel(level, null))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Optimization level must be between 0 and 2");
+    }
+}
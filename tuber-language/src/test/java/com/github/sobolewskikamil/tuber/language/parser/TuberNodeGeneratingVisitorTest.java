@@ -27,6 +27,7 @@ import com.github.sobolewskikamil.tuber.language.node.StatementNode;
 import com.github.sobolewskikamil.tuber.language.node.expression.ExpressionNode;
 import com.github.sobolewskikamil.tuber.language.node.expression.access.*;
 import com.github.sobolewskikamil.tuber.language.node.expression.arithmetic.*;
+import com.github.sobolewskikamil.tuber.language.node.expression.bitwise.*;
 import com.github.sobolewskikamil.tuber.language.node.expression.call.CallNode;
 import com.github.sobolewskikamil.tuber.language.node.expression.flowcontrol.*;
 import com.github.sobolewskikamil.tuber.language.node.expression.literal.*;
@@ -38,6 +39,7 @@ import com.google.common.collect.Maps;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.frame.FrameDescriptor;
 import com.oracle.truffle.api.frame.FrameSlot;
+import com.oracle.truffle.api.frame.FrameSlotKind;
 import org.assertj.core.api.AssertionsForClassTypes;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -145,6 +147,20 @@ class TuberNodeGeneratingVisitorTest {
             assertThat(node).isEqualToComparingFieldByFieldRecursively(expected);
         }
 
+        @Test
+        void shouldInternStringLiterals() {
+            // given
+            TuberParser.LiteralContext first = TuberParserUtils.createParserForSource("\"test\"").literal();
+            TuberParser.LiteralContext second = TuberParserUtils.createParserForSource("\"test\"").literal();
+
+            // when
+            StringLiteralNode firstNode = (StringLiteralNode) visitor.visitLiteral(first);
+            StringLiteralNode secondNode = (StringLiteralNode) visitor.visitLiteral(second);
+
+            // then
+            assertThat(firstNode.executeString(null)).isSameAs(secondNode.executeString(null));
+        }
+
         @Test
         void shouldThrowExceptionForUnknownLiteral() {
             // given
@@ -206,6 +222,39 @@ class TuberNodeGeneratingVisitorTest {
             assertThat(node).isEqualToComparingFieldByFieldRecursively(expected);
         }
 
+        @Test
+        void shouldGenerateReadFieldNode() {
+            // given
+            Map<String, FrameSlot> locals = ImmutableMap.of(
+                    "a", new FrameDescriptor().addFrameSlot("a")
+            );
+            TuberParser.ExpressionContext context = TuberParserUtils.createParserForSource("a.b.c").expression();
+            TuberNodeGeneratingVisitor visitor = new TuberNodeGeneratingVisitor(new Language(), () -> new LexicalScope(locals), FrameDescriptor::new);
+
+            // when
+            StatementNode node = visitor.visitExpression(context);
+
+            // then
+            ReadFieldNode expected = ReadFieldNodeGen.create(
+                    ReadFieldNodeGen.create(ReadLocalVariableNodeGen.create(locals.get("a")), "b"),
+                    "c"
+            );
+            assertThat(node).isEqualToComparingFieldByFieldRecursively(expected);
+        }
+
+        @Test
+        void shouldGenerateTupleLiteralNode() {
+            // given
+            TuberParser.ExpressionContext context = TuberParserUtils.createParserForSource("(1, \"a\")").expression();
+
+            // when
+            StatementNode node = visitor.visitExpression(context);
+
+            // then
+            TupleLiteralNode expected = new TupleLiteralNode(new LongLiteralNode(1L), new StringLiteralNode("a"));
+            assertThat(node).isEqualToComparingFieldByFieldRecursively(expected);
+        }
+
         @Nested
         @DisplayName("Arithmetic")
         class Arithmetic {
@@ -413,9 +462,167 @@ class TuberNodeGeneratingVisitorTest {
             }
         }
 
+        @Nested
+        @DisplayName("Bitwise")
+        class Bitwise {
+            @Test
+            void shouldGenerateBitwiseAndNode() {
+                // given
+                TuberParser.ExpressionContext context = TuberParserUtils.createParserForSource("1 & 2").expression();
+
+                // when
+                StatementNode node = visitor.visitExpression(context);
+
+                // then
+                BitwiseAndNode expected = BitwiseAndNodeGen.create(new LongLiteralNode(1), new LongLiteralNode(2));
+                assertThat(node).isEqualToComparingFieldByFieldRecursively(expected);
+            }
+
+            @Test
+            void shouldGenerateBitwiseOrNode() {
+                // given
+                TuberParser.ExpressionContext context = TuberParserUtils.createParserForSource("1 | 2").expression();
+
+                // when
+                StatementNode node = visitor.visitExpression(context);
+
+                // then
+                BitwiseOrNode expected = BitwiseOrNodeGen.create(new LongLiteralNode(1), new LongLiteralNode(2));
+                assertThat(node).isEqualToComparingFieldByFieldRecursively(expected);
+            }
+
+            @Test
+            void shouldGenerateBitwiseXorNode() {
+                // given
+                TuberParser.ExpressionContext context = TuberParserUtils.createParserForSource("1 xor 2").expression();
+
+                // when
+                StatementNode node = visitor.visitExpression(context);
+
+                // then
+                BitwiseXorNode expected = BitwiseXorNodeGen.create(new LongLiteralNode(1), new LongLiteralNode(2));
+                assertThat(node).isEqualToComparingFieldByFieldRecursively(expected);
+            }
+
+            @Test
+            void shouldGenerateShiftLeftNode() {
+                // given
+                TuberParser.ExpressionContext context = TuberParserUtils.createParserForSource("1 << 2").expression();
+
+                // when
+                StatementNode node = visitor.visitExpression(context);
+
+                // then
+                ShiftLeftNode expected = ShiftLeftNodeGen.create(new LongLiteralNode(1), new LongLiteralNode(2));
+                assertThat(node).isEqualToComparingFieldByFieldRecursively(expected);
+            }
+
+            @Test
+            void shouldGenerateShiftRightNode() {
+                // given
+                TuberParser.ExpressionContext context = TuberParserUtils.createParserForSource("1 >> 2").expression();
+
+                // when
+                StatementNode node = visitor.visitExpression(context);
+
+                // then
+                ShiftRightNode expected = ShiftRightNodeGen.create(new LongLiteralNode(1), new LongLiteralNode(2));
+                assertThat(node).isEqualToComparingFieldByFieldRecursively(expected);
+            }
+
+            @Test
+            void shouldGenerateUnsignedShiftRightNode() {
+                // given
+                TuberParser.ExpressionContext context = TuberParserUtils.createParserForSource("1 >>> 2").expression();
+
+                // when
+                StatementNode node = visitor.visitExpression(context);
+
+                // then
+                UnsignedShiftRightNode expected = UnsignedShiftRightNodeGen.create(new LongLiteralNode(1), new LongLiteralNode(2));
+                assertThat(node).isEqualToComparingFieldByFieldRecursively(expected);
+            }
+        }
+
         @Nested
         @DisplayName("Complex")
         class Complex {
+            @Test
+            void shouldBindMultiplicationTighterThanAddition() {
+                // given
+                TuberParser.ExpressionContext context = TuberParserUtils.createParserForSource("1 + 2 * 3").expression();
+
+                // when
+                StatementNode node = visitor.visitExpression(context);
+
+                // then
+                AddNode expected = AddNodeGen.create(
+                        new LongLiteralNode(1),
+                        MulNodeGen.create(
+                                new LongLiteralNode(2),
+                                new LongLiteralNode(3)
+                        )
+                );
+                assertThat(node).isEqualToComparingFieldByFieldRecursively(expected);
+            }
+
+            @Test
+            void shouldGroupExpRightToLeft() {
+                // given
+                TuberParser.ExpressionContext context = TuberParserUtils.createParserForSource("1 ^ 2 ^ 3").expression();
+
+                // when
+                StatementNode node = visitor.visitExpression(context);
+
+                // then
+                ExpNode expected = ExpNodeGen.create(
+                        new LongLiteralNode(1),
+                        ExpNodeGen.create(
+                                new LongLiteralNode(2),
+                                new LongLiteralNode(3)
+                        )
+                );
+                assertThat(node).isEqualToComparingFieldByFieldRecursively(expected);
+            }
+
+            @Test
+            void shouldBindBitwiseAndTighterThanEquality() {
+                // given
+                TuberParser.ExpressionContext context = TuberParserUtils.createParserForSource("1 & 2 == 3").expression();
+
+                // when
+                StatementNode node = visitor.visitExpression(context);
+
+                // then
+                EqualNode expected = EqualNodeGen.create(
+                        BitwiseAndNodeGen.create(
+                                new LongLiteralNode(1),
+                                new LongLiteralNode(2)
+                        ),
+                        new LongLiteralNode(3)
+                );
+                assertThat(node).isEqualToComparingFieldByFieldRecursively(expected);
+            }
+
+            @Test
+            void shouldBindAndTighterThanOr() {
+                // given
+                TuberParser.ExpressionContext context = TuberParserUtils.createParserForSource("1 || 2 && 3").expression();
+
+                // when
+                StatementNode node = visitor.visitExpression(context);
+
+                // then
+                OrNode expected = new OrNode(
+                        new LongLiteralNode(1),
+                        new AndNode(
+                                new LongLiteralNode(2),
+                                new LongLiteralNode(3)
+                        )
+                );
+                assertThat(node).isEqualToComparingFieldByFieldRecursively(expected);
+            }
+
             @Test
             void shouldGenerateNestedArithmeticExpressionWithParen() {
                 // given
@@ -519,6 +726,49 @@ class TuberNodeGeneratingVisitorTest {
             assertThat(lexicalScope.getLocals()).isEqualTo(ImmutableMap.of("a", frameDescriptor.findFrameSlot("a")));
         }
 
+        @Test
+        void shouldGenerateTupleAssignmentNode() {
+            // given
+            TuberParser.StatementContext context = TuberParserUtils.createParserForSource("(a, b) = (1, 2);").statement();
+
+            // when
+            StatementNode node = visitor.visitStatement(context);
+
+            // then
+            FrameSlot tupleSlot = frameDescriptor.findFrameSlot("(a,b)");
+            BlockNode expected = new BlockNode(new StatementNode[]{
+                    WriteLocalVariableNodeGen.create(
+                            new TupleLiteralNode(new LongLiteralNode(1L), new LongLiteralNode(2L)), tupleSlot),
+                    WriteLocalVariableNodeGen.create(
+                            ReadTupleElementNodeGen.create(ReadLocalVariableNodeGen.create(tupleSlot), 0, 2),
+                            frameDescriptor.findFrameSlot("a")),
+                    WriteLocalVariableNodeGen.create(
+                            ReadTupleElementNodeGen.create(ReadLocalVariableNodeGen.create(tupleSlot), 1, 2),
+                            frameDescriptor.findFrameSlot("b"))
+            });
+            assertThat(node).isEqualToComparingFieldByFieldRecursively(expected);
+            assertThat(lexicalScope.getLocals()).containsOnlyKeys("a", "b");
+        }
+
+        @Test
+        void shouldGenerateWriteFieldNode() {
+            // given
+            FrameSlot slot = frameDescriptor.addFrameSlot("a");
+            lexicalScope.addLocal("a", slot);
+            TuberParser.StatementContext context = TuberParserUtils.createParserForSource("a.b = 5;").statement();
+
+            // when
+            StatementNode node = visitor.visitStatement(context);
+
+            // then
+            WriteFieldNode expected = WriteFieldNodeGen.create(
+                    ReadLocalVariableNodeGen.create(slot),
+                    new LongLiteralNode(5L),
+                    "b"
+            );
+            assertThat(node).isEqualToComparingFieldByFieldRecursively(expected);
+        }
+
         @Test
         void shouldGenerateCallNode() {
             // given
@@ -1009,6 +1259,122 @@ class TuberNodeGeneratingVisitorTest {
         }
     }
 
+    @Nested
+    @DisplayName("Compound assignment")
+    class CompoundAssignment {
+        private Map<String, FrameSlot> locals;
+
+        @BeforeEach
+        void setUp() {
+            locals = ImmutableMap.of("a", new FrameDescriptor().addFrameSlot("a"));
+            visitor = new TuberNodeGeneratingVisitor(new Language(), () -> new LexicalScope(locals), FrameDescriptor::new);
+        }
+
+        @Test
+        void shouldGenerateAddAssignmentNode() {
+            // given
+            TuberParser.AssignmentContext context = TuberParserUtils.createParserForSource("a += 2;").assignment();
+
+            // when
+            StatementNode node = visitor.visitAssignment(context);
+
+            // then
+            AddLocalVariableNode expected = AddLocalVariableNodeGen.create(new LongLiteralNode(2L), locals.get("a"));
+            assertThat(node).isEqualToComparingFieldByFieldRecursively(expected);
+        }
+
+        @Test
+        void shouldGenerateSubtractAssignmentNode() {
+            // given
+            TuberParser.AssignmentContext context = TuberParserUtils.createParserForSource("a -= 2;").assignment();
+
+            // when
+            StatementNode node = visitor.visitAssignment(context);
+
+            // then
+            SubtractLocalVariableNode expected = SubtractLocalVariableNodeGen.create(new LongLiteralNode(2L), locals.get("a"));
+            assertThat(node).isEqualToComparingFieldByFieldRecursively(expected);
+        }
+
+        @Test
+        void shouldGenerateMultiplyAssignmentNode() {
+            // given
+            TuberParser.AssignmentContext context = TuberParserUtils.createParserForSource("a *= 2;").assignment();
+
+            // when
+            StatementNode node = visitor.visitAssignment(context);
+
+            // then
+            MultiplyLocalVariableNode expected = MultiplyLocalVariableNodeGen.create(new LongLiteralNode(2L), locals.get("a"));
+            assertThat(node).isEqualToComparingFieldByFieldRecursively(expected);
+        }
+
+        @Test
+        void shouldGenerateIncrementNode() {
+            // given
+            TuberParser.AssignmentContext context = TuberParserUtils.createParserForSource("a++;").assignment();
+
+            // when
+            StatementNode node = visitor.visitAssignment(context);
+
+            // then
+            AddLocalVariableNode expected = AddLocalVariableNodeGen.create(new LongLiteralNode(1L), locals.get("a"));
+            assertThat(node).isEqualToComparingFieldByFieldRecursively(expected);
+        }
+
+        @Test
+        void shouldGenerateDecrementNode() {
+            // given
+            TuberParser.AssignmentContext context = TuberParserUtils.createParserForSource("a--;").assignment();
+
+            // when
+            StatementNode node = visitor.visitAssignment(context);
+
+            // then
+            SubtractLocalVariableNode expected = SubtractLocalVariableNodeGen.create(new LongLiteralNode(1L), locals.get("a"));
+            assertThat(node).isEqualToComparingFieldByFieldRecursively(expected);
+        }
+
+        @Test
+        void shouldGenerateArrayElementAddAssignmentNode() {
+            // given
+            TuberParser.AssignmentContext context = TuberParserUtils.createParserForSource("a[0][1] += 2;").assignment();
+
+            // when
+            StatementNode node = visitor.visitAssignment(context);
+
+            // then
+            UpdateArrayElementNode expected = new UpdateArrayElementNode(
+                    new ReadArrayElementNode(
+                            ReadLocalVariableNodeGen.create(locals.get("a")),
+                            new LongLiteralNode(0L)
+                    ),
+                    new LongLiteralNode(1L),
+                    new LongLiteralNode(2L),
+                    AddNodeGen.create(null, null)
+            );
+            assertThat(node).isEqualToComparingFieldByFieldRecursively(expected);
+        }
+
+        @Test
+        void shouldGenerateArrayElementDecrementNode() {
+            // given
+            TuberParser.AssignmentContext context = TuberParserUtils.createParserForSource("a[0]--;").assignment();
+
+            // when
+            StatementNode node = visitor.visitAssignment(context);
+
+            // then
+            UpdateArrayElementNode expected = new UpdateArrayElementNode(
+                    ReadLocalVariableNodeGen.create(locals.get("a")),
+                    new LongLiteralNode(0L),
+                    new LongLiteralNode(1L),
+                    SubNodeGen.create(null, null)
+            );
+            assertThat(node).isEqualToComparingFieldByFieldRecursively(expected);
+        }
+    }
+
     @Nested
     @DisplayName("Function call")
     class FunctionCall {
@@ -1538,4 +1904,101 @@ class TuberNodeGeneratingVisitorTest {
             ));
         }
     }
+
+    @Nested
+    @DisplayName("For")
+    class For {
+        private LexicalScope lexicalScope;
+        private FrameDescriptor frameDescriptor;
+
+        @BeforeEach
+        void setUp() {
+            lexicalScope = new LexicalScope();
+            frameDescriptor = new FrameDescriptor();
+            visitor = new TuberNodeGeneratingVisitor(new Language(), () -> lexicalScope, () -> frameDescriptor);
+        }
+
+        @Test
+        void shouldGenerateForLoop() {
+            // given
+            String source = "" +
+                    "for (i = 0; i < 10; i++) {" +
+                    "   break;" +
+                    "}";
+            TuberParser.ForStatementContext context = TuberParserUtils.createParserForSource(source).forStatement();
+
+            // when
+            StatementNode node = visitor.visitForStatement(context);
+
+            // then
+            FrameSlot slot = frameDescriptor.findFrameSlot("i");
+            StatementNode expected = new ForNode(
+                    WriteLocalVariableNodeGen.create(new LongLiteralNode(0L), slot),
+                    LessNodeGen.create(ReadLocalVariableNodeGen.create(slot), new LongLiteralNode(10L)),
+                    AddLocalVariableNodeGen.create(new LongLiteralNode(1L), slot),
+                    new BlockNode(new StatementNode[]{
+                            new BreakNode()
+                    })
+            );
+            assertThat(node).isEqualToComparingFieldByFieldRecursively(expected);
+            assertThat(lexicalScope.getLocals()).isEqualTo(ImmutableMap.of("i", slot));
+        }
+
+        @Test
+        void shouldGenerateForLoopWithAssignmentUpdate() {
+            // given
+            String source = "" +
+                    "for (i = 0; i < 10; i = i + 2) {" +
+                    "}";
+            TuberParser.ForStatementContext context = TuberParserUtils.createParserForSource(source).forStatement();
+
+            // when
+            StatementNode node = visitor.visitForStatement(context);
+
+            // then
+            FrameSlot slot = frameDescriptor.findFrameSlot("i");
+            StatementNode expected = new ForNode(
+                    WriteLocalVariableNodeGen.create(new LongLiteralNode(0L), slot),
+                    LessNodeGen.create(ReadLocalVariableNodeGen.create(slot), new LongLiteralNode(10L)),
+                    WriteLocalVariableNodeGen.create(
+                            AddNodeGen.create(ReadLocalVariableNodeGen.create(slot), new LongLiteralNode(2L)),
+                            slot
+                    ),
+                    new BlockNode(new StatementNode[]{})
+            );
+            assertThat(node).isEqualToComparingFieldByFieldRecursively(expected);
+        }
+
+        @Test
+        void shouldGenerateRangeLoop() {
+            // given
+            String source = "" +
+                    "for i in 0..10 {" +
+                    "   continue;" +
+                    "}";
+            TuberParser.ForStatementContext context = TuberParserUtils.createParserForSource(source).forStatement();
+
+            // when
+            StatementNode node = visitor.visitForStatement(context);
+
+            // then
+            FrameSlot slot = frameDescriptor.findFrameSlot("i");
+            FrameSlot counterSlot = frameDescriptor.findFrameSlot("(i counter 0)");
+            FrameSlot endSlot = frameDescriptor.findFrameSlot("(i end 0)");
+            StatementNode expected = new RangeForNode(
+                    new LongLiteralNode(0L),
+                    new LongLiteralNode(10L),
+                    counterSlot,
+                    endSlot,
+                    WriteLocalVariableNodeGen.create(null, slot),
+                    new BlockNode(new StatementNode[]{
+                            new ContinueNode()
+                    })
+            );
+            assertThat(node).isEqualToComparingFieldByFieldRecursively(expected);
+            assertThat(lexicalScope.getLocals()).isEqualTo(ImmutableMap.of("i", slot));
+            assertThat(counterSlot.getKind()).isEqualTo(FrameSlotKind.Long);
+            assertThat(endSlot.getKind()).isEqualTo(FrameSlotKind.Long);
+        }
+    }
 }
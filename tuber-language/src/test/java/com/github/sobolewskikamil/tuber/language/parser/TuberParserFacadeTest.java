@@ -21,6 +21,7 @@
  */
 package com.github.sobolewskikamil.tuber.language.parser;
 
+import com.github.sobolewskikamil.tuber.language.optimizer.Optimizer;
 import com.oracle.truffle.api.RootCallTarget;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -51,7 +52,7 @@ class TuberParserFacadeTest {
                 "}";
 
         // when
-        Map<String, RootCallTarget> result = parserFacade.parseLanguage(null, source);
+        Map<String, RootCallTarget> result = parserFacade.parseLanguage(null, source, Optimizer.disabled());
 
         // then
         assertThat(result).containsKeys("main", "fun1", "fun2");
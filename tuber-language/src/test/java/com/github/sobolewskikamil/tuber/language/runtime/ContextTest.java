@@ -37,8 +37,10 @@ class ContextTest {
         TruffleLanguage.Env env = mock(TruffleLanguage.Env.class);
         InputStream in = mock(InputStream.class);
         OutputStream out = mock(OutputStream.class);
+        OutputStream err = mock(OutputStream.class);
         when(env.in()).thenReturn(in);
         when(env.out()).thenReturn(out);
+        when(env.err()).thenReturn(err);
 
         // when
         Context context = new Context(null, env);
@@ -46,10 +48,74 @@ class ContextTest {
         // then
         assertThat(context.getInput()).isEqualToComparingFieldByFieldRecursively(new BufferedReader(new InputStreamReader(in)));
         assertThat(context.getOutput()).isEqualToComparingFieldByFieldRecursively(new PrintWriter(out, true));
+        assertThat(context.getErrorOutput()).isEqualToComparingFieldByFieldRecursively(new PrintWriter(err, true));
+        assertThat(context.getPatternCache().size()).isZero();
+        assertThat(context.getRandom()).isNotNull();
         assertThat(context.getFunctionRegistry().lookup("println")).isPresent();
         assertThat(context.getFunctionRegistry().lookup("readln")).isPresent();
         assertThat(context.getFunctionRegistry().lookup("array")).isPresent();
         assertThat(context.getFunctionRegistry().lookup("length")).isPresent();
         assertThat(context.getFunctionRegistry().lookup("currentTimeMillis")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("map")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("get")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("put")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("has")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("remove")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("keys")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("size")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("record")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("heap")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("heapPush")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("heapPop")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("heapPeek")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("deque")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("pushFront")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("pushBack")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("popFront")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("popBack")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("builder")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("append")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("build")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("clear")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("builderLength")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("strlen")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("charAt")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("substring")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("indexOf")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("startsWith")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("endsWith")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("toUpper")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("toLower")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("trim")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("chr")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("ord")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("split")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("splitWhitespace")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("tokenize")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("join")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("toLong")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("toDouble")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("toNumber")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("format")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("matches")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("find")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("groups")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("replaceAll")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("abs")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("min")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("max")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("floor")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("ceil")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("round")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("sqrt")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("sin")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("cos")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("tan")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("atan2")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("exp")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("log")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("random")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("randomLong")).isPresent();
+        assertThat(context.getFunctionRegistry().lookup("seed")).isPresent();
     }
 }
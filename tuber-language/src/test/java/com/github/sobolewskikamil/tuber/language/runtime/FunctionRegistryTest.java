@@ -28,10 +28,16 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
 
+@SuppressWarnings("unchecked")
 class FunctionRegistryTest {
     private FunctionRegistry registry;
 
@@ -81,4 +87,38 @@ class FunctionRegistryTest {
         assertThat(result1).contains(function1);
         assertThat(result2).contains(function2);
     }
+
+    @Test
+    void shouldCreateLazyFunctionOnFirstLookup() {
+        // given
+        RootCallTarget function = mock(RootCallTarget.class);
+        Supplier<RootCallTarget> factory = mock(Supplier.class);
+        when(factory.get()).thenReturn(function);
+        registry.registerLazy("test", factory);
+
+        // when
+        Optional<RootCallTarget> result1 = registry.lookup("test");
+        Optional<RootCallTarget> result2 = registry.lookup("test");
+
+        // then
+        assertThat(result1).contains(function);
+        assertThat(result2).contains(function);
+        verify(factory, times(1)).get();
+    }
+
+    @Test
+    void shouldPreferRegisteredFunctionOverLazyOne() {
+        // given
+        RootCallTarget function = mock(RootCallTarget.class);
+        Supplier<RootCallTarget> factory = mock(Supplier.class);
+        registry.registerLazy("test", factory);
+        registry.register("test", function);
+
+        // when
+        Optional<RootCallTarget> result = registry.lookup("test");
+
+        // then
+        assertThat(result).contains(function);
+        verifyZeroInteractions(factory);
+    }
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.runtime;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PatternCacheTest {
+    @Test
+    void shouldReturnSamePatternForSameRegex() {
+        // given
+        PatternCache cache = new PatternCache(2);
+
+        // when
+        Pattern first = cache.get("a+");
+        Pattern second = cache.get(new String("a+"));
+
+        // then
+        assertThat(first.pattern()).isEqualTo("a+");
+        assertThat(second).isSameAs(first);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedPattern() {
+        // given
+        PatternCache cache = new PatternCache(2);
+        Pattern first = cache.get("a");
+        Pattern second = cache.get("b");
+        cache.get("a");
+
+        // when
+        cache.get("c");
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("a")).isSameAs(first);
+        assertThat(cache.get("b")).isNotSameAs(second);
+    }
+
+    @Test
+    void shouldReturnNullForInvalidRegex() {
+        // given
+        PatternCache cache = new PatternCache(2);
+
+        // when
+        Pattern result = cache.get("(");
+
+        // then
+        assertThat(result).isNull();
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.utils;
+
+import com.github.sobolewskikamil.tuber.language.node.type.ArrayType;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+class CharacterMatcherTest {
+    @Test
+    void shouldMatchGivenCharacters() {
+        // given
+        CharacterMatcher matcher = CharacterMatcher.of(",ż");
+
+        // when / then
+        assertThat(matcher.matches(',')).isTrue();
+        assertThat(matcher.matches('ż')).isTrue();
+        assertThat(matcher.matches(';')).isFalse();
+        assertThat(matcher.matches('ź')).isFalse();
+    }
+
+    @Test
+    void shouldMatchWhitespace() {
+        // given
+        CharacterMatcher matcher = CharacterMatcher.whitespace();
+
+        // when / then
+        assertThat(matcher.matches(' ')).isTrue();
+        assertThat(matcher.matches('\t')).isTrue();
+        assertThat(matcher.matches(' ')).isTrue();
+        assertThat(matcher.matches('a')).isFalse();
+    }
+
+    @Test
+    void shouldTokenizeSkippingEmptyTokens() {
+        // given
+        CharacterMatcher matcher = CharacterMatcher.of(", ");
+
+        // when
+        ArrayType result = matcher.tokenize(", a,, b ,c, ");
+
+        // then
+        assertThat(result).isEqualTo(new ArrayType("a", "b", "c"));
+    }
+
+    @Test
+    void shouldReturnWholeValueWhenNothingMatches() {
+        // given
+        CharacterMatcher matcher = CharacterMatcher.of(",");
+
+        // when
+        ArrayType result = matcher.tokenize("abc");
+
+        // then
+        assertThat(result).isEqualTo(new ArrayType("abc"));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.utils;
+
+import com.github.sobolewskikamil.tuber.language.node.type.ArrayType;
+import com.github.sobolewskikamil.tuber.language.node.type.RopeType;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+class FormatStringTest {
+    @ParameterizedTest
+    @ValueSource(strings = {"%d", "%5d", "%-5d|", "%05d", "x=%d;"})
+    void shouldFormatLongLikeFormatter(String format) {
+        for (long value : new long[]{0, 7, -7, 123456, Long.MIN_VALUE}) {
+            // when
+            String result = FormatString.parse(format).format(new Object[]{value});
+
+            // then
+            assertThat(result).isEqualTo(String.format(Locale.ROOT, format, value));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"%f", "%.0f", "%.2f", "%.3f", "%10.2f", "%-10.2f|", "%010.2f", "%.15f", "%.20f"})
+    void shouldFormatDoubleLikeFormatter(String format) {
+        for (double value : new double[]{0.0, -0.0, 1.5, -1.5, 0.001, -0.001, 3.14159, 1234567.891, 1e20, -2e-10,
+                Double.NaN, Double.POSITIVE_INFINITY}) {
+            // when
+            String result = FormatString.parse(format).format(new Object[]{value});
+
+            // then
+            assertThat(result).isEqualTo(String.format(Locale.ROOT, format, value));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"%s", "%8s", "%-8s|", "%.2s", "%6.2s"})
+    void shouldFormatStringLikeFormatter(String format) {
+        // when
+        String result = FormatString.parse(format).format(new Object[]{"test"});
+
+        // then
+        assertThat(result).isEqualTo(String.format(Locale.ROOT, format, "test"));
+    }
+
+    @Test
+    void shouldFormatMultipleArguments() {
+        // given
+        FormatString formatString = FormatString.parse("%s: %d items, %.1f%% done%n");
+
+        // when
+        String result = formatString.format(new Object[]{"job", 3L, 42.25, "ignored"});
+
+        // then
+        assertThat(result).isEqualTo("job: 3 items, 42.3% done" + System.lineSeparator());
+    }
+
+    @Test
+    void shouldFormatLongAsDouble() {
+        // when
+        String result = FormatString.parse("%.2f").format(new Object[]{3L});
+
+        // then
+        assertThat(result).isEqualTo("3.00");
+    }
+
+    @Test
+    void shouldFormatOtherValuesAsStrings() {
+        // given
+        RopeType rope = (RopeType) RopeType.concat(StringUtils.repeat("a", 100), "b");
+
+        // when
+        String result = FormatString.parse("%s %s %.3s").format(new Object[]{new ArrayType(1L, 2L), true, rope});
+
+        // then
+        assertThat(result).isEqualTo("[1, 2] true aaa");
+        assertThat(rope.isFlattened()).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"%", "%x", "%.d", "%.2d", "%05s", "%-05d", "%-d", "%5%", "%1"})
+    void shouldRejectInvalidFormat(String format) {
+        // when / then
+        assertThatThrownBy(() -> FormatString.parse(format))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid format: " + format);
+    }
+
+    @Test
+    void shouldRejectMissingArgument() {
+        // when / then
+        assertThatThrownBy(() -> FormatString.parse("%d %d").format(new Object[]{1L}))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Expected 2 arguments");
+    }
+
+    @Test
+    void shouldRejectMismatchedArgument() {
+        // when / then
+        assertThatThrownBy(() -> FormatString.parse("%d").format(new Object[]{1.5}))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
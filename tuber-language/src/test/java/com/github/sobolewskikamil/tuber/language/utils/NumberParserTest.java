@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.language.utils;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+class NumberParserTest {
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "42", "-42", "+7", "007", "9223372036854775807", "-9223372036854775808"})
+    void shouldParseLong(String value) {
+        // when
+        Long result = NumberParser.parseLong(value);
+
+        // then
+        assertThat(result).isEqualTo(Long.parseLong(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "-", "+", "1.0", "12a", " 1", "9223372036854775808", "-9223372036854775809"})
+    void shouldReturnNullForMalformedLong(String value) {
+        // when
+        Long result = NumberParser.parseLong(value);
+
+        // then
+        assertThat(result).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-0", "1.5", "-2.25", ".5", "3.", "0.001", "123456.789", "1e3", "1.5E-7", "+2e+2",
+            "0.1", "0.3", "1234567890123456789", "3.141592653589793238", "1e300", "1e-320", "2e400", "1e99999999999"})
+    void shouldParseDouble(String value) {
+        // when
+        Double result = NumberParser.parseDouble(value);
+
+        // then
+        assertThat(result).isEqualTo(Double.parseDouble(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "-", ".", "1..2", "1e", "1e+", "1e1.5", "abc", "1.5d", "NaN", "Infinity", " 1"})
+    void shouldReturnNullForMalformedDouble(String value) {
+        // when
+        Double result = NumberParser.parseDouble(value);
+
+        // then
+        assertThat(result).isNull();
+    }
+}
@@ -31,37 +31,68 @@ import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 public class TuberLauncher {
+    private static final String OPTION_PREFIX = "--";
+
     private final InputStream in;
     private final OutputStream out;
+    private final OutputStream err;
 
     public TuberLauncher(InputStream in, OutputStream out) {
+        this(in, out, System.err);
+    }
+
+    public TuberLauncher(InputStream in, OutputStream out, OutputStream err) {
         this.in = in;
         this.out = out;
+        this.err = err;
     }
 
     public static void main(String[] args) {
-        TuberLauncher executor = new TuberLauncher(System.in, System.out);
-        if (args.length != 1) {
+        TuberLauncher executor = new TuberLauncher(System.in, System.out, System.err);
+        Map<String, String> options = new HashMap<>();
+        String sourceFileName = null;
+        for (String arg : args) {
+            if (arg.startsWith(OPTION_PREFIX) && arg.contains("=")) {
+                int separator = arg.indexOf('=');
+                options.put(arg.substring(OPTION_PREFIX.length(), separator), arg.substring(separator + 1));
+            } else if (sourceFileName == null) {
+                sourceFileName = arg;
+            } else {
+                throw new IllegalArgumentException("Unexpected argument " + arg);
+            }
+        }
+        if (sourceFileName == null) {
             throw new IllegalArgumentException("Path to Tuber source file is missing");
         }
-        executor.launchFromFile(args[0]);
+        executor.launchFromFile(sourceFileName, options);
     }
 
     public void launchFromFile(String sourceFileName) {
+        launchFromFile(sourceFileName, Collections.emptyMap());
+    }
+
+    public void launchFromFile(String sourceFileName, Map<String, String> options) {
         try {
             byte[] sourceBytes = Files.readAllBytes(Paths.get(sourceFileName));
             String source = new String(sourceBytes, StandardCharsets.UTF_8);
-            launchFromString(source);
+            launchFromString(source, options);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
     public void launchFromString(String source) {
+        launchFromString(source, Collections.emptyMap());
+    }
+
+    public void launchFromString(String source, Map<String, String> options) {
         Source src = Source.create("tb", source);
-        try (Context ctx = Context.newBuilder("tb").in(in).out(out).build()) {
+        try (Context ctx = Context.newBuilder("tb").in(in).out(out).err(err).options(options).build()) {
             ctx.eval(src);
         }
     }
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.performance;
+
+import org.openjdk.jmh.annotations.*;
+
+public class GrepPerformanceTest extends AbstractPerformanceTest {
+    @Benchmark
+    public void benchmarkTest(Context benchmarkContext) {
+        super.benchmarkTest(benchmarkContext);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Context extends AbstractPerformanceTest.Context {
+        @Param({"constant", "dynamic"})
+        private String pattern;
+
+        @Param({"1000000"})
+        private int lines;
+
+        @Setup
+        public void setup() {
+            super.setup();
+        }
+
+        @Override
+        String getScript() {
+            String regex = "constant".equals(pattern)
+                    ? "\"\\d+ ERROR .*timeout.*\""
+                    : "\"\\d+ \" + levels[3] + \" .*timeout.*\"";
+            return String.format(getGrepScript(), lines, regex);
+        }
+
+        private String getGrepScript() {
+            return "" +
+                    "def main() {" +
+                    "   n = %1$s;" +
+                    "   levels = {\"DEBUG\", \"INFO\", \"WARN\", \"ERROR\"};" +
+                    "   reasons = {\"ok\", \"retry\", \"timeout\"};" +
+                    "   count = 0;" +
+                    "   i = 0;" +
+                    "   while (i < n) {" +
+                    "       line = i + \" \" + levels[i %% 4] + \" request \" + reasons[i %% 3];" +
+                    "       if (matches(line, %2$s)) {" +
+                    "           count = count + 1;" +
+                    "       }" +
+                    "       i = i + 1;" +
+                    "   }" +
+                    "   return count;" +
+                    "}";
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2018 Kamil Sobolewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.sobolewskikamil.tuber.performance;
+
+import org.openjdk.jmh.annotations.*;
+
+public class HeapPerformanceTest extends AbstractPerformanceTest {
+    @Benchmark
+    public void benchmarkTest(Context benchmarkContext) {
+        super.benchmarkTest(benchmarkContext);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Context extends AbstractPerformanceTest.Context {
+        @Param({"native", "tuber"})
+        private String implementation;
+
+        @Param({"100", "1000", "10000"})
+        private int heapSize;
+
+        @Setup
+        public void setup() {
+            super.setup();
+        }
+
+        @Override
+        String getScript() {
+            String template = "native".equals(implementation) ? getNativeHeapScript() : getTuberHeapScript();
+            return String.format(template, heapSize);
+        }
+
+        private String getNativeHeapScript() {
+            return "" +
+                    "def main() {" +
+                    "   n = %1$s;" +
+                    "   h = heap();" +
+                    "   i = 0;" +
+                    "   while (i < n) {" +
+                    "       heapPush(h, (i * 7919) %% n, i);" +
+                    "       i = i + 1;" +
+                    "   }" +
+                    "   while (size(h) > 0) {" +
+                    "       heapPop(h);" +
+                    "   }" +
+                    "}";
+        }
+
+        private String getTuberHeapScript() {
+            return "" +
+                    "def main() {" +
+                    "   n = %1$s;" +
+                    "   priorities = array(n);" +
+                    "   values = array(n);" +
+                    "   parents = createParents(n);" +
+                    "   count = 0;" +
+                    "   i = 0;" +
+                    "   while (i < n) {" +
+                    "       p = (i * 7919) %% n;" +
+                    "       k = count;" +
+                    "       count = count + 1;" +
+                    "       while (k > 0) {" +
+                    "           parent = parents[k];" +
+                    "           if (priorities[parent] <= p) {" +
+                    "               break;" +
+                    "           }" +
+                    "           priorities[k] = priorities[parent];" +
+                    "           values[k] = values[parent];" +
+                    "           k = parent;" +
+                    "       }" +
+                    "       priorities[k] = p;" +
+                    "       values[k] = i;" +
+                    "       i = i + 1;" +
+                    "   }" +
+                    "   while (count > 0) {" +
+                    "       count = count - 1;" +
+                    "       p = priorities[count];" +
+                    "       v = values[count];" +
+                    "       k = 0;" +
+                    "       while (((2 * k) + 1) < count) {" +
+                    "           child = (2 * k) + 1;" +
+                    "           if ((child + 1) < count) {" +
+                    "               if (priorities[child + 1] < priorities[child]) {" +
+                    "                   child = child + 1;" +
+                    "               }" +
+                    "           }" +
+                    "           if (p <= priorities[child]) {" +
+                    "               break;" +
+                    "           }" +
+                    "           priorities[k] = priorities[child];" +
+                    "           values[k] = values[child];" +
+                    "           k = child;" +
+                    "       }" +
+                    "       priorities[k] = p;" +
+                    "       values[k] = v;" +
+                    "   }" +
+                    "}" +
+                    "" +
+                    "def createParents(n) {" +
+                    "   parents = array(n);" +
+                    "   j = 0;" +
+                    "   while (((2 * j) + 1) < n) {" +
+                    "       parents[(2 * j) + 1] = j;" +
+                    "       if (((2 * j) + 2) < n) {" +
+                    "           parents[(2 * j) + 2] = j;" +
+                    "       }" +
+                    "       j = j + 1;" +
+                    "   }" +
+                    "   return parents;" +
+                    "}";
+        }
+    }
+}